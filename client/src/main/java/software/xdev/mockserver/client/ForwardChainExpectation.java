@@ -19,8 +19,6 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import java.util.concurrent.Future;
 
-import io.netty.channel.MultiThreadIoEventLoopGroup;
-import io.netty.channel.nio.NioIoHandler;
 import software.xdev.mockserver.client.MockServerClientEventBus.EventType;
 import software.xdev.mockserver.closurecallback.websocketclient.WebSocketClient;
 import software.xdev.mockserver.closurecallback.websocketclient.WebSocketException;
@@ -40,6 +38,7 @@ import software.xdev.mockserver.model.HttpObjectCallback;
 import software.xdev.mockserver.model.HttpOverrideForwardedRequest;
 import software.xdev.mockserver.model.HttpResponse;
 import software.xdev.mockserver.scheduler.SchedulerThreadFactory;
+import software.xdev.mockserver.transport.NettyTransport;
 import software.xdev.mockserver.uuid.UUIDService;
 
 
@@ -307,10 +306,9 @@ public class ForwardChainExpectation
 			LocalCallbackRegistry.registerCallback(clientId, expectationCallback);
 			LocalCallbackRegistry.registerCallback(clientId, expectationForwardResponseCallback);
 			final WebSocketClient<T> webSocketClient = new WebSocketClient<>(
-				new MultiThreadIoEventLoopGroup(
+				NettyTransport.select(this.configuration.nettyTransport()).newEventLoopGroup(
 					this.configuration.webSocketClientEventLoopThreadCount(),
-					new SchedulerThreadFactory(WebSocketClient.class.getSimpleName() + "-eventLoop"),
-					NioIoHandler.newFactory()),
+					new SchedulerThreadFactory(WebSocketClient.class.getSimpleName() + "-eventLoop")),
 				clientId
 			);
 			final Future<String> register = webSocketClient.registerExpectationCallback(
@@ -33,6 +33,7 @@ import static software.xdev.mockserver.verify.VerificationTimes.exactly;
 
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -43,16 +44,18 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.IoEventLoopGroup;
-import io.netty.channel.MultiThreadIoEventLoopGroup;
-import io.netty.channel.nio.NioIoHandler;
 import software.xdev.mockserver.authentication.AuthenticationException;
 import software.xdev.mockserver.client.MockServerClientEventBus.EventType;
+import software.xdev.mockserver.closurecallback.websocketclient.WebSocketClient;
+import software.xdev.mockserver.closurecallback.websocketclient.WebSocketException;
 import software.xdev.mockserver.closurecallback.websocketregistry.LocalCallbackRegistry;
 import software.xdev.mockserver.configuration.ClientConfiguration;
 import software.xdev.mockserver.httpclient.NettyHttpClient;
@@ -60,25 +63,31 @@ import software.xdev.mockserver.httpclient.SocketConnectionException;
 import software.xdev.mockserver.matchers.TimeToLive;
 import software.xdev.mockserver.matchers.Times;
 import software.xdev.mockserver.mock.Expectation;
+import software.xdev.mockserver.model.ArchiveFormat;
 import software.xdev.mockserver.model.ClearType;
 import software.xdev.mockserver.model.ExpectationId;
 import software.xdev.mockserver.model.Format;
 import software.xdev.mockserver.model.HttpRequest;
 import software.xdev.mockserver.model.HttpResponse;
 import software.xdev.mockserver.model.HttpStatusCode;
+import software.xdev.mockserver.model.ImportType;
 import software.xdev.mockserver.model.LogEventRequestAndResponse;
 import software.xdev.mockserver.model.RequestDefinition;
 import software.xdev.mockserver.model.RetrieveType;
+import software.xdev.mockserver.model.RetrievedEntries;
 import software.xdev.mockserver.proxyconfiguration.ProxyConfiguration;
 import software.xdev.mockserver.scheduler.SchedulerThreadFactory;
 import software.xdev.mockserver.serialization.ExpectationIdSerializer;
 import software.xdev.mockserver.serialization.ExpectationSerializer;
 import software.xdev.mockserver.serialization.LogEventRequestAndResponseSerializer;
+import software.xdev.mockserver.serialization.ObjectMappers;
 import software.xdev.mockserver.serialization.PortBindingSerializer;
 import software.xdev.mockserver.serialization.RequestDefinitionSerializer;
 import software.xdev.mockserver.serialization.VerificationSequenceSerializer;
 import software.xdev.mockserver.serialization.VerificationSerializer;
 import software.xdev.mockserver.stop.Stoppable;
+import software.xdev.mockserver.transport.NettyTransport;
+import software.xdev.mockserver.uuid.UUIDService;
 import software.xdev.mockserver.verify.Verification;
 import software.xdev.mockserver.verify.VerificationSequence;
 import software.xdev.mockserver.verify.VerificationTimes;
@@ -225,10 +234,9 @@ public class MockServerClient implements Stoppable
 	
 	private IoEventLoopGroup eventLoopGroup()
 	{
-		return new MultiThreadIoEventLoopGroup(
+		return NettyTransport.select(this.configuration.nettyTransport()).newEventLoopGroup(
 			this.configuration.clientNioEventLoopThreadCount(),
-			new SchedulerThreadFactory(this.getClass().getSimpleName() + "-eventLoop"),
-			NioIoHandler.newFactory());
+			new SchedulerThreadFactory(this.getClass().getSimpleName() + "-eventLoop"));
 	}
 	
 	/**
@@ -324,6 +332,28 @@ public class MockServerClient implements Stoppable
 		return this.nettyHttpClient;
 	}
 	
+	private HttpResponse sendRequest(
+		final HttpRequest request,
+		final boolean ignoreErrors,
+		final boolean throwClientException)
+	{
+		return this.sendRequest(request, ignoreErrors, throwClientException, null);
+	}
+	
+	private HttpResponse sendRequest(
+		final HttpRequest request,
+		final boolean ignoreErrors,
+		final boolean throwClientException,
+		final Consumer<String> jsonLineConsumer)
+	{
+		return this.sendRequest(
+			request,
+			ignoreErrors,
+			throwClientException,
+			jsonLineConsumer,
+			this.configuration.maxSocketTimeoutInMillis());
+	}
+	
 	@SuppressWarnings({
 		"checkstyle:FinalParameters",
 		"checkstyle:MagicNumber",
@@ -331,7 +361,9 @@ public class MockServerClient implements Stoppable
 	private HttpResponse sendRequest(
 		HttpRequest request,
 		final boolean ignoreErrors,
-		final boolean throwClientException)
+		final boolean throwClientException,
+		final Consumer<String> jsonLineConsumer,
+		final long timeoutInMillis)
 	{
 		if(!this.stopFuture.isDone())
 		{
@@ -349,9 +381,10 @@ public class MockServerClient implements Stoppable
 				}
 				final HttpResponse response = this.getNettyHttpClient().sendRequest(
 					request.withHeader(HOST.toString(), this.host + ":" + this.port()),
-					this.configuration.maxSocketTimeoutInMillis(),
+					timeoutInMillis,
 					TimeUnit.MILLISECONDS,
-					ignoreErrors
+					ignoreErrors,
+					jsonLineConsumer
 				);
 				
 				if(response != null && response.getStatusCode() != null)
@@ -1113,6 +1146,140 @@ public class MockServerClient implements Stoppable
 		return this.clientClass.cast(this);
 	}
 	
+	/**
+	 * Waits up to the timeout for a request to be sent, for example:
+	 * <pre>
+	 * mockServerClient
+	 *  .verifyWithin(
+	 *      request()
+	 *          .withPath("/some_path"),
+	 *      VerificationTimes.exactly(3),
+	 *      Duration.ofSeconds(10)
+	 *  );
+	 * </pre>
+	 * MockServer completes the verification as soon as the request has been received the expected number of times,
+	 * so asynchronous systems can be verified without retrying the verification.
+	 *
+	 * @param requestDefinition the http request that must be matched for this verification to pass
+	 * @param times             the number of times this request must be matched
+	 * @param timeout           how long to wait for the request to be matched
+	 * @throws AssertionError if the request has not been found within the timeout
+	 */
+	public MockServerClient verifyWithin(
+		final RequestDefinition requestDefinition,
+		final VerificationTimes times,
+		final Duration timeout) throws AssertionError
+	{
+		if(requestDefinition == null)
+		{
+			throw new IllegalArgumentException(
+				"verifyWithin(RequestDefinition, VerificationTimes, Duration) requires a non null RequestDefinition "
+					+ "object");
+		}
+		return this.verifyWithinTimeout(verification().withRequest(requestDefinition), times, timeout);
+	}
+	
+	/**
+	 * Waits up to the timeout for a request matching the expectation to be sent, for example:
+	 * <pre>
+	 * mockServerClient
+	 *  .verifyWithin(
+	 *      expectationId("some_expectation_id"),
+	 *      VerificationTimes.exactly(3),
+	 *      Duration.ofSeconds(10)
+	 *  );
+	 * </pre>
+	 * MockServer completes the verification as soon as the request has been received the expected number of times,
+	 * so asynchronous systems can be verified without retrying the verification.
+	 *
+	 * @param expectationId the expectation that must be matched for this verification to pass
+	 * @param times         the number of times the expectation must be matched
+	 * @param timeout       how long to wait for the expectation to be matched
+	 * @throws AssertionError if the request has not been found within the timeout
+	 */
+	public MockServerClient verifyWithin(
+		final ExpectationId expectationId,
+		final VerificationTimes times,
+		final Duration timeout) throws AssertionError
+	{
+		if(expectationId == null)
+		{
+			throw new IllegalArgumentException(
+				"verifyWithin(ExpectationId, VerificationTimes, Duration) requires a non null ExpectationId object");
+		}
+		return this.verifyWithinTimeout(verification().withExpectationId(expectationId), times, timeout);
+	}
+	
+	private MockServerClient verifyWithinTimeout(
+		final Verification verification,
+		final VerificationTimes times,
+		final Duration timeout)
+	{
+		if(times == null)
+		{
+			throw new IllegalArgumentException("verifyWithin requires a non null VerificationTimes object");
+		}
+		if(timeout == null || timeout.isNegative())
+		{
+			throw new IllegalArgumentException("verifyWithin requires a non null, non negative timeout");
+		}
+		final String result = this.sendRequest(
+			request()
+				.withMethod("PUT")
+				.withContentType(APPLICATION_JSON_UTF_8)
+				.withPath(this.calculatePath("verify"))
+				.withBody(
+					this.verificationSerializer.serialize(verification
+						.withTimes(times)
+						.withTimeoutInMillis(timeout.toMillis())),
+					StandardCharsets.UTF_8),
+			false,
+			false,
+			null,
+			// the response is only sent once the verification completes
+			timeout.toMillis() + this.configuration.maxSocketTimeoutInMillis()
+		).getBodyAsString();
+		
+		if(result != null && !result.isEmpty())
+		{
+			throw new IllegalStateException(result);
+		}
+		return this.clientClass.cast(this);
+	}
+	
+	/**
+	 * Verify many requests in a single round trip, for example:
+	 * <pre>
+	 * List&lt;String&gt; results = mockServerClient
+	 *  .verifyBulk(
+	 *      verification().withRequest(request().withPath("/one")).withTimes(once()),
+	 *      verification().withRequest(request().withPath("/two")).withTimes(atLeast(2))
+	 *  );
+	 * </pre>
+	 * All verifications are evaluated by MockServer in a single pass over the log.
+	 *
+	 * @param verifications the verifications to evaluate
+	 * @return the result of each verification in the same order, an empty string if the verification passed
+	 * otherwise the failure message
+	 */
+	public List<String> verifyBulk(final Verification... verifications)
+	{
+		if(verifications == null || verifications.length == 0)
+		{
+			throw new IllegalArgumentException("verifyBulk(Verification...) requires a non-null non-empty array of "
+				+ "Verification objects");
+		}
+		final String results = this.sendRequest(
+			request()
+				.withMethod("PUT")
+				.withContentType(APPLICATION_JSON_UTF_8)
+				.withPath(this.calculatePath("verifyBulk"))
+				.withBody(this.verificationSerializer.serialize(Arrays.asList(verifications)), StandardCharsets.UTF_8),
+			false
+		).getBodyAsString();
+		return Arrays.asList(ObjectMappers.DEFAULT_MAPPER.readValue(results, String[].class));
+	}
+	
 	/**
 	 * Verify no requests have been sent.
 	 *
@@ -1138,6 +1305,57 @@ public class MockServerClient implements Stoppable
 		return this.clientClass.cast(this);
 	}
 	
+	/**
+	 * Export the requests and responses that match the requestDefinition parameter into a gzip compressed file on the
+	 * MockServer host, the entries are streamed into the file so the log is never transferred to the client
+	 *
+	 * @param requestDefinition the http request that is matched against when deciding whether to export each request
+	 *                          and response, use null for the parameter to export all requests and responses
+	 * @param path              the file to write, relative to the event log archive directory of the MockServer
+	 * @param format            the format of the file, either NDJSON or HAR
+	 * @return the number of exported requests and responses
+	 */
+	public int exportEventLog(final RequestDefinition requestDefinition, final String path, final ArchiveFormat format)
+	{
+		final HttpResponse httpResponse = this.sendRequest(
+			request()
+				.withMethod("PUT")
+				.withContentType(APPLICATION_JSON_UTF_8)
+				.withPath(this.calculatePath("export"))
+				.withQueryStringParameter("path", path)
+				.withQueryStringParameter("format", format.name().toLowerCase())
+				.withBody(
+					requestDefinition != null ? this.requestDefinitionSerializer.serialize(requestDefinition) : "",
+					StandardCharsets.UTF_8),
+			true
+		);
+		return ObjectMappers.DEFAULT_MAPPER.readTree(httpResponse.getBodyAsString()).path("entries").asInt();
+	}
+	
+	/**
+	 * Import the requests and responses of a file, gzip compressed or not, on the MockServer host that was written by
+	 * exportEventLog or, for HAR, by any other tool
+	 *
+	 * @param path   the file to read, relative to the event log archive directory of the MockServer
+	 * @param format the format of the file, either NDJSON or HAR
+	 * @param type   LOG to replay the requests and responses into the log, EXPECTATIONS to add an expectation
+	 *               returning the recorded response for each request
+	 * @return the number of imported requests and responses
+	 */
+	public int importEventLog(final String path, final ArchiveFormat format, final ImportType type)
+	{
+		final HttpResponse httpResponse = this.sendRequest(
+			request()
+				.withMethod("PUT")
+				.withPath(this.calculatePath("import"))
+				.withQueryStringParameter("path", path)
+				.withQueryStringParameter("format", format.name().toLowerCase())
+				.withQueryStringParameter("type", type.name().toLowerCase()),
+			true
+		);
+		return ObjectMappers.DEFAULT_MAPPER.readTree(httpResponse.getBodyAsString()).path("entries").asInt();
+	}
+	
 	/**
 	 * Retrieve the recorded requests that match the httpRequest parameter, use null for the parameter to retrieve all
 	 * requests
@@ -1185,6 +1403,56 @@ public class MockServerClient implements Stoppable
 		return httpResponse.getBodyAsString();
 	}
 	
+	/**
+	 * Retrieve the recorded requests that match the httpRequest parameter and have been received after the log entry
+	 * with the given sequence, this allows polling for new requests without transferring the complete log each time
+	 *
+	 * @param requestDefinition the http request that is matched against when deciding whether to return each request,
+	 *                          use null for the parameter to retrieve for all requests
+	 * @param sinceSequence     sequence returned by the previous retrieval, use 0 to retrieve from the start of the log
+	 * @param limit             maximum number of log entries to return, use 0 for no limit
+	 * @return the requests in the order they have been received and the sequence to pass to the next retrieval
+	 */
+	public RetrievedEntries<HttpRequest> retrieveRecordedRequests(
+		final RequestDefinition requestDefinition,
+		final long sinceSequence,
+		final int limit)
+	{
+		final HttpResponse httpResponse =
+			this.retrieveSinceSequence(RetrieveType.REQUESTS, requestDefinition, sinceSequence, limit);
+		final String recordedRequests = httpResponse.getBodyAsString();
+		RequestDefinition[] requestDefinitions = new RequestDefinition[0];
+		if(isNotBlank(recordedRequests) && !"[]".equals(recordedRequests))
+		{
+			requestDefinitions = this.requestDefinitionSerializer.deserializeArray(recordedRequests);
+		}
+		return new RetrievedEntries<>(
+			Arrays.stream(requestDefinitions).map(HttpRequest.class::cast).collect(Collectors.toList()),
+			this.sequence(httpResponse, sinceSequence));
+	}
+	
+	/**
+	 * Retrieve the recorded requests that match the httpRequest parameter as a stream, each request is passed to the
+	 * consumer as soon as it has been received instead of loading all requests into memory first, use null for the
+	 * parameter to retrieve all requests
+	 *
+	 * @param requestDefinition the http request that is matched against when deciding whether to return each request,
+	 *                          use null for the parameter to retrieve for all requests
+	 * @param requestConsumer   consumer called (on the client event loop) for each request that has been recorded by
+	 *                          the MockServer in the order they have been received
+	 */
+	public MockServerClient retrieveRecordedRequests(
+		final RequestDefinition requestDefinition,
+		final Consumer<HttpRequest> requestConsumer)
+	{
+		this.retrieveJsonLines(
+			RetrieveType.REQUESTS,
+			requestDefinition,
+			true,
+			jsonLine -> requestConsumer.accept((HttpRequest)this.requestDefinitionSerializer.deserialize(jsonLine)));
+		return this.clientClass.cast(this);
+	}
+	
 	/**
 	 * Retrieve the recorded requests and responses that match the httpRequest parameter, use null for the parameter to
 	 * retrieve all requests and responses
@@ -1235,6 +1503,108 @@ public class MockServerClient implements Stoppable
 		return httpResponse.getBodyAsString();
 	}
 	
+	/**
+	 * Retrieve the recorded requests and responses that match the httpRequest parameter and have been logged after the
+	 * log entry with the given sequence, this allows polling for new requests and responses without transferring the
+	 * complete log each time
+	 *
+	 * @param requestDefinition the http request that is matched against when deciding whether to return each request
+	 *                          (and its corresponding response), use null for the parameter to retrieve for all
+	 *                          requests
+	 * @param sinceSequence     sequence returned by the previous retrieval, use 0 to retrieve from the start of the log
+	 * @param limit             maximum number of log entries to return, use 0 for no limit
+	 * @return the requests and responses in the order they have been received and the sequence to pass to the next
+	 * retrieval
+	 */
+	public RetrievedEntries<LogEventRequestAndResponse> retrieveRecordedRequestsAndResponses(
+		final RequestDefinition requestDefinition,
+		final long sinceSequence,
+		final int limit)
+	{
+		final HttpResponse httpResponse =
+			this.retrieveSinceSequence(RetrieveType.REQUEST_RESPONSES, requestDefinition, sinceSequence, limit);
+		final String recordedRequests = httpResponse.getBodyAsString();
+		return new RetrievedEntries<>(
+			isNotBlank(recordedRequests) && !"[]".equals(recordedRequests)
+				? Arrays.asList(this.httpRequestResponseSerializer.deserializeArray(recordedRequests))
+				: List.of(),
+			this.sequence(httpResponse, sinceSequence));
+	}
+	
+	/**
+	 * Retrieve the recorded requests and responses that match the httpRequest parameter as a stream, each request and
+	 * response is passed to the consumer as soon as it has been received instead of loading all of them into memory
+	 * first, use null for the parameter to retrieve all requests and responses
+	 *
+	 * @param requestDefinition          the http request that is matched against when deciding whether to return each
+	 *                                   request (and its corresponding response), use null for the parameter to
+	 *                                   retrieve for all requests
+	 * @param requestAndResponseConsumer consumer called (on the client event loop) for each request and response that
+	 *                                   has been recorded by the MockServer in the order they have been received
+	 */
+	public MockServerClient retrieveRecordedRequestsAndResponses(
+		final RequestDefinition requestDefinition,
+		final Consumer<LogEventRequestAndResponse> requestAndResponseConsumer)
+	{
+		this.retrieveJsonLines(
+			RetrieveType.REQUEST_RESPONSES,
+			requestDefinition,
+			true,
+			jsonLine -> requestAndResponseConsumer.accept(this.httpRequestResponseSerializer.deserialize(jsonLine)));
+		return this.clientClass.cast(this);
+	}
+	
+	/**
+	 * Subscribe to a live feed of the requests received and the responses returned for expectations, instead of
+	 * polling the recorded requests and responses each matching event is pushed (over a web socket) as soon as it has
+	 * been logged. A received request is delivered without a response, a response returned for an expectation is
+	 * delivered with the request it has been returned for.
+	 * <p>
+	 * MockServer buffers a limited number of events for each subscription (see maxEventSubscriptionBufferSize), if the
+	 * consumer can't keep up further events are dropped.
+	 *
+	 * @param requestDefinition the http request that is matched against when deciding whether to push each event, use
+	 *                          null for the parameter to subscribe to all events
+	 * @param eventConsumer     consumer called (on the web socket event loop) for each event in the order they have
+	 *                          been logged
+	 * @return the web socket client of the subscription, stop it to unsubscribe (which also happens when this client
+	 * is stopped or reset)
+	 */
+	public WebSocketClient<HttpResponse> subscribeToRequestsAndResponses(
+		final RequestDefinition requestDefinition,
+		final Consumer<LogEventRequestAndResponse> eventConsumer)
+	{
+		try
+		{
+			final WebSocketClient<HttpResponse> webSocketClient = new WebSocketClient<>(
+				NettyTransport.select(this.configuration.nettyTransport()).newEventLoopGroup(
+					this.configuration.webSocketClientEventLoopThreadCount(),
+					new SchedulerThreadFactory(WebSocketClient.class.getSimpleName() + "-eventLoop")),
+				UUIDService.getUUID()
+			);
+			final Future<String> register = webSocketClient.registerEventSubscription(
+				requestDefinition != null ? requestDefinition : request(),
+				eventConsumer,
+				this.remoteAddress(),
+				this.contextPath()
+			);
+			this.getMockServerEventBus().subscribe(webSocketClient::stopClient, EventType.STOP, EventType.RESET);
+			register.get(this.configuration.maxFutureTimeoutInMillis(), MILLISECONDS);
+			return webSocketClient;
+		}
+		catch(final Exception e)
+		{
+			if(e.getCause() instanceof WebSocketException)
+			{
+				throw new ClientException(e.getCause().getMessage(), e);
+			}
+			else
+			{
+				throw new ClientException("Unable to subscribe to requests and responses", e);
+			}
+		}
+	}
+	
 	/**
 	 * Retrieve the request-response combinations that have been recorded as a list of expectations, only those that
 	 * match the httpRequest parameter are returned, use null to retrieve all requests
@@ -1284,6 +1654,104 @@ public class MockServerClient implements Stoppable
 		return httpResponse.getBodyAsString();
 	}
 	
+	/**
+	 * Retrieve the request-response combinations that have been recorded as expectations after the log entry with the
+	 * given sequence, this allows polling for new recorded expectations without transferring the complete log each
+	 * time
+	 *
+	 * @param requestDefinition the http request that is matched against when deciding whether to return each request,
+	 *                          use null for the parameter to retrieve for all requests
+	 * @param sinceSequence     sequence returned by the previous retrieval, use 0 to retrieve from the start of the log
+	 * @param limit             maximum number of log entries to return, use 0 for no limit
+	 * @return the expectations in the order they have been recorded and the sequence to pass to the next retrieval
+	 */
+	public RetrievedEntries<Expectation> retrieveRecordedExpectations(
+		final RequestDefinition requestDefinition,
+		final long sinceSequence,
+		final int limit)
+	{
+		final HttpResponse httpResponse =
+			this.retrieveSinceSequence(RetrieveType.RECORDED_EXPECTATIONS, requestDefinition, sinceSequence, limit);
+		final String recordedExpectations = httpResponse.getBodyAsString();
+		return new RetrievedEntries<>(
+			isNotBlank(recordedExpectations) && !"[]".equals(recordedExpectations)
+				? Arrays.asList(this.expectationSerializer.deserializeArray(recordedExpectations, true))
+				: List.of(),
+			this.sequence(httpResponse, sinceSequence));
+	}
+	
+	private HttpResponse retrieveSinceSequence(
+		final RetrieveType type,
+		final RequestDefinition requestDefinition,
+		final long sinceSequence,
+		final int limit)
+	{
+		return this.sendRequest(
+			request()
+				.withMethod("PUT")
+				.withContentType(APPLICATION_JSON_UTF_8)
+				.withPath(this.calculatePath("retrieve"))
+				.withQueryStringParameter("type", type.name())
+				.withQueryStringParameter("format", Format.JSON.name())
+				.withQueryStringParameter(RetrievedEntries.SINCE_SEQUENCE_PARAMETER, String.valueOf(sinceSequence))
+				.withQueryStringParameter(RetrievedEntries.LIMIT_PARAMETER, String.valueOf(limit))
+				.withBody(
+					requestDefinition != null ? this.requestDefinitionSerializer.serialize(requestDefinition) : "",
+					StandardCharsets.UTF_8),
+			true
+		);
+	}
+	
+	private long sequence(final HttpResponse httpResponse, final long sinceSequence)
+	{
+		final String sequence = httpResponse.getFirstHeader(RetrievedEntries.SEQUENCE_HEADER);
+		return isNotBlank(sequence) ? Long.parseLong(sequence) : sinceSequence;
+	}
+	
+	/**
+	 * Retrieve the request-response combinations that have been recorded as expectations as a stream, each
+	 * expectation is passed to the consumer as soon as it has been received instead of loading all of them into
+	 * memory first, use null to retrieve all requests
+	 *
+	 * @param requestDefinition   the http request that is matched against when deciding whether to return each
+	 *                            request, use null for the parameter to retrieve for all requests
+	 * @param expectationConsumer consumer called (on the client event loop) for each expectation that has been
+	 *                            recorded by the MockServer in the order they have been received
+	 */
+	public MockServerClient retrieveRecordedExpectations(
+		final RequestDefinition requestDefinition,
+		final Consumer<Expectation> expectationConsumer)
+	{
+		this.retrieveJsonLines(
+			RetrieveType.RECORDED_EXPECTATIONS,
+			requestDefinition,
+			true,
+			jsonLine -> expectationConsumer.accept(this.expectationSerializer.deserialize(jsonLine)));
+		return this.clientClass.cast(this);
+	}
+	
+	private void retrieveJsonLines(
+		final RetrieveType type,
+		final RequestDefinition requestDefinition,
+		final boolean throwClientException,
+		final Consumer<String> jsonLineConsumer)
+	{
+		this.sendRequest(
+			request()
+				.withMethod("PUT")
+				.withContentType(APPLICATION_JSON_UTF_8)
+				.withPath(this.calculatePath("retrieve"))
+				.withQueryStringParameter("type", type.name())
+				.withQueryStringParameter("format", Format.NDJSON.name())
+				.withBody(
+					requestDefinition != null ? this.requestDefinitionSerializer.serialize(requestDefinition) : "",
+					StandardCharsets.UTF_8),
+			false,
+			throwClientException,
+			jsonLineConsumer
+		);
+	}
+	
 	/**
 	 * Specify an unlimited expectation that will respond regardless of the number of matching http for example:
 	 * <pre>
@@ -1524,6 +1992,27 @@ public class MockServerClient implements Stoppable
 		}
 	}
 	
+	/**
+	 * Retrieve the active expectations match the httpRequest parameter as a stream, each expectation is passed to the
+	 * consumer as soon as it has been received, use null for the parameter to retrieve all expectations
+	 *
+	 * @param requestDefinition   the http request that is matched against when deciding whether to return each
+	 *                            expectation, use null for the parameter to retrieve for all requests
+	 * @param expectationConsumer consumer called (on the client event loop) for each expectation that has been setup
+	 *                            and has not expired
+	 */
+	public MockServerClient retrieveActiveExpectations(
+		final RequestDefinition requestDefinition,
+		final Consumer<Expectation> expectationConsumer)
+	{
+		this.retrieveJsonLines(
+			RetrieveType.ACTIVE_EXPECTATIONS,
+			requestDefinition,
+			false,
+			jsonLine -> expectationConsumer.accept(this.expectationSerializer.deserialize(jsonLine)));
+		return this.clientClass.cast(this);
+	}
+	
 	/**
 	 * Retrieve the active expectations match the httpRequest parameter, use null for the parameter to retrieve all
 	 * expectations
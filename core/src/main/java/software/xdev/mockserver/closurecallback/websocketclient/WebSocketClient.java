@@ -21,6 +21,7 @@ import java.net.InetSocketAddress;
 import java.net.URISyntaxException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,7 +32,6 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
@@ -43,9 +43,12 @@ import software.xdev.mockserver.model.HttpMessage;
 import software.xdev.mockserver.model.HttpRequest;
 import software.xdev.mockserver.model.HttpRequestAndHttpResponse;
 import software.xdev.mockserver.model.HttpResponse;
+import software.xdev.mockserver.model.LogEventRequestAndResponse;
+import software.xdev.mockserver.model.RequestDefinition;
 import software.xdev.mockserver.serialization.WebSocketMessageSerializer;
 import software.xdev.mockserver.serialization.model.WebSocketClientIdDTO;
 import software.xdev.mockserver.serialization.model.WebSocketErrorDTO;
+import software.xdev.mockserver.transport.NettyTransport;
 
 
 @SuppressWarnings("rawtypes")
@@ -58,10 +61,14 @@ public class WebSocketClient<T extends HttpMessage>
 	private final WebSocketMessageSerializer webSocketMessageSerializer;
 	private ExpectationCallback<T> expectationCallback;
 	private ExpectationForwardAndResponseCallback expectationForwardResponseCallback;
+	private RequestDefinition eventSubscriptionFilter;
+	private Consumer<LogEventRequestAndResponse> eventConsumer;
 	private boolean isStopped;
 	private final EventLoopGroup eventLoopGroup;
 	private final String clientId;
 	public static final String CLIENT_REGISTRATION_ID_HEADER = "X-CLIENT-REGISTRATION-ID";
+	static final String CALLBACK_WEB_SOCKET_PATH = "/_mockserver_callback_websocket";
+	static final String EVENT_SUBSCRIPTION_WEB_SOCKET_PATH = "/_mockserver_event_subscription_websocket";
 	
 	public WebSocketClient(final EventLoopGroup eventLoopGroup, final String clientId)
 	{
@@ -76,11 +83,12 @@ public class WebSocketClient<T extends HttpMessage>
 		final int reconnectAttempts)
 	{
 		final CompletableFuture<String> registrationFuture = new CompletableFuture<>();
+		final boolean eventSubscription = this.eventConsumer != null;
 		try
 		{
 			new Bootstrap()
 				.group(this.eventLoopGroup)
-				.channel(NioSocketChannel.class)
+				.channel(NettyTransport.of(this.eventLoopGroup).socketChannelClass())
 				.attr(REGISTRATION_FUTURE, registrationFuture)
 				.handler(new ChannelInitializer<SocketChannel>()
 				{
@@ -94,6 +102,7 @@ public class WebSocketClient<T extends HttpMessage>
 								WebSocketClient.this.clientId,
 								serverAddress,
 								contextPath,
+								eventSubscription ? EVENT_SUBSCRIPTION_WEB_SOCKET_PATH : CALLBACK_WEB_SOCKET_PATH,
 								WebSocketClient.this));
 						// add logging
 						if(LOG.isTraceEnabled())
@@ -123,9 +132,35 @@ public class WebSocketClient<T extends HttpMessage>
 				"Exception while starting web socket client",
 				e));
 		}
+		if(eventSubscription)
+		{
+			// also sent again after re-connecting as the filter is held per connection
+			return registrationFuture.thenCompose(this::sendEventSubscriptionFilter);
+		}
 		return registrationFuture;
 	}
 	
+	private CompletableFuture<String> sendEventSubscriptionFilter(final String registeredClientId)
+	{
+		final CompletableFuture<String> subscriptionFuture = new CompletableFuture<>();
+		this.channel
+			.writeAndFlush(new TextWebSocketFrame(this.webSocketMessageSerializer.serialize(
+				this.eventSubscriptionFilter)))
+			.addListener((ChannelFutureListener)future -> {
+				if(future.isSuccess())
+				{
+					subscriptionFuture.complete(registeredClientId);
+				}
+				else
+				{
+					subscriptionFuture.completeExceptionally(new WebSocketException(
+						"Exception while sending event subscription filter",
+						future.cause()));
+				}
+			});
+		return subscriptionFuture;
+	}
+	
 	@SuppressWarnings("PMD.CognitiveComplexity")
 	void receivedTextWebSocketFrame(final TextWebSocketFrame textWebSocketFrame)
 	{
@@ -218,6 +253,20 @@ public class WebSocketClient<T extends HttpMessage>
 					}
 				}
 			}
+			else if(deserializedMessage instanceof final LogEventRequestAndResponse event)
+			{
+				if(this.eventConsumer != null)
+				{
+					try
+					{
+						this.eventConsumer.accept(event);
+					}
+					catch(final Exception ex)
+					{
+						LOG.error("Exception thrown while handling subscribed event", ex);
+					}
+				}
+			}
 			else if(deserializedMessage instanceof WebSocketClientIdDTO)
 			{
 				if(LOG.isTraceEnabled())
@@ -265,6 +314,32 @@ public class WebSocketClient<T extends HttpMessage>
 		}
 	}
 	
+	/**
+	 * Subscribes to a live feed of received requests and expectation responses, events are delivered from the time
+	 * MockServer has received the filter. Requests that haven't (yet) been responded to have no response.
+	 *
+	 * @param requestDefinition only matching events are delivered
+	 * @param eventConsumer     called on the web socket event loop for each event
+	 */
+	public Future<String> registerEventSubscription(
+		final RequestDefinition requestDefinition,
+		final Consumer<LogEventRequestAndResponse> eventConsumer,
+		final InetSocketAddress serverAddress,
+		final String contextPath)
+	{
+		if(this.expectationCallback == null && this.eventConsumer == null)
+		{
+			this.eventSubscriptionFilter = requestDefinition;
+			this.eventConsumer = eventConsumer;
+			return this.register(serverAddress, contextPath, 3);
+		}
+		else
+		{
+			throw new IllegalArgumentException(
+				"It is not possible to subscribe to events once a callback or subscription has been set");
+		}
+	}
+	
 	public Future<String> registerExpectationCallback(
 		final ExpectationCallback<T> expectationCallback,
 		final ExpectationForwardAndResponseCallback expectationForwardResponseCallback,
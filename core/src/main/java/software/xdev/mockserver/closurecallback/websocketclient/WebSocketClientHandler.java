@@ -62,6 +62,7 @@ public class WebSocketClientHandler extends SimpleChannelInboundHandler<Object>
 		final String clientId,
 		final InetSocketAddress serverAddress,
 		final String contextPath,
+		final String webSocketPath,
 		final WebSocketClient webSocketClient) throws URISyntaxException
 	{
 		this.clientId = clientId;
@@ -69,7 +70,7 @@ public class WebSocketClientHandler extends SimpleChannelInboundHandler<Object>
 			new URI(
 				"ws://" + serverAddress.getHostName() + ":" + serverAddress.getPort() + this.cleanContextPath(
 					contextPath)
-					+ "/_mockserver_callback_websocket"),
+					+ webSocketPath),
 			WebSocketVersion.V13,
 			null,
 			false,
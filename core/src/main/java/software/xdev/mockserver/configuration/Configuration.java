@@ -18,6 +18,8 @@ package software.xdev.mockserver.configuration;
 import java.net.InetSocketAddress;
 import java.util.function.Supplier;
 
+import software.xdev.mockserver.transport.NettyTransport;
+
 
 @SuppressWarnings({"UnusedReturnValue", "unused"})
 public class Configuration
@@ -33,10 +35,14 @@ public class Configuration
 	protected Integer clientNioEventLoopThreadCount;
 	protected Integer webSocketClientEventLoopThreadCount;
 	protected Long maxFutureTimeoutInMillis;
+	protected NettyTransport nettyTransport;
 	
 	// socket
 	protected Long maxSocketTimeoutInMillis;
 	protected Long socketConnectionTimeoutInMillis;
+	protected Integer forwardConnectionPoolMaxConnectionsPerHost;
+	protected Long forwardConnectionPoolIdleTimeoutInMillis;
+	protected Long dnsCacheTimeToLiveInMillis;
 	
 	// non http proxing
 	private Boolean forwardBinaryRequestsWithoutWaitingForResponse;
@@ -116,6 +122,29 @@ public class Configuration
 		return this;
 	}
 	
+	public NettyTransport nettyTransport()
+	{
+		return ifNullReturn(this.nettyTransport, ConfigurationProperties::nettyTransport);
+	}
+	
+	/**
+	 * <p>
+	 * Netty transport used for the event loops and sockets of the server, the forwarding client and the clients:
+	 * AUTO uses epoll or io_uring if available, otherwise NIO. A native transport (EPOLL or IO_URING) requires the
+	 * matching netty-transport-native-* library on the classpath, if it isn't available NIO is used.
+	 * </p>
+	 * <p>
+	 * Default is AUTO
+	 * </p>
+	 *
+	 * @param nettyTransport AUTO, NIO, EPOLL or IO_URING
+	 */
+	public Configuration nettyTransport(final NettyTransport nettyTransport)
+	{
+		this.nettyTransport = nettyTransport;
+		return this;
+	}
+	
 	public Long maxFutureTimeoutInMillis()
 	{
 		return ifNullReturn(
@@ -175,6 +204,70 @@ public class Configuration
 		return this;
 	}
 	
+	public Integer forwardConnectionPoolMaxConnectionsPerHost()
+	{
+		return ifNullReturn(
+			this.forwardConnectionPoolMaxConnectionsPerHost,
+			ConfigurationProperties::forwardConnectionPoolMaxConnectionsPerHost);
+	}
+	
+	/**
+	 * Maximum number of pooled keep-alive connections to each remote host used to forward requests, once this limit
+	 * is reached forwarded requests wait (for at most the socket connection timeout) for a connection to be released.
+	 * Set to 0 to open a new connection for each forwarded request.
+	 * <p>
+	 * The default is 50
+	 *
+	 * @param forwardConnectionPoolMaxConnectionsPerHost maximum number of connections to each remote host
+	 */
+	public Configuration forwardConnectionPoolMaxConnectionsPerHost(
+		final Integer forwardConnectionPoolMaxConnectionsPerHost)
+	{
+		this.forwardConnectionPoolMaxConnectionsPerHost = forwardConnectionPoolMaxConnectionsPerHost;
+		return this;
+	}
+	
+	public Long forwardConnectionPoolIdleTimeoutInMillis()
+	{
+		return ifNullReturn(
+			this.forwardConnectionPoolIdleTimeoutInMillis,
+			ConfigurationProperties::forwardConnectionPoolIdleTimeout);
+	}
+	
+	/**
+	 * Time in milliseconds after which a pooled connection used to forward requests is closed if it has not been
+	 * used, 0 keeps idle connections open until the remote host closes them
+	 * <p>
+	 * Default is 30,000 ms
+	 *
+	 * @param forwardConnectionPoolIdleTimeoutInMillis idle time in milliseconds
+	 */
+	public Configuration forwardConnectionPoolIdleTimeoutInMillis(final Long forwardConnectionPoolIdleTimeoutInMillis)
+	{
+		this.forwardConnectionPoolIdleTimeoutInMillis = forwardConnectionPoolIdleTimeoutInMillis;
+		return this;
+	}
+	
+	public Long dnsCacheTimeToLiveInMillis()
+	{
+		return ifNullReturn(this.dnsCacheTimeToLiveInMillis, ConfigurationProperties::dnsCacheTimeToLive);
+	}
+	
+	/**
+	 * Time in milliseconds for which the resolved addresses of a remote host are cached, once expired the cached
+	 * addresses are still used while they are resolved again in the background. Set to 0 to resolve the remote host
+	 * for every connection.
+	 * <p>
+	 * Default is 30,000 ms
+	 *
+	 * @param dnsCacheTimeToLiveInMillis time to live in milliseconds
+	 */
+	public Configuration dnsCacheTimeToLiveInMillis(final Long dnsCacheTimeToLiveInMillis)
+	{
+		this.dnsCacheTimeToLiveInMillis = dnsCacheTimeToLiveInMillis;
+		return this;
+	}
+	
 	public Boolean forwardBinaryRequestsWithoutWaitingForResponse()
 	{
 		return ifNullReturn(
@@ -30,6 +30,7 @@ import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import software.xdev.mockserver.transport.NettyTransport;
 import software.xdev.mockserver.util.StringUtils;
 
 
@@ -48,10 +49,16 @@ public class ConfigurationProperties
 	protected static final String MOCKSERVER_WEB_SOCKET_CLIENT_EVENT_LOOP_THREAD_COUNT =
 		"mockserver.webSocketClientEventLoopThreadCount";
 	protected static final String MOCKSERVER_MAX_FUTURE_TIMEOUT = "mockserver.maxFutureTimeout";
+	protected static final String MOCKSERVER_NETTY_TRANSPORT = "mockserver.nettyTransport";
 	
 	// socket
 	protected static final String MOCKSERVER_MAX_SOCKET_TIMEOUT = "mockserver.maxSocketTimeout";
 	protected static final String MOCKSERVER_SOCKET_CONNECTION_TIMEOUT = "mockserver.socketConnectionTimeout";
+	protected static final String MOCKSERVER_FORWARD_CONNECTION_POOL_MAX_CONNECTIONS_PER_HOST =
+		"mockserver.forwardConnectionPoolMaxConnectionsPerHost";
+	protected static final String MOCKSERVER_FORWARD_CONNECTION_POOL_IDLE_TIMEOUT =
+		"mockserver.forwardConnectionPoolIdleTimeout";
+	protected static final String MOCKSERVER_DNS_CACHE_TIME_TO_LIVE = "mockserver.dnsCacheTimeToLive";
 	
 	// non http proxying
 	private static final String MOCKSERVER_FORWARD_BINARY_REQUESTS_WITHOUT_WAITING_FOR_RESPONSE =
@@ -142,6 +149,41 @@ public class ConfigurationProperties
 		setProperty(MOCKSERVER_WEB_SOCKET_CLIENT_EVENT_LOOP_THREAD_COUNT, String.valueOf(count));
 	}
 	
+	public static NettyTransport nettyTransport()
+	{
+		final String transport = readPropertyHierarchically(
+			properties,
+			MOCKSERVER_NETTY_TRANSPORT,
+			"MOCKSERVER_NETTY_TRANSPORT",
+			NettyTransport.AUTO.name());
+		try
+		{
+			return NettyTransport.valueOf(transport.trim().toUpperCase());
+		}
+		catch(final IllegalArgumentException iae)
+		{
+			LOG.error("Invalid Netty transport '{}', using AUTO", transport);
+			return NettyTransport.AUTO;
+		}
+	}
+	
+	/**
+	 * <p>
+	 * Netty transport used for the event loops and sockets of the server, the forwarding client and the clients:
+	 * AUTO uses epoll or io_uring if available, otherwise NIO. A native transport (EPOLL or IO_URING) requires the
+	 * matching netty-transport-native-* library on the classpath, if it isn't available NIO is used.
+	 * </p>
+	 * <p>
+	 * Default is AUTO
+	 * </p>
+	 *
+	 * @param transport AUTO, NIO, EPOLL or IO_URING
+	 */
+	public static void nettyTransport(final NettyTransport transport)
+	{
+		setProperty(MOCKSERVER_NETTY_TRANSPORT, transport.name());
+	}
+	
 	public static long maxFutureTimeout()
 	{
 		return readLongProperty(
@@ -205,6 +247,71 @@ public class ConfigurationProperties
 		setProperty(MOCKSERVER_SOCKET_CONNECTION_TIMEOUT, String.valueOf(milliseconds));
 	}
 	
+	public static int forwardConnectionPoolMaxConnectionsPerHost()
+	{
+		return readIntegerProperty(
+			MOCKSERVER_FORWARD_CONNECTION_POOL_MAX_CONNECTIONS_PER_HOST,
+			"MOCKSERVER_FORWARD_CONNECTION_POOL_MAX_CONNECTIONS_PER_HOST",
+			50);
+	}
+	
+	/**
+	 * Maximum number of pooled keep-alive connections to each remote host used to forward requests, once this limit
+	 * is reached forwarded requests wait (for at most the socket connection timeout) for a connection to be released.
+	 * Set to 0 to open a new connection for each forwarded request.
+	 * <p>
+	 * The default is 50
+	 *
+	 * @param count maximum number of connections to each remote host
+	 */
+	public static void forwardConnectionPoolMaxConnectionsPerHost(final int count)
+	{
+		setProperty(MOCKSERVER_FORWARD_CONNECTION_POOL_MAX_CONNECTIONS_PER_HOST, String.valueOf(count));
+	}
+	
+	public static long forwardConnectionPoolIdleTimeout()
+	{
+		return readLongProperty(
+			MOCKSERVER_FORWARD_CONNECTION_POOL_IDLE_TIMEOUT,
+			"MOCKSERVER_FORWARD_CONNECTION_POOL_IDLE_TIMEOUT",
+			TimeUnit.SECONDS.toMillis(30));
+	}
+	
+	/**
+	 * Time in milliseconds after which a pooled connection used to forward requests is closed if it has not been
+	 * used, 0 keeps idle connections open until the remote host closes them
+	 * <p>
+	 * Default is 30,000 ms
+	 *
+	 * @param milliseconds idle time in milliseconds
+	 */
+	public static void forwardConnectionPoolIdleTimeout(final long milliseconds)
+	{
+		setProperty(MOCKSERVER_FORWARD_CONNECTION_POOL_IDLE_TIMEOUT, String.valueOf(milliseconds));
+	}
+	
+	public static long dnsCacheTimeToLive()
+	{
+		return readLongProperty(
+			MOCKSERVER_DNS_CACHE_TIME_TO_LIVE,
+			"MOCKSERVER_DNS_CACHE_TIME_TO_LIVE",
+			TimeUnit.SECONDS.toMillis(30));
+	}
+	
+	/**
+	 * Time in milliseconds for which the resolved addresses of a remote host are cached, once expired the cached
+	 * addresses are still used while they are resolved again in the background. Set to 0 to resolve the remote host
+	 * for every connection.
+	 * <p>
+	 * Default is 30,000 ms
+	 *
+	 * @param milliseconds time to live in milliseconds
+	 */
+	public static void dnsCacheTimeToLive(final long milliseconds)
+	{
+		setProperty(MOCKSERVER_DNS_CACHE_TIME_TO_LIVE, String.valueOf(milliseconds));
+	}
+	
 	/**
 	 * If true the BinaryRequestProxyingHandler.binaryExchangeCallback is called before a response is received from the
 	 * remote host. This enables the proxying of messages without a response.
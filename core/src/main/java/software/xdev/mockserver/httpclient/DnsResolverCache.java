@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.httpclient;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.InetSocketAddressResolver;
+import io.netty.resolver.SimpleNameResolver;
+import io.netty.util.NetUtil;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
+import software.xdev.mockserver.configuration.Configuration;
+import software.xdev.mockserver.scheduler.SchedulerThreadFactory;
+
+
+/**
+ * Resolves the remote hosts connected to by the client without blocking the event loop, lookups are done on a
+ * separate thread and the connection continues on the event loop once the host has been resolved. The resolved
+ * addresses are cached for the time to live, once expired they are still used (for at most another time to live)
+ * while the host is resolved again in the background. Concurrent lookups of the same host share a single lookup.
+ */
+public class DnsResolverCache extends AddressResolverGroup<InetSocketAddress>
+{
+	private static final Logger LOG = LoggerFactory.getLogger(DnsResolverCache.class);
+	
+	private static final ExecutorService LOOKUP_EXECUTOR =
+		Executors.newCachedThreadPool(new SchedulerThreadFactory("DnsResolver"));
+	
+	private final long timeToLiveInMillis;
+	private final Map<String, CachedAddresses> cachedAddresses = new ConcurrentHashMap<>();
+	private final Map<String, CompletableFuture<InetAddress[]>> lookups = new ConcurrentHashMap<>();
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong refreshes = new AtomicLong();
+	
+	DnsResolverCache(final Configuration configuration)
+	{
+		this.timeToLiveInMillis = configuration.dnsCacheTimeToLiveInMillis();
+	}
+	
+	@Override
+	protected AddressResolver<InetSocketAddress> newResolver(final EventExecutor executor)
+	{
+		return new InetSocketAddressResolver(executor, new CachingNameResolver(executor));
+	}
+	
+	CompletableFuture<InetAddress[]> resolve(final String host)
+	{
+		final CachedAddresses cached = this.cachedAddresses.get(host);
+		final long now = System.currentTimeMillis();
+		if(cached != null && now < cached.expiresAt() + this.timeToLiveInMillis)
+		{
+			this.hits.incrementAndGet();
+			if(now >= cached.expiresAt() && cached.refreshing().compareAndSet(false, true))
+			{
+				this.refreshes.incrementAndGet();
+				this.lookup(host);
+			}
+			return CompletableFuture.completedFuture(cached.addresses());
+		}
+		this.misses.incrementAndGet();
+		return this.lookup(host);
+	}
+	
+	private CompletableFuture<InetAddress[]> lookup(final String host)
+	{
+		return this.lookups.computeIfAbsent(host, key -> {
+			final CompletableFuture<InetAddress[]> lookup = new CompletableFuture<>();
+			lookup.whenComplete((addresses, throwable) -> {
+				if(throwable == null && this.timeToLiveInMillis > 0)
+				{
+					this.cachedAddresses.put(
+						host,
+						new CachedAddresses(
+							addresses,
+							System.currentTimeMillis() + this.timeToLiveInMillis,
+							new AtomicBoolean()));
+				}
+				else
+				{
+					this.cachedAddresses.remove(host);
+				}
+				this.lookups.remove(host, lookup);
+			});
+			LOOKUP_EXECUTOR.execute(() -> {
+				try
+				{
+					lookup.complete(InetAddress.getAllByName(host));
+				}
+				catch(final UnknownHostException | RuntimeException ex)
+				{
+					if(LOG.isDebugEnabled())
+					{
+						LOG.debug("Unable to resolve host {}", host, ex);
+					}
+					lookup.completeExceptionally(ex);
+				}
+			});
+			return lookup;
+		});
+	}
+	
+	/**
+	 * @return number of times a host was resolved from the cache
+	 */
+	public long getHits()
+	{
+		return this.hits.get();
+	}
+	
+	/**
+	 * @return number of times a host had to be looked up because it was not cached
+	 */
+	public long getMisses()
+	{
+		return this.misses.get();
+	}
+	
+	/**
+	 * @return number of times an expired host was looked up again in the background
+	 */
+	public long getRefreshes()
+	{
+		return this.refreshes.get();
+	}
+	
+	/**
+	 * @return hosts for which resolved addresses are cached
+	 */
+	public Set<String> getCachedHosts()
+	{
+		return Set.copyOf(this.cachedAddresses.keySet());
+	}
+	
+	private record CachedAddresses(InetAddress[] addresses, long expiresAt, AtomicBoolean refreshing)
+	{
+	}
+	
+	
+	private class CachingNameResolver extends SimpleNameResolver<InetAddress>
+	{
+		CachingNameResolver(final EventExecutor executor)
+		{
+			super(executor);
+		}
+		
+		@Override
+		protected void doResolve(final String inetHost, final Promise<InetAddress> promise)
+		{
+			final InetAddress ipAddress = NetUtil.createInetAddressFromIpAddressString(inetHost);
+			if(ipAddress != null)
+			{
+				promise.trySuccess(ipAddress);
+				return;
+			}
+			DnsResolverCache.this.resolve(inetHost).whenComplete((addresses, throwable) -> {
+				if(throwable != null)
+				{
+					promise.tryFailure(throwable);
+				}
+				else
+				{
+					promise.trySuccess(addresses[0]);
+				}
+			});
+		}
+		
+		@Override
+		protected void doResolveAll(final String inetHost, final Promise<List<InetAddress>> promise)
+		{
+			final InetAddress ipAddress = NetUtil.createInetAddressFromIpAddressString(inetHost);
+			if(ipAddress != null)
+			{
+				promise.trySuccess(List.of(ipAddress));
+				return;
+			}
+			DnsResolverCache.this.resolve(inetHost).whenComplete((addresses, throwable) -> {
+				if(throwable != null)
+				{
+					promise.tryFailure(throwable);
+				}
+				else
+				{
+					promise.trySuccess(Arrays.asList(addresses));
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.httpclient;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static software.xdev.mockserver.httpclient.NettyHttpClient.ERROR_IF_CHANNEL_CLOSED_WITHOUT_RESPONSE;
+import static software.xdev.mockserver.httpclient.NettyHttpClient.REMOTE_SOCKET;
+import static software.xdev.mockserver.httpclient.NettyHttpClient.RESPONSE_FUTURE;
+import static software.xdev.mockserver.httpclient.NettyHttpClient.scheduleResponseTimeout;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.pool.AbstractChannelPoolHandler;
+import io.netty.channel.pool.AbstractChannelPoolMap;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.pool.FixedChannelPool;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.FutureListener;
+import software.xdev.mockserver.configuration.Configuration;
+import software.xdev.mockserver.model.HttpRequest;
+import software.xdev.mockserver.model.HttpResponse;
+import software.xdev.mockserver.model.Message;
+import software.xdev.mockserver.model.Protocol;
+import software.xdev.mockserver.proxyconfiguration.ProxyConfiguration;
+import software.xdev.mockserver.transport.NettyTransport;
+
+
+/**
+ * Keeps HTTP/1.1 connections to each remote address open after a response has been received, so forwarded requests
+ * reuse them instead of connecting (and closing the connection) for every request. Connections are closed once they
+ * have been idle for the idle timeout or if the remote host does not keep them alive.
+ */
+public class HttpClientConnectionPool
+{
+	private static final Logger LOG = LoggerFactory.getLogger(HttpClientConnectionPool.class);
+	
+	static final AttributeKey<Boolean> POOLED = AttributeKey.valueOf("POOLED");
+	private static final AttributeKey<Boolean> REUSED = AttributeKey.valueOf("REUSED");
+	
+	private final Configuration configuration;
+	private final Map<ProxyConfiguration.Type, ProxyConfiguration> proxyConfigurations;
+	private final AbstractChannelPoolMap<InetSocketAddress, FixedChannelPool> channelPools;
+	private final AtomicLong createdConnections = new AtomicLong();
+	private final AtomicLong reusedConnections = new AtomicLong();
+	private final AtomicLong evictedConnections = new AtomicLong();
+	private final ClosedConnectionHandler closedConnectionHandler = new ClosedConnectionHandler();
+	
+	@SuppressWarnings("checkstyle:MagicNumber")
+	HttpClientConnectionPool(
+		final Configuration configuration,
+		final EventLoopGroup eventLoopGroup,
+		final Map<ProxyConfiguration.Type, ProxyConfiguration> proxyConfigurations,
+		final DnsResolverCache dnsResolverCache)
+	{
+		this.configuration = configuration;
+		this.proxyConfigurations = proxyConfigurations;
+		final Bootstrap bootstrap = new Bootstrap()
+			.group(eventLoopGroup)
+			.channel(NettyTransport.of(eventLoopGroup).socketChannelClass())
+			.resolver(dnsResolverCache)
+			.option(ChannelOption.AUTO_READ, true)
+			.option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+			.option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024, 32 * 1024))
+			.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, configuration.socketConnectionTimeoutInMillis().intValue());
+		this.channelPools = new AbstractChannelPoolMap<>()
+		{
+			@Override
+			protected FixedChannelPool newPool(final InetSocketAddress remoteAddress)
+			{
+				return new FixedChannelPool(
+					bootstrap.clone().remoteAddress(remoteAddress).attr(REMOTE_SOCKET, remoteAddress),
+					new PooledConnectionHandler(),
+					ChannelHealthChecker.ACTIVE,
+					FixedChannelPool.AcquireTimeoutAction.FAIL,
+					configuration.socketConnectionTimeoutInMillis(),
+					configuration.forwardConnectionPoolMaxConnectionsPerHost(),
+					Integer.MAX_VALUE);
+			}
+		};
+	}
+	
+	/**
+	 * Sends the request over a pooled connection to the remote address, if a reused connection turns out to have been
+	 * closed by the remote host the request is sent once more over another connection, but only if the request could
+	 * not be written or it is safe to send it again (i.e. a GET), as the remote host may already have processed it
+	 */
+	CompletableFuture<Message> sendRequest(final HttpRequest httpRequest, final InetSocketAddress remoteAddress)
+	{
+		final CompletableFuture<Message> responseFuture = new CompletableFuture<>();
+		this.sendRequest(httpRequest, remoteAddress, responseFuture, true);
+		return responseFuture;
+	}
+	
+	@SuppressWarnings("PMD.CognitiveComplexity")
+	private void sendRequest(
+		final HttpRequest httpRequest,
+		final InetSocketAddress remoteAddress,
+		final CompletableFuture<Message> responseFuture,
+		final boolean retryOnClosedConnection)
+	{
+		final FixedChannelPool channelPool = this.channelPools.get(remoteAddress);
+		channelPool.acquire().addListener((FutureListener<Channel>)acquireFuture -> {
+			if(!acquireFuture.isSuccess())
+			{
+				responseFuture.completeExceptionally(acquireFuture.cause());
+				return;
+			}
+			final Channel channel = acquireFuture.getNow();
+			final boolean reused = Boolean.TRUE.equals(channel.attr(REUSED).get());
+			if(reused)
+			{
+				this.reusedConnections.incrementAndGet();
+			}
+			final CompletableFuture<Message> channelResponseFuture = new CompletableFuture<>();
+			channel.attr(RESPONSE_FUTURE).set(channelResponseFuture);
+			final ChannelFuture writeFuture = channel.writeAndFlush(httpRequest).addListener(future -> {
+				if(!future.isSuccess())
+				{
+					channelResponseFuture.completeExceptionally(future.cause());
+					channel.close();
+				}
+			});
+			channelResponseFuture.whenComplete((message, throwable) -> {
+				if(throwable != null || !isKeepAlive(message))
+				{
+					channel.close();
+				}
+				// closed connections are discarded by the pool
+				channelPool.release(channel);
+				if(throwable == null)
+				{
+					responseFuture.complete(message);
+				}
+				else if(reused
+					&& retryOnClosedConnection
+					&& isClosedConnection(throwable)
+					&& (!writeFuture.isSuccess() || isSafeToResend(httpRequest)))
+				{
+					if(LOG.isDebugEnabled())
+					{
+						LOG.debug("Pooled connection to {} was closed, sending request again", remoteAddress);
+					}
+					this.sendRequest(httpRequest, remoteAddress, responseFuture, false);
+				}
+				else
+				{
+					responseFuture.completeExceptionally(throwable);
+				}
+			});
+			scheduleResponseTimeout(channel, channelResponseFuture, this.configuration.maxSocketTimeoutInMillis());
+		});
+	}
+	
+	private static boolean isKeepAlive(final Message message)
+	{
+		return !(message instanceof final HttpResponse httpResponse)
+			|| !"close".equalsIgnoreCase(httpResponse.getFirstHeader("connection"));
+	}
+	
+	private static boolean isClosedConnection(final Throwable throwable)
+	{
+		return throwable instanceof SocketConnectionException || throwable instanceof IOException;
+	}
+	
+	private static boolean isSafeToResend(final HttpRequest httpRequest)
+	{
+		final String method = httpRequest.getMethod("GET");
+		return "GET".equalsIgnoreCase(method)
+			|| "HEAD".equalsIgnoreCase(method)
+			|| "OPTIONS".equalsIgnoreCase(method)
+			|| "TRACE".equalsIgnoreCase(method);
+	}
+	
+	/**
+	 * @return number of connections opened by the pool
+	 */
+	public long getCreatedConnections()
+	{
+		return this.createdConnections.get();
+	}
+	
+	/**
+	 * @return number of times a pooled connection was reused for another request
+	 */
+	public long getReusedConnections()
+	{
+		return this.reusedConnections.get();
+	}
+	
+	/**
+	 * @return number of connections closed by the pool as they were idle for the idle timeout
+	 */
+	public long getEvictedConnections()
+	{
+		return this.evictedConnections.get();
+	}
+	
+	/**
+	 * @return number of connections currently used by requests
+	 */
+	public int getAcquiredConnections()
+	{
+		int acquired = 0;
+		for(final Map.Entry<InetSocketAddress, FixedChannelPool> channelPool : this.channelPools)
+		{
+			acquired += channelPool.getValue().acquiredChannelCount();
+		}
+		return acquired;
+	}
+	
+	/**
+	 * @return number of remote addresses connections are pooled for
+	 */
+	public int getRemoteAddresses()
+	{
+		return this.channelPools.size();
+	}
+	
+	private final class PooledConnectionHandler extends AbstractChannelPoolHandler
+	{
+		@Override
+		public void channelCreated(final Channel channel)
+		{
+			HttpClientConnectionPool.this.createdConnections.incrementAndGet();
+			channel.attr(POOLED).set(true);
+			channel.attr(ERROR_IF_CHANNEL_CLOSED_WITHOUT_RESPONSE).set(true);
+			// first, so it sees the connection closing before any other handler
+			channel.pipeline().addFirst(HttpClientConnectionPool.this.closedConnectionHandler);
+			final long idleTimeoutInMillis = HttpClientConnectionPool.this.configuration
+				.forwardConnectionPoolIdleTimeoutInMillis();
+			if(idleTimeoutInMillis > 0)
+			{
+				channel.pipeline().addLast(new IdleStateHandler(0, 0, idleTimeoutInMillis, MILLISECONDS));
+				channel.pipeline().addLast(new IdleConnectionEvictionHandler());
+			}
+			new HttpClientInitializer(HttpClientConnectionPool.this.proxyConfigurations, Protocol.HTTP_1_1)
+				.initChannel((SocketChannel)channel);
+		}
+		
+		@Override
+		public void channelReleased(final Channel channel)
+		{
+			channel.attr(REUSED).set(true);
+		}
+	}
+	
+	/**
+	 * Fails the request waiting for a response once the remote host closes the connection, instead of waiting for the
+	 * response timeout
+	 */
+	@ChannelHandler.Sharable
+	private static final class ClosedConnectionHandler extends ChannelInboundHandlerAdapter
+	{
+		@Override
+		public void channelInactive(final ChannelHandlerContext ctx) throws Exception
+		{
+			final CompletableFuture<Message> responseFuture = ctx.channel().attr(RESPONSE_FUTURE).get();
+			if(responseFuture != null && !responseFuture.isDone())
+			{
+				responseFuture.completeExceptionally(new SocketConnectionException(
+					"Connection to " + ctx.channel().remoteAddress() + " closed before response was received"));
+			}
+			super.channelInactive(ctx);
+		}
+	}
+	
+	@ChannelHandler.Sharable
+	private final class IdleConnectionEvictionHandler extends ChannelInboundHandlerAdapter
+	{
+		@Override
+		public void userEventTriggered(final ChannelHandlerContext ctx, final Object evt) throws Exception
+		{
+			final CompletableFuture<Message> responseFuture = ctx.channel().attr(RESPONSE_FUTURE).get();
+			// connections waiting for a response are not idle
+			if(evt instanceof IdleStateEvent && (responseFuture == null || responseFuture.isDone()))
+			{
+				HttpClientConnectionPool.this.evictedConnections.incrementAndGet();
+				ctx.close();
+			}
+			else
+			{
+				super.userEventTriggered(ctx, evt);
+			}
+		}
+	}
+}
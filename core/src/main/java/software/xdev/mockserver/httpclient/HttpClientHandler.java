@@ -15,6 +15,7 @@
  */
 package software.xdev.mockserver.httpclient;
 
+import static software.xdev.mockserver.httpclient.HttpClientConnectionPool.POOLED;
 import static software.xdev.mockserver.httpclient.NettyHttpClient.RESPONSE_FUTURE;
 import static software.xdev.mockserver.util.StringUtils.isNotBlank;
 
@@ -54,7 +55,11 @@ public class HttpClientHandler extends SimpleChannelInboundHandler<Message>
 	public void channelRead0(final ChannelHandlerContext ctx, final Message response)
 	{
 		ctx.channel().attr(RESPONSE_FUTURE).get().complete(response);
-		ctx.close();
+		// pooled connections are released (or closed) by the pool once the response has been received
+		if(!Boolean.TRUE.equals(ctx.channel().attr(POOLED).get()))
+		{
+			ctx.close();
+		}
 	}
 	
 	@Override
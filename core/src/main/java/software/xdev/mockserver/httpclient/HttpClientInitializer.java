@@ -20,6 +20,7 @@ import static software.xdev.mockserver.util.StringUtils.isNotBlank;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,13 +50,23 @@ public class HttpClientInitializer extends ChannelInitializer<SocketChannel>
 	private final CompletableFuture<Protocol> protocolFuture;
 	private final HttpClientHandler httpClientHandler;
 	private final Map<ProxyConfiguration.Type, ProxyConfiguration> proxyConfigurations;
+	private final Consumer<String> jsonLineConsumer;
 	
 	HttpClientInitializer(
 		final Map<ProxyConfiguration.Type, ProxyConfiguration> proxyConfigurations,
 		final Protocol httpProtocol)
+	{
+		this(proxyConfigurations, httpProtocol, null);
+	}
+	
+	HttpClientInitializer(
+		final Map<ProxyConfiguration.Type, ProxyConfiguration> proxyConfigurations,
+		final Protocol httpProtocol,
+		final Consumer<String> jsonLineConsumer)
 	{
 		this.proxyConfigurations = proxyConfigurations;
 		this.httpProtocol = httpProtocol;
+		this.jsonLineConsumer = jsonLineConsumer;
 		this.protocolFuture = new CompletableFuture<>();
 		this.httpClientHandler = new HttpClientHandler();
 		this.httpClientConnectionHandler = new HttpClientConnectionErrorHandler();
@@ -111,9 +122,18 @@ public class HttpClientInitializer extends ChannelInitializer<SocketChannel>
 	{
 		pipeline.addLast(new HttpClientCodec());
 		pipeline.addLast(new LimitedHttpContentDecompressor());
-		pipeline.addLast(new HttpObjectAggregator(Integer.MAX_VALUE));
-		pipeline.addLast(new MockServerHttpClientCodec(this.proxyConfigurations));
-		pipeline.addLast(this.httpClientHandler);
+		if(this.jsonLineConsumer != null)
+		{
+			// stream response body line by line instead of aggregating it
+			pipeline.addLast(new MockServerHttpClientCodec(this.proxyConfigurations));
+			pipeline.addLast(new HttpClientJsonLinesHandler(this.jsonLineConsumer));
+		}
+		else
+		{
+			pipeline.addLast(new HttpObjectAggregator(Integer.MAX_VALUE));
+			pipeline.addLast(new MockServerHttpClientCodec(this.proxyConfigurations));
+			pipeline.addLast(this.httpClientHandler);
+		}
 		this.protocolFuture.complete(Protocol.HTTP_1_1);
 	}
 	
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.httpclient;
+
+import static software.xdev.mockserver.httpclient.NettyHttpClient.RESPONSE_FUTURE;
+import static software.xdev.mockserver.model.HttpResponse.response;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.LastHttpContent;
+
+
+/**
+ * Reads a chunked newline delimited JSON (NDJSON) response without aggregating it, each complete line is passed to
+ * the line consumer as soon as it has been received. Non 2xx responses are aggregated as normal so the error body can
+ * be reported.
+ */
+class HttpClientJsonLinesHandler extends SimpleChannelInboundHandler<HttpObject>
+{
+	private static final byte LINE_FEED = '\n';
+	
+	private final Consumer<String> jsonLineConsumer;
+	private software.xdev.mockserver.model.HttpResponse httpResponse;
+	private boolean streaming;
+	private ByteBuf cumulation;
+	
+	HttpClientJsonLinesHandler(final Consumer<String> jsonLineConsumer)
+	{
+		this.jsonLineConsumer = jsonLineConsumer;
+	}
+	
+	@Override
+	public void handlerAdded(final ChannelHandlerContext ctx)
+	{
+		this.cumulation = ctx.alloc().buffer();
+	}
+	
+	@Override
+	public void handlerRemoved(final ChannelHandlerContext ctx)
+	{
+		if(this.cumulation != null)
+		{
+			this.cumulation.release();
+			this.cumulation = null;
+		}
+	}
+	
+	@Override
+	@SuppressWarnings("checkstyle:MagicNumber")
+	protected void channelRead0(final ChannelHandlerContext ctx, final HttpObject msg)
+	{
+		if(msg instanceof final HttpResponse nettyResponse)
+		{
+			this.httpResponse = response()
+				.withStatusCode(nettyResponse.status().code())
+				.withReasonPhrase(nettyResponse.status().reasonPhrase());
+			nettyResponse.headers().forEach(entry -> this.httpResponse.withHeader(entry.getKey(), entry.getValue()));
+			this.streaming = nettyResponse.status().code() >= 200 && nettyResponse.status().code() < 300;
+		}
+		if(msg instanceof final HttpContent httpContent)
+		{
+			this.cumulation.writeBytes(httpContent.content());
+			if(this.streaming)
+			{
+				this.consumeCompleteLines();
+			}
+			if(msg instanceof LastHttpContent)
+			{
+				if(this.streaming)
+				{
+					// final line may not be terminated
+					this.consumeLine(this.cumulation.readableBytes());
+				}
+				else if(this.cumulation.isReadable())
+				{
+					this.httpResponse.withBody(this.cumulation.toString(StandardCharsets.UTF_8));
+				}
+				ctx.channel().attr(RESPONSE_FUTURE).get().complete(this.httpResponse);
+				ctx.close();
+			}
+		}
+	}
+	
+	private void consumeCompleteLines()
+	{
+		int lineEnd = this.cumulation.indexOf(
+			this.cumulation.readerIndex(),
+			this.cumulation.writerIndex(),
+			LINE_FEED);
+		while(lineEnd != -1)
+		{
+			this.consumeLine(lineEnd - this.cumulation.readerIndex());
+			// skip line feed
+			this.cumulation.skipBytes(1);
+			lineEnd = this.cumulation.indexOf(
+				this.cumulation.readerIndex(),
+				this.cumulation.writerIndex(),
+				LINE_FEED);
+		}
+		this.cumulation.discardReadBytes();
+	}
+	
+	private void consumeLine(final int length)
+	{
+		final String line = this.cumulation.readCharSequence(length, StandardCharsets.UTF_8).toString().trim();
+		if(!line.isEmpty())
+		{
+			this.jsonLineConsumer.accept(line);
+		}
+	}
+	
+	@Override
+	public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause)
+	{
+		ctx.channel().attr(RESPONSE_FUTURE).get().completeExceptionally(cause);
+		ctx.close();
+	}
+}
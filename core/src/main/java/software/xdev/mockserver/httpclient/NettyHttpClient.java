@@ -27,6 +27,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -36,12 +37,14 @@ import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.WriteBufferWaterMark;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.socket.SocketChannel;
 import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.ScheduledFuture;
 import software.xdev.mockserver.configuration.Configuration;
 import software.xdev.mockserver.filters.HopByHopHeaderFilter;
 import software.xdev.mockserver.model.BinaryMessage;
@@ -50,8 +53,10 @@ import software.xdev.mockserver.model.HttpResponse;
 import software.xdev.mockserver.model.Message;
 import software.xdev.mockserver.model.Protocol;
 import software.xdev.mockserver.proxyconfiguration.ProxyConfiguration;
+import software.xdev.mockserver.transport.NettyTransport;
 
 
+@SuppressWarnings("PMD.GodClass")
 public class NettyHttpClient
 {
 	private static final Logger LOG = LoggerFactory.getLogger(NettyHttpClient.class);
@@ -63,8 +68,11 @@ public class NettyHttpClient
 	private static final HopByHopHeaderFilter HOP_BY_HOP_HEADER_FILTER = new HopByHopHeaderFilter();
 	private final Configuration configuration;
 	private final EventLoopGroup eventLoopGroup;
+	private final Class<? extends SocketChannel> socketChannelClass;
 	private final Map<ProxyConfiguration.Type, ProxyConfiguration> proxyConfigurations;
 	private final boolean forwardProxyClient;
+	private final DnsResolverCache dnsResolverCache;
+	private final HttpClientConnectionPool connectionPool;
 	
 	public NettyHttpClient(
 		final Configuration configuration,
@@ -74,11 +82,37 @@ public class NettyHttpClient
 	{
 		this.configuration = configuration;
 		this.eventLoopGroup = eventLoopGroup;
+		// channels must use the transport of the (possibly shared) event loops they are registered with
+		this.socketChannelClass = NettyTransport.of(eventLoopGroup).socketChannelClass();
 		this.proxyConfigurations = proxyConfigurations != null
 			? proxyConfigurations.stream()
 			.collect(Collectors.toMap(ProxyConfiguration::getType, proxyConfiguration -> proxyConfiguration))
 			: Map.of();
 		this.forwardProxyClient = forwardProxyClient;
+		this.dnsResolverCache = new DnsResolverCache(configuration);
+		this.connectionPool = forwardProxyClient && configuration.forwardConnectionPoolMaxConnectionsPerHost() > 0
+			? new HttpClientConnectionPool(
+				configuration,
+				eventLoopGroup,
+				this.proxyConfigurations,
+				this.dnsResolverCache)
+			: null;
+	}
+	
+	/**
+	 * @return the cache used to resolve the hosts of unresolved remote addresses
+	 */
+	public DnsResolverCache getDnsResolverCache()
+	{
+		return this.dnsResolverCache;
+	}
+	
+	/**
+	 * @return the pool of the connections used to forward requests, null if forwarded requests are not pooled
+	 */
+	public HttpClientConnectionPool getConnectionPool()
+	{
+		return this.connectionPool;
 	}
 	
 	public CompletableFuture<HttpResponse> sendRequest(final HttpRequest httpRequest)
@@ -86,18 +120,46 @@ public class NettyHttpClient
 		return this.sendRequest(httpRequest, httpRequest.socketAddressFromHostHeader());
 	}
 	
+	/**
+	 * Sends a request over a pooled keep-alive connection to the remote address if the connections used to forward
+	 * requests are pooled, otherwise over a new connection
+	 */
 	public CompletableFuture<HttpResponse> sendRequest(
 		final HttpRequest httpRequest,
 		final InetSocketAddress remoteAddress)
 	{
+		if(this.connectionPool != null && !this.eventLoopGroup.isShuttingDown())
+		{
+			final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
+			this.connectionPool
+				.sendRequest(
+					httpRequest.withProtocol(Protocol.HTTP_1_1),
+					remoteAddress != null ? remoteAddress : httpRequest.socketAddressFromHostHeader())
+				.whenComplete((message, throwable) -> this.completeResponse(httpResponseFuture, message, throwable));
+			return httpResponseFuture;
+		}
 		return this.sendRequest(httpRequest, remoteAddress, this.configuration.socketConnectionTimeoutInMillis());
 	}
 	
+	public CompletableFuture<HttpResponse> sendRequest(
+		final HttpRequest httpRequest,
+		final InetSocketAddress remoteAddress,
+		final Long connectionTimeoutMillis)
+	{
+		return this.sendRequest(httpRequest, remoteAddress, connectionTimeoutMillis, null);
+	}
+	
+	/**
+	 * Sends a request, if a JSON line consumer is provided the response body is not aggregated but read as newline
+	 * delimited JSON and each line is passed to the consumer (on the event loop) as soon as it is received, in this
+	 * case the returned response contains no body unless the status code indicates an error
+	 */
 	@SuppressWarnings({"checkstyle:MagicNumber", "checkstyle:FinalParameters", "PMD.CognitiveComplexity"})
 	public CompletableFuture<HttpResponse> sendRequest(
 		final HttpRequest httpRequest,
 		InetSocketAddress remoteAddress,
-		final Long connectionTimeoutMillis)
+		final Long connectionTimeoutMillis,
+		final Consumer<String> jsonLineConsumer)
 	{
 		if(!this.eventLoopGroup.isShuttingDown())
 		{
@@ -117,11 +179,12 @@ public class NettyHttpClient
 				httpRequest.getProtocol() != null ? httpRequest.getProtocol() : Protocol.HTTP_1_1;
 			
 			final HttpClientInitializer clientInitializer =
-				new HttpClientInitializer(this.proxyConfigurations, httpProtocol);
+				new HttpClientInitializer(this.proxyConfigurations, httpProtocol, jsonLineConsumer);
 			
 			new Bootstrap()
 				.group(this.eventLoopGroup)
-				.channel(NioSocketChannel.class)
+				.channel(this.socketChannelClass)
+				.resolver(this.dnsResolverCache)
 				.option(ChannelOption.AUTO_READ, true)
 				.option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
 				.option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024, 32 * 1024))
@@ -146,6 +209,13 @@ public class NettyHttpClient
 							{
 								// send the HTTP request
 								future.channel().writeAndFlush(httpRequest);
+								if(this.forwardProxyClient)
+								{
+									scheduleResponseTimeout(
+										future.channel(),
+										responseFuture,
+										this.configuration.maxSocketTimeoutInMillis());
+								}
 							}
 						});
 					}
@@ -156,26 +226,7 @@ public class NettyHttpClient
 				});
 			
 			responseFuture
-				.whenComplete((message, throwable) -> {
-					if(throwable != null)
-					{
-						httpResponseFuture.completeExceptionally(throwable);
-						return;
-					}
-					if(message == null)
-					{
-						httpResponseFuture.complete(response());
-						return;
-					}
-					if(this.forwardProxyClient)
-					{
-						httpResponseFuture.complete(HOP_BY_HOP_HEADER_FILTER.onResponse((HttpResponse)message));
-					}
-					else
-					{
-						httpResponseFuture.complete((HttpResponse)message);
-					}
-				});
+				.whenComplete((message, throwable) -> this.completeResponse(httpResponseFuture, message, throwable));
 			
 			return httpResponseFuture;
 		}
@@ -187,6 +238,54 @@ public class NettyHttpClient
 		}
 	}
 	
+	/**
+	 * Fails the response future and closes the channel if the response has not been received within the timeout, the
+	 * timeout runs on the event loop of the channel so no thread has to wait for the response
+	 */
+	static void scheduleResponseTimeout(
+		final Channel channel,
+		final CompletableFuture<Message> responseFuture,
+		final long timeoutInMillis)
+	{
+		final ScheduledFuture<?> timeout = channel.eventLoop().schedule(
+			() -> {
+				if(responseFuture.completeExceptionally(new SocketCommunicationException(
+					"Response was not received after " + timeoutInMillis
+						+ " milliseconds, to make the proxy wait longer please use \"mockserver.maxSocketTimeout\""
+						+ " system property or ConfigurationProperties.maxSocketTimeout(long milliseconds)",
+					null)))
+				{
+					channel.close();
+				}
+			},
+			timeoutInMillis,
+			TimeUnit.MILLISECONDS);
+		responseFuture.whenComplete((message, throwable) -> timeout.cancel(false));
+	}
+	
+	private void completeResponse(
+		final CompletableFuture<HttpResponse> httpResponseFuture,
+		final Message message,
+		final Throwable throwable)
+	{
+		if(throwable != null)
+		{
+			httpResponseFuture.completeExceptionally(throwable);
+		}
+		else if(message == null)
+		{
+			httpResponseFuture.complete(response());
+		}
+		else if(this.forwardProxyClient)
+		{
+			httpResponseFuture.complete(HOP_BY_HOP_HEADER_FILTER.onResponse((HttpResponse)message));
+		}
+		else
+		{
+			httpResponseFuture.complete((HttpResponse)message);
+		}
+	}
+	
 	@SuppressWarnings({"checkstyle:FinalParameters", "checkstyle:MagicNumber", "PMD.CognitiveComplexity"})
 	public CompletableFuture<BinaryMessage> sendRequest(
 		final BinaryMessage binaryRequest,
@@ -211,7 +310,8 @@ public class NettyHttpClient
 			
 			new Bootstrap()
 				.group(this.eventLoopGroup)
-				.channel(NioSocketChannel.class)
+				.channel(this.socketChannelClass)
+				.resolver(this.dnsResolverCache)
 				.option(ChannelOption.AUTO_READ, true)
 				.option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
 				.option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024, 32 * 1024))
@@ -267,17 +367,31 @@ public class NettyHttpClient
 		}
 	}
 	
-	@SuppressWarnings("PMD.PreserveStackTrace")
 	public HttpResponse sendRequest(
 		final HttpRequest httpRequest,
 		final long timeout,
 		final TimeUnit unit,
 		final boolean ignoreErrors)
+	{
+		return this.sendRequest(httpRequest, timeout, unit, ignoreErrors, null);
+	}
+	
+	@SuppressWarnings("PMD.PreserveStackTrace")
+	public HttpResponse sendRequest(
+		final HttpRequest httpRequest,
+		final long timeout,
+		final TimeUnit unit,
+		final boolean ignoreErrors,
+		final Consumer<String> jsonLineConsumer)
 	{
 		HttpResponse httpResponse = null;
 		try
 		{
-			httpResponse = this.sendRequest(httpRequest).get(timeout, unit);
+			httpResponse = this.sendRequest(
+				httpRequest,
+				httpRequest.socketAddressFromHostHeader(),
+				this.configuration.socketConnectionTimeoutInMillis(),
+				jsonLineConsumer).get(timeout, unit);
 		}
 		catch(final TimeoutException e)
 		{
@@ -30,6 +30,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpObject;
@@ -111,6 +112,21 @@ public class MockServerHttpResponseToFullHttpResponse
 		}
 	}
 	
+	/**
+	 * Maps only the status line, headers and cookies of the response, the body is expected to follow as chunks
+	 */
+	public DefaultHttpResponse mapMockServerResponseHeadToNettyResponse(final HttpResponse httpResponse)
+	{
+		final DefaultHttpResponse defaultHttpResponse = new DefaultHttpResponse(
+			HttpVersion.HTTP_1_1,
+			this.getStatus(httpResponse)
+		);
+		HttpUtil.setTransferEncodingChunked(defaultHttpResponse, true);
+		this.setHeaders(httpResponse, defaultHttpResponse, Unpooled.EMPTY_BUFFER);
+		this.setCookies(httpResponse, defaultHttpResponse);
+		return defaultHttpResponse;
+	}
+	
 	@SuppressWarnings("checkstyle:MagicNumber")
 	private HttpResponseStatus getStatus(final HttpResponse httpResponse)
 	{
@@ -201,6 +201,7 @@ public class Expectation extends ObjectWithJsonToString
 	{
 		this.id = id;
 		this.sortableExpectationId = null;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -210,6 +211,7 @@ public class Expectation extends ObjectWithJsonToString
 		{
 			this.id = id;
 			this.sortableExpectationId = null;
+			this.invalidateJsonToString();
 		}
 		return this;
 	}
@@ -238,6 +240,7 @@ public class Expectation extends ObjectWithJsonToString
 	{
 		this.priority = priority;
 		this.sortableExpectationId = null;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -251,6 +254,7 @@ public class Expectation extends ObjectWithJsonToString
 		this.created = created;
 		this.sortableExpectationId = null;
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -374,6 +378,7 @@ public class Expectation extends ObjectWithJsonToString
 			this.validationErrors("a response", httpResponse.getType());
 			this.httpResponse = httpResponse;
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this;
 	}
@@ -386,6 +391,7 @@ public class Expectation extends ObjectWithJsonToString
 			this.validationErrors("a response class callback", httpClassCallback.getType());
 			this.httpResponseClassCallback = httpClassCallback;
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this;
 	}
@@ -398,6 +404,7 @@ public class Expectation extends ObjectWithJsonToString
 			this.validationErrors("a response object callback", httpObjectCallback.getType());
 			this.httpResponseObjectCallback = httpObjectCallback;
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this;
 	}
@@ -409,6 +416,7 @@ public class Expectation extends ObjectWithJsonToString
 			this.validationErrors("a forward", httpForward.getType());
 			this.httpForward = httpForward;
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this;
 	}
@@ -421,6 +429,7 @@ public class Expectation extends ObjectWithJsonToString
 			this.validationErrors("a forward class callback", httpClassCallback.getType());
 			this.httpForwardClassCallback = httpClassCallback;
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this;
 	}
@@ -434,6 +443,7 @@ public class Expectation extends ObjectWithJsonToString
 			this.validationErrors("a forward object callback", httpObjectCallback.getType());
 			this.httpForwardObjectCallback = httpObjectCallback;
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this;
 	}
@@ -445,6 +455,7 @@ public class Expectation extends ObjectWithJsonToString
 			this.validationErrors("a forward replace", httpOverrideForwardedRequest.getType());
 			this.httpOverrideForwardedRequest = httpOverrideForwardedRequest;
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this;
 	}
@@ -456,6 +467,7 @@ public class Expectation extends ObjectWithJsonToString
 			this.validationErrors("an error", httpError.getType());
 			this.httpError = httpError;
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this;
 	}
@@ -525,6 +537,7 @@ public class Expectation extends ObjectWithJsonToString
 	{
 		if(this.times != null)
 		{
+			this.invalidateJsonToString();
 			return this.times.decrement();
 		}
 		return false;
@@ -553,6 +566,12 @@ public class Expectation extends ObjectWithJsonToString
 			.thenError(this.httpError);
 	}
 	
+	@Override
+	public String toString()
+	{
+		return this.cachedJsonToString();
+	}
+	
 	@Override
 	public boolean equals(final Object o)
 	{
@@ -37,6 +37,7 @@ public abstract class Action<T extends Action> extends ObjectWithJsonToString
 	{
 		this.delay = delay;
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return (T)this;
 	}
 	
@@ -49,6 +50,8 @@ public abstract class Action<T extends Action> extends ObjectWithJsonToString
 	public T withDelay(final TimeUnit timeUnit, final long value)
 	{
 		this.delay = new Delay(timeUnit, value);
+		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return (T)this;
 	}
 	
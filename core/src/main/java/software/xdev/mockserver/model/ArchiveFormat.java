@@ -13,15 +13,10 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package software.xdev.mockserver.mock.action.http;
+package software.xdev.mockserver.model;
 
-import software.xdev.mockserver.model.HttpResponse;
-
-
-public class HttpResponseActionHandler
+public enum ArchiveFormat
 {
-	public HttpResponse handle(final HttpResponse httpResponse)
-	{
-		return httpResponse.clone();
-	}
+	NDJSON,
+	HAR
 }
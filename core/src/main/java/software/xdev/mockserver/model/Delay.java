@@ -16,6 +16,7 @@
 package software.xdev.mockserver.model;
 
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 
@@ -23,6 +24,7 @@ public class Delay
 {
 	private final TimeUnit timeUnit;
 	private final long value;
+	private final DelayDistribution distribution;
 	
 	public static Delay milliseconds(final long value)
 	{
@@ -44,10 +46,25 @@ public class Delay
 		return new Delay(timeUnit, value);
 	}
 	
+	/**
+	 * Delay drawn from the distribution for each response, for example
+	 * Delay.distribution(TimeUnit.MILLISECONDS, DelayDistribution.logNormal(100, 0.5))
+	 */
+	public static Delay distribution(final TimeUnit timeUnit, final DelayDistribution distribution)
+	{
+		return new Delay(timeUnit, 0, distribution);
+	}
+	
 	public Delay(final TimeUnit timeUnit, final long value)
+	{
+		this(timeUnit, value, null);
+	}
+	
+	public Delay(final TimeUnit timeUnit, final long value, final DelayDistribution distribution)
 	{
 		this.timeUnit = timeUnit;
 		this.value = value;
+		this.distribution = distribution;
 	}
 	
 	public TimeUnit getTimeUnit()
@@ -60,13 +77,26 @@ public class Delay
 		return this.value;
 	}
 	
+	public DelayDistribution getDistribution()
+	{
+		return this.distribution;
+	}
+	
+	/**
+	 * @return the value of this delay for a single response, which is drawn from the distribution if there is one
+	 */
+	public long sampleValue()
+	{
+		return this.distribution != null ? this.distribution.sample(ThreadLocalRandom.current()) : this.value;
+	}
+	
 	public void applyDelay()
 	{
 		if(this.timeUnit != null)
 		{
 			try
 			{
-				this.timeUnit.sleep(this.value);
+				this.timeUnit.sleep(this.sampleValue());
 			}
 			catch(final InterruptedException ie)
 			{
@@ -86,12 +116,13 @@ public class Delay
 		{
 			return false;
 		}
-		return this.getValue() == delay.getValue() && this.getTimeUnit() == delay.getTimeUnit();
+		return this.getValue() == delay.getValue() && this.getTimeUnit() == delay.getTimeUnit()
+			&& Objects.equals(this.getDistribution(), delay.getDistribution());
 	}
 	
 	@Override
 	public int hashCode()
 	{
-		return Objects.hash(this.getTimeUnit(), this.getValue());
+		return Objects.hash(this.getTimeUnit(), this.getValue(), this.getDistribution());
 	}
 }
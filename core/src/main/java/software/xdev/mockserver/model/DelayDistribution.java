@@ -0,0 +1,227 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.model;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Random;
+import java.util.TreeMap;
+
+
+/**
+ * Distribution a delay is drawn from for each response, the values are in the time unit of the delay
+ */
+public class DelayDistribution
+{
+	private static final double MAX_PERCENTILE = 100;
+	
+	private final Type type;
+	private final Long min;
+	private final Long max;
+	private final Long mean;
+	private final Long standardDeviation;
+	private final Long median;
+	private final Double sigma;
+	private final NavigableMap<Double, Long> percentiles;
+	
+	public enum Type
+	{
+		UNIFORM,
+		NORMAL,
+		LOG_NORMAL,
+		PERCENTILES
+	}
+	
+	/**
+	 * Delays uniformly distributed between min and max (both inclusive)
+	 */
+	public static DelayDistribution uniform(final long min, final long max)
+	{
+		return new DelayDistribution(Type.UNIFORM, min, max, null, null, null, null, null);
+	}
+	
+	/**
+	 * Normally distributed delays, negative delays are returned as 0
+	 */
+	public static DelayDistribution normal(final long mean, final long standardDeviation)
+	{
+		return new DelayDistribution(Type.NORMAL, null, null, mean, standardDeviation, null, null, null);
+	}
+	
+	/**
+	 * Log-normally distributed delays (i.e. the long tail of most backends) with the median and the standard
+	 * deviation (sigma) of the natural logarithm of the delay, for example a median of 100 and a sigma of 0.5 has a
+	 * p99 of about 320
+	 */
+	public static DelayDistribution logNormal(final long median, final double sigma)
+	{
+		return new DelayDistribution(Type.LOG_NORMAL, null, null, null, null, median, sigma, null);
+	}
+	
+	/**
+	 * Delays following the percentiles, for example {50: 100, 95: 300, 99: 800}, delays between two percentiles are
+	 * interpolated linearly, delays below the lowest (or above the highest) percentile are the delay of that percentile
+	 *
+	 * @param percentiles delay for each percentile (between 0 and 100)
+	 */
+	public static DelayDistribution percentiles(final Map<Double, Long> percentiles)
+	{
+		return new DelayDistribution(Type.PERCENTILES, null, null, null, null, null, null, percentiles);
+	}
+	
+	@SuppressWarnings("checkstyle:ParameterNumber")
+	public DelayDistribution(
+		final Type type,
+		final Long min,
+		final Long max,
+		final Long mean,
+		final Long standardDeviation,
+		final Long median,
+		final Double sigma,
+		final Map<Double, Long> percentiles)
+	{
+		this.type = type;
+		this.min = min;
+		this.max = max;
+		this.mean = mean;
+		this.standardDeviation = standardDeviation;
+		this.median = median;
+		this.sigma = sigma;
+		this.percentiles = percentiles != null ? new TreeMap<>(percentiles) : null;
+	}
+	
+	/**
+	 * @return a delay drawn from the distribution, never negative
+	 */
+	public long sample(final Random random)
+	{
+		if(this.type == null)
+		{
+			return 0;
+		}
+		final double sample = switch(this.type)
+		{
+			case UNIFORM -> valueOrZero(this.min)
+				+ random.nextDouble() * (valueOrZero(this.max) - valueOrZero(this.min) + 1);
+			case NORMAL -> valueOrZero(this.mean) + random.nextGaussian() * valueOrZero(this.standardDeviation);
+			case LOG_NORMAL -> valueOrZero(this.median)
+				* Math.exp(random.nextGaussian() * (this.sigma != null ? this.sigma : 0));
+			case PERCENTILES -> this.samplePercentiles(random.nextDouble() * MAX_PERCENTILE);
+		};
+		return Math.max(0, (long)Math.floor(sample));
+	}
+	
+	private double samplePercentiles(final double percentile)
+	{
+		if(this.percentiles == null || this.percentiles.isEmpty())
+		{
+			return 0;
+		}
+		final Map.Entry<Double, Long> lower = this.percentiles.floorEntry(percentile);
+		final Map.Entry<Double, Long> upper = this.percentiles.ceilingEntry(percentile);
+		if(lower == null)
+		{
+			return upper.getValue();
+		}
+		if(upper == null || upper.getKey().equals(lower.getKey()))
+		{
+			return lower.getValue();
+		}
+		return lower.getValue() + (upper.getValue() - lower.getValue())
+			* (percentile - lower.getKey()) / (upper.getKey() - lower.getKey());
+	}
+	
+	private static long valueOrZero(final Long value)
+	{
+		return value != null ? value : 0;
+	}
+	
+	public Type getType()
+	{
+		return this.type;
+	}
+	
+	public Long getMin()
+	{
+		return this.min;
+	}
+	
+	public Long getMax()
+	{
+		return this.max;
+	}
+	
+	public Long getMean()
+	{
+		return this.mean;
+	}
+	
+	public Long getStandardDeviation()
+	{
+		return this.standardDeviation;
+	}
+	
+	public Long getMedian()
+	{
+		return this.median;
+	}
+	
+	public Double getSigma()
+	{
+		return this.sigma;
+	}
+	
+	public Map<Double, Long> getPercentiles()
+	{
+		return this.percentiles;
+	}
+	
+	@Override
+	public boolean equals(final Object o)
+	{
+		if(this == o)
+		{
+			return true;
+		}
+		if(!(o instanceof final DelayDistribution that))
+		{
+			return false;
+		}
+		return this.type == that.type
+			&& Objects.equals(this.min, that.min)
+			&& Objects.equals(this.max, that.max)
+			&& Objects.equals(this.mean, that.mean)
+			&& Objects.equals(this.standardDeviation, that.standardDeviation)
+			&& Objects.equals(this.median, that.median)
+			&& Objects.equals(this.sigma, that.sigma)
+			&& Objects.equals(this.percentiles, that.percentiles);
+	}
+	
+	@Override
+	public int hashCode()
+	{
+		return Objects.hash(
+			this.type,
+			this.min,
+			this.max,
+			this.mean,
+			this.standardDeviation,
+			this.median,
+			this.sigma,
+			this.percentiles);
+	}
+}
@@ -17,5 +17,6 @@ package software.xdev.mockserver.model;
 
 public enum Format
 {
-	JSON
+	JSON,
+	NDJSON
 }
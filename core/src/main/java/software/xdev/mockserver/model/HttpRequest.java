@@ -78,6 +78,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.keepAlive = isKeepAlive;
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -95,6 +96,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.protocol = protocol;
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -112,6 +114,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.streamId = streamId;
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -130,6 +133,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.socketAddress = socketAddress;
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -148,6 +152,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 			.withPort(port)
 			.withScheme(scheme);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -158,6 +163,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.withSocketAddress(this.getFirstHeader("host"), null);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -183,6 +189,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 			}
 		}
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -190,6 +197,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.localAddress = localAddress;
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -202,6 +210,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.remoteAddress = remoteAddress;
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -230,6 +239,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.method = method;
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -277,6 +287,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.path = path;
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -324,6 +335,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 		{
 			this.pathParameters = new Parameters();
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this.pathParameters;
 	}
@@ -339,6 +351,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 			this.pathParameters = parameters;
 		}
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -355,6 +368,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreatePathParameters().withEntries(parameters);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -370,6 +384,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreatePathParameters().withEntries(parameters);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -386,6 +401,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreatePathParameters().withEntries(parameters);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -400,6 +416,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreatePathParameters().withEntry(parameter);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -415,6 +432,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreatePathParameters().withEntry(name, values.length == 0 ? new String[]{".*"} : values);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -432,6 +450,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 		this.getOrCreatePathParameters()
 			.withEntry(name, values.length == 0 ? new NottableString[]{string(".*")} : values);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -496,6 +515,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 		{
 			this.queryStringParameters = new Parameters();
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this.queryStringParameters;
 	}
@@ -511,6 +531,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 			this.queryStringParameters = parameters;
 		}
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -528,6 +549,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreateQueryStringParameters().withEntries(parameters);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -543,6 +565,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreateQueryStringParameters().withEntries(parameters);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -559,6 +582,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreateQueryStringParameters().withEntries(parameters);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -573,6 +597,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreateQueryStringParameters().withEntry(parameter);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -587,6 +612,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreateQueryStringParameters().withEntry(name, values);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -604,6 +630,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 		this.getOrCreateQueryStringParameters()
 			.withEntry(name, values.length == 0 ? new NottableString[]{string(".*")} : values);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -667,6 +694,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.body = new StringBody(body);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -683,6 +711,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 		{
 			this.body = new StringBody(body, charset);
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this;
 	}
@@ -697,6 +726,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.body = new BinaryBody(body);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -768,6 +798,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.body = body;
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -835,6 +866,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 		{
 			this.headers = new Headers();
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this.headers;
 	}
@@ -851,6 +883,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 			this.headers = headers;
 		}
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -867,6 +900,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreateHeaders().withEntries(headers);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -883,6 +917,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreateHeaders().withEntries(headers);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -898,6 +933,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreateHeaders().withEntry(header);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -913,6 +949,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreateHeaders().withEntry(header(name, values.length == 0 ? new String[]{".*"} : values));
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -931,6 +968,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 		this.getOrCreateHeaders()
 			.withEntry(header(name, values.length == 0 ? new NottableString[]{string(".*")} : values));
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -939,6 +977,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreateHeaders().withEntry(header(CONTENT_TYPE.toString(), mediaType.toString()));
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -954,6 +993,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreateHeaders().replaceEntry(header);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -1041,6 +1081,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 		{
 			this.headers.remove(name);
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this;
 	}
@@ -1052,6 +1093,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 		{
 			this.headers.remove(name);
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this;
 	}
@@ -1068,6 +1110,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 		{
 			this.cookies = new Cookies();
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this.cookies;
 	}
@@ -1084,6 +1127,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 			this.cookies = cookies;
 		}
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -1099,6 +1143,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreateCookies().withEntries(cookies);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -1115,6 +1160,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreateCookies().withEntries(cookies);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -1130,6 +1176,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreateCookies().withEntry(cookie);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -1145,6 +1192,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreateCookies().withEntry(name, value);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -1162,6 +1210,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 	{
 		this.getOrCreateCookies().withEntry(name, value);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -1178,6 +1227,10 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 		}
 	}
 	
+	/**
+	 * @return the unresolved remote address from the socket address or the host header, the host is resolved when
+	 * connecting so no DNS lookup is done by this method
+	 */
 	@SuppressWarnings("checkstyle:MagicNumber")
 	public InetSocketAddress socketAddressFromHostHeader()
 	{
@@ -1186,14 +1239,14 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 			final boolean isSsl =
 				this.socketAddress.getScheme() != null && this.socketAddress.getScheme()
 					.equals(SocketAddress.Scheme.HTTPS);
-			return new InetSocketAddress(
+			return InetSocketAddress.createUnresolved(
 				this.socketAddress.getHost(),
 				this.socketAddress.getPort() != null ? this.socketAddress.getPort() : isSsl ? 443 : 80);
 		}
 		else if(isNotBlank(this.getFirstHeader(HOST.toString())))
 		{
 			final String[] hostHeaderParts = this.getFirstHeader(HOST.toString()).split(":");
-			return new InetSocketAddress(
+			return InetSocketAddress.createUnresolved(
 				hostHeaderParts[0],
 				hostHeaderParts.length > 1 ? Integer.parseInt(hostHeaderParts[1]) : 80);
 		}
@@ -1295,6 +1348,7 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 				this.withSocketAddress(requestOverride.getSocketAddress());
 			}
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		if(requestModifier != null)
 		{
@@ -1319,6 +1373,12 @@ public class HttpRequest extends RequestDefinition implements HttpMessage<HttpRe
 		return this;
 	}
 	
+	@Override
+	public String toString()
+	{
+		return this.cachedJsonToString();
+	}
+	
 	@Override
 	public boolean equals(final Object o)
 	{
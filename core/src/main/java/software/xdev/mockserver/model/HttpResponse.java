@@ -81,6 +81,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 	{
 		this.statusCode = statusCode;
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -99,6 +100,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 	{
 		this.reasonPhrase = reasonPhrase;
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -120,6 +122,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 		{
 			this.body = new StringBody(body);
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this;
 	}
@@ -139,6 +142,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 		{
 			this.body = new StringBody(body, charset);
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this;
 	}
@@ -157,6 +161,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 		{
 			this.body = new StringBody(body, contentType);
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this;
 	}
@@ -171,6 +176,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 	{
 		this.body = new BinaryBody(body);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -190,6 +196,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 	{
 		this.body = body;
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -232,6 +239,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 		{
 			this.headers = new Headers();
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this.headers;
 	}
@@ -248,6 +256,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 			this.headers = headers;
 		}
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -261,6 +270,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 	{
 		this.getOrCreateHeaders().withEntries(headers);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -274,6 +284,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 	{
 		this.getOrCreateHeaders().withEntries(headers);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -288,6 +299,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 	{
 		this.getOrCreateHeaders().withEntry(header);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -303,6 +315,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 	{
 		this.getOrCreateHeaders().withEntry(name, values.length == 0 ? new String[]{".*"} : values);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -319,6 +332,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 		this.getOrCreateHeaders()
 			.withEntry(header(name, values.length == 0 ? new NottableString[]{string(".*")} : values));
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -327,6 +341,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 	{
 		this.getOrCreateHeaders().withEntry(header(CONTENT_TYPE.toString(), mediaType.toString()));
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -340,6 +355,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 	{
 		this.getOrCreateHeaders().replaceEntry(header);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -353,6 +369,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 	{
 		this.getOrCreateHeaders().replaceEntry(name, values.length == 0 ? new String[]{".*"} : values);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -433,6 +450,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 		{
 			this.headers.remove(name);
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this;
 	}
@@ -444,6 +462,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 		{
 			this.headers.remove(name);
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this;
 	}
@@ -479,6 +498,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 		{
 			this.cookies = new Cookies();
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		return this.cookies;
 	}
@@ -495,6 +515,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 			this.cookies = cookies;
 		}
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -508,6 +529,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 	{
 		this.getOrCreateCookies().withEntries(cookies);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -521,6 +543,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 	{
 		this.getOrCreateCookies().withEntries(cookies);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -534,6 +557,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 	{
 		this.getOrCreateCookies().withEntry(cookie);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -548,6 +572,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 	{
 		this.getOrCreateCookies().withEntry(name, value);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -567,6 +592,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 	{
 		this.getOrCreateCookies().withEntry(name, value);
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -637,6 +663,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 	{
 		this.connectionOptions = connectionOptions;
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -649,6 +676,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 	{
 		this.streamId = streamId;
 		this.hashCode = 0;
+		this.invalidateJsonToString();
 		return this;
 	}
 	
@@ -726,6 +754,7 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 				this.withStreamId(responseOverride.getStreamId());
 			}
 			this.hashCode = 0;
+			this.invalidateJsonToString();
 		}
 		if(responseModifier != null)
 		{
@@ -741,6 +770,12 @@ public class HttpResponse extends Action<HttpResponse> implements HttpMessage<Ht
 		return this;
 	}
 	
+	@Override
+	public String toString()
+	{
+		return this.cachedJsonToString();
+	}
+	
 	@Override
 	public boolean equals(final Object o)
 	{
@@ -20,9 +20,25 @@ import java.util.Objects;
 
 public class LogEventRequestAndResponse extends ObjectWithJsonToString
 {
+	private Long sequence;
 	private String timestamp;
 	private RequestDefinition httpRequest;
 	private HttpResponse httpResponse;
+	private String expectationId;
+	
+	/**
+	 * Position of the log entry in the event log, can be used as cursor for incremental retrieval
+	 */
+	public Long getSequence()
+	{
+		return this.sequence;
+	}
+	
+	public LogEventRequestAndResponse withSequence(final Long sequence)
+	{
+		this.sequence = sequence;
+		return this;
+	}
 	
 	public String getTimestamp()
 	{
@@ -57,6 +73,20 @@ public class LogEventRequestAndResponse extends ObjectWithJsonToString
 		return this;
 	}
 	
+	/**
+	 * Id of the expectation that matched the request, <code>null</code> if no expectation matched
+	 */
+	public String getExpectationId()
+	{
+		return this.expectationId;
+	}
+	
+	public LogEventRequestAndResponse withExpectationId(final String expectationId)
+	{
+		this.expectationId = expectationId;
+		return this;
+	}
+	
 	@Override
 	public boolean equals(final Object o)
 	{
@@ -68,14 +98,21 @@ public class LogEventRequestAndResponse extends ObjectWithJsonToString
 		{
 			return false;
 		}
-		return Objects.equals(this.getTimestamp(), that.getTimestamp())
+		return Objects.equals(this.getSequence(), that.getSequence())
+			&& Objects.equals(this.getTimestamp(), that.getTimestamp())
 			&& Objects.equals(this.getHttpRequest(), that.getHttpRequest())
-			&& Objects.equals(this.getHttpResponse(), that.getHttpResponse());
+			&& Objects.equals(this.getHttpResponse(), that.getHttpResponse())
+			&& Objects.equals(this.getExpectationId(), that.getExpectationId());
 	}
 	
 	@Override
 	public int hashCode()
 	{
-		return Objects.hash(this.getTimestamp(), this.getHttpRequest(), this.getHttpResponse());
+		return Objects.hash(
+			this.getSequence(),
+			this.getTimestamp(),
+			this.getHttpRequest(),
+			this.getHttpResponse(),
+			this.getExpectationId());
 	}
 }
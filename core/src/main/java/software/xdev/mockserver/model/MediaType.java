@@ -76,6 +76,7 @@ public class MediaType
 	public static final MediaType APPLICATION_JSON = new MediaType("application", "json");
 	public static final MediaType APPLICATION_JSON_UTF_8 = new MediaType("application", "json", "utf-8", null);
 	public static final MediaType JSON_UTF_8 = APPLICATION_JSON_UTF_8;
+	public static final MediaType APPLICATION_NDJSON_UTF_8 = new MediaType("application", "x-ndjson", "utf-8", null);
 	public static final MediaType APPLICATION_FORM_URLENCODED = new MediaType("application", "x-www-form-urlencoded");
 	public static final MediaType FORM_DATA = new MediaType("application", "x-www-form-urlencoded");
 	public static final MediaType MULTIPART_FORM_DATA = new MediaType("multipart", "form-data");
@@ -28,6 +28,7 @@ public class Not extends ObjectWithJsonToString
 	public static <T extends Not> T not(final T t)
 	{
 		t.not = true;
+		t.invalidateJsonToString();
 		return t;
 	}
 	
@@ -36,6 +37,7 @@ public class Not extends ObjectWithJsonToString
 		if(not != null && not)
 		{
 			t.not = true;
+			t.invalidateJsonToString();
 		}
 		return t;
 	}
@@ -22,8 +22,36 @@ public abstract class ObjectWithJsonToString
 {
 	private static final String ESCAPED_QUOTE = "\"";
 	
+	private String jsonToString;
+	
 	@Override
 	public String toString()
+	{
+		return this.renderJson();
+	}
+	
+	/**
+	 * Renders this object as pretty printed JSON once and returns the same rendering until
+	 * {@link #invalidateJsonToString()} is called, classes that use this for toString must invalidate it whenever
+	 * they are modified.
+	 */
+	protected String cachedJsonToString()
+	{
+		String json = this.jsonToString;
+		if(json == null)
+		{
+			json = this.renderJson();
+			this.jsonToString = json;
+		}
+		return json;
+	}
+	
+	protected void invalidateJsonToString()
+	{
+		this.jsonToString = null;
+	}
+	
+	private String renderJson()
 	{
 		try
 		{
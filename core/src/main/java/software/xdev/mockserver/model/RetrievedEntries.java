@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.model;
+
+import java.util.List;
+
+
+/**
+ * Entries retrieved from the event log together with the sequence of the last log entry examined, the sequence can be
+ * passed as {@link #SINCE_SEQUENCE_PARAMETER} to only retrieve entries that have been logged since.
+ */
+public class RetrievedEntries<T>
+{
+	public static final String SEQUENCE_HEADER = "X-MockServer-Sequence";
+	public static final String SINCE_SEQUENCE_PARAMETER = "sinceSequence";
+	public static final String LIMIT_PARAMETER = "limit";
+	
+	private final List<T> entries;
+	private final long sequence;
+	
+	public RetrievedEntries(final List<T> entries, final long sequence)
+	{
+		this.entries = entries;
+		this.sequence = sequence;
+	}
+	
+	public List<T> getEntries()
+	{
+		return this.entries;
+	}
+	
+	public long getSequence()
+	{
+		return this.sequence;
+	}
+}
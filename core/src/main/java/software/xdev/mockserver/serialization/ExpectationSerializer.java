@@ -30,6 +30,7 @@ import org.slf4j.LoggerFactory;
 import software.xdev.mockserver.mock.Expectation;
 import software.xdev.mockserver.serialization.model.ExpectationDTO;
 import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectWriter;
 
 
 public class ExpectationSerializer extends AbstractSerializer<Expectation>
@@ -37,10 +38,11 @@ public class ExpectationSerializer extends AbstractSerializer<Expectation>
 	private static final Logger LOG = LoggerFactory.getLogger(ExpectationSerializer.class);
 	
 	private final JsonArraySerializer jsonArraySerializer = new JsonArraySerializer();
+	private final ObjectWriter compactObjectWriter;
 	
 	public ExpectationSerializer()
 	{
-		super();
+		this(false);
 	}
 	
 	public ExpectationSerializer(final boolean serialiseDefaultValues)
@@ -48,6 +50,9 @@ public class ExpectationSerializer extends AbstractSerializer<Expectation>
 		super(serialiseDefaultValues
 			? ObjectMappers.PRETTY_PRINT_WRITER_THAT_SERIALISES_DEFAULT_FIELDS
 			: ObjectMappers.PRETTY_PRINT_WRITER);
+		this.compactObjectWriter = serialiseDefaultValues
+			? ObjectMappers.COMPACT_WRITER_THAT_SERIALISES_DEFAULT_FIELDS
+			: ObjectMappers.COMPACT_WRITER;
 	}
 	
 	@Override
@@ -69,6 +74,27 @@ public class ExpectationSerializer extends AbstractSerializer<Expectation>
 		}
 	}
 	
+	/**
+	 * Serializes a single expectation as compact JSON on one line, i.e. a single NDJSON record
+	 */
+	public String serializeCompact(final Expectation expectation)
+	{
+		if(expectation == null)
+		{
+			return "";
+		}
+		try
+		{
+			return this.compactObjectWriter.writeValueAsString(new ExpectationDTO(expectation));
+		}
+		catch(final Exception e)
+		{
+			throw new IllegalStateException(
+				"Exception while serializing expectation to JSON with value " + expectation,
+				e);
+		}
+	}
+	
 	public String serialize(final List<Expectation> expectations)
 	{
 		return this.serialize(expectations.toArray(new Expectation[0]));
@@ -29,7 +29,7 @@ import tools.jackson.core.util.DefaultPrettyPrinter;
 import tools.jackson.databind.ObjectWriter;
 
 
-public class LogEventRequestAndResponseSerializer
+public class LogEventRequestAndResponseSerializer implements Serializer<LogEventRequestAndResponse>
 {
 	private final JsonArraySerializer jsonArraySerializer = new JsonArraySerializer();
 	private static ObjectWriter objectWriterCached;
@@ -48,6 +48,7 @@ public class LogEventRequestAndResponseSerializer
 		return objectWriterCached;
 	}
 	
+	@Override
 	public String serialize(final LogEventRequestAndResponse httpRequestAndHttpResponse)
 	{
 		try
@@ -63,6 +64,25 @@ public class LogEventRequestAndResponseSerializer
 		}
 	}
 	
+	/**
+	 * Serializes a single request and response as compact JSON on one line, i.e. a single NDJSON record
+	 */
+	public String serializeCompact(final LogEventRequestAndResponse httpRequestAndHttpResponse)
+	{
+		try
+		{
+			return ObjectMappers.COMPACT_WRITER.writeValueAsString(
+				new LogEventRequestAndResponseDTO(httpRequestAndHttpResponse));
+		}
+		catch(final Exception e)
+		{
+			throw new IllegalArgumentException(
+				"Exception while serializing HttpRequestAndHttpResponse to JSON with value "
+					+ httpRequestAndHttpResponse,
+				e);
+		}
+	}
+	
 	public String serialize(final List<LogEventRequestAndResponse> httpRequestAndHttpResponses)
 	{
 		return this.serialize(httpRequestAndHttpResponses.toArray(new LogEventRequestAndResponse[0]));
@@ -96,6 +116,7 @@ public class LogEventRequestAndResponseSerializer
 		}
 	}
 	
+	@Override
 	public LogEventRequestAndResponse deserialize(final String jsonHttpRequestAndHttpResponse)
 	{
 		if(isBlank(jsonHttpRequestAndHttpResponse))
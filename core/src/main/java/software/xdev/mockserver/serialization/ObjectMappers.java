@@ -84,11 +84,17 @@ public final class ObjectMappers
 			Collections.emptyList(),
 			Collections.emptyList(),
 			false).writerWithDefaultPrettyPrinter();
-	public static final ObjectWriter PRETTY_PRINT_WRITER_THAT_SERIALISES_DEFAULT_FIELDS =
+	public static final ObjectWriter COMPACT_WRITER = DEFAULT_MAPPER.writer();
+	
+	private static final JsonMapper MAPPER_THAT_SERIALISES_DEFAULT_FIELDS =
 		buildObjectMapperWithDeserializerAndSerializers(
 			Collections.emptyList(),
 			Collections.emptyList(),
-			true).writerWithDefaultPrettyPrinter();
+			true);
+	public static final ObjectWriter PRETTY_PRINT_WRITER_THAT_SERIALISES_DEFAULT_FIELDS =
+		MAPPER_THAT_SERIALISES_DEFAULT_FIELDS.writerWithDefaultPrettyPrinter();
+	public static final ObjectWriter COMPACT_WRITER_THAT_SERIALISES_DEFAULT_FIELDS =
+		MAPPER_THAT_SERIALISES_DEFAULT_FIELDS.writer();
 	
 	public static JsonMapper createObjectMapper(final ValueDeserializer<?>... replacementJsonDeserializers)
 	{
@@ -60,6 +60,27 @@ public class RequestDefinitionSerializer extends AbstractSerializer<RequestDefin
 		}
 	}
 	
+	/**
+	 * Serializes a single request definition as compact JSON on one line, i.e. a single NDJSON record
+	 */
+	public String serializeCompact(final RequestDefinition requestDefinition)
+	{
+		try
+		{
+			if(requestDefinition instanceof final HttpRequest request)
+			{
+				return ObjectMappers.COMPACT_WRITER.writeValueAsString(new HttpRequestDTO(request));
+			}
+			return "";
+		}
+		catch(final Exception e)
+		{
+			throw new IllegalStateException(
+				"Exception while serializing RequestDefinition to JSON with value " + requestDefinition,
+				e);
+		}
+	}
+	
 	public String serialize(final List<? extends RequestDefinition> requestDefinitions)
 	{
 		return this.serialize(false, requestDefinitions);
@@ -15,6 +15,8 @@
  */
 package software.xdev.mockserver.serialization;
 
+import java.util.List;
+
 import software.xdev.mockserver.serialization.model.VerificationDTO;
 import software.xdev.mockserver.verify.Verification;
 
@@ -36,6 +38,20 @@ public class VerificationSerializer extends AbstractSerializer<Verification>
 		}
 	}
 	
+	public String serialize(final List<Verification> verifications)
+	{
+		try
+		{
+			return this.objectWriter.writeValueAsString(verifications.stream().map(VerificationDTO::new).toList());
+		}
+		catch(final Exception e)
+		{
+			throw new IllegalStateException(
+				"Exception while serializing verifications to JSON with value " + verifications,
+				e);
+		}
+	}
+	
 	@Override
 	public Verification deserialize(final String jsonVerification)
 	{
@@ -56,4 +72,29 @@ public class VerificationSerializer extends AbstractSerializer<Verification>
 		}
 		return null;
 	}
+	
+	public Verification[] deserializeArray(final String jsonVerifications)
+	{
+		try
+		{
+			final VerificationDTO[] verificationDTOs =
+				this.objectMapper.readValue(jsonVerifications, VerificationDTO[].class);
+			if(verificationDTOs != null)
+			{
+				final Verification[] verifications = new Verification[verificationDTOs.length];
+				for(int i = 0; i < verificationDTOs.length; i++)
+				{
+					verifications[i] = verificationDTOs[i].buildObject();
+				}
+				return verifications;
+			}
+		}
+		catch(final Exception ex)
+		{
+			throw new IllegalArgumentException(
+				"exception while parsing [" + jsonVerifications + "] for Verification array",
+				ex);
+		}
+		return new Verification[0];
+	}
 }
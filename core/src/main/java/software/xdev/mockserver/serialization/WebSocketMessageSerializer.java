@@ -20,6 +20,7 @@ import java.util.Map;
 import software.xdev.mockserver.model.HttpRequest;
 import software.xdev.mockserver.model.HttpRequestAndHttpResponse;
 import software.xdev.mockserver.model.HttpResponse;
+import software.xdev.mockserver.model.LogEventRequestAndResponse;
 import software.xdev.mockserver.serialization.model.WebSocketMessageDTO;
 
 
@@ -33,7 +34,8 @@ public class WebSocketMessageSerializer extends AbstractSerializer<Object>
 		this.serializers = Map.of(
 			HttpRequest.class, new HttpRequestSerializer(),
 			HttpResponse.class, new HttpResponseSerializer(),
-			HttpRequestAndHttpResponse.class, new HttpRequestAndHttpResponseSerializer()
+			HttpRequestAndHttpResponse.class, new HttpRequestAndHttpResponseSerializer(),
+			LogEventRequestAndResponse.class, new LogEventRequestAndResponseSerializer()
 		);
 	}
 	
@@ -25,6 +25,7 @@ public class DelayDTO implements DTO<Delay>
 {
 	private TimeUnit timeUnit;
 	private long value;
+	private DelayDistributionDTO distribution;
 	
 	public DelayDTO(final Delay delay)
 	{
@@ -32,6 +33,9 @@ public class DelayDTO implements DTO<Delay>
 		{
 			this.timeUnit = delay.getTimeUnit();
 			this.value = delay.getValue();
+			this.distribution = delay.getDistribution() != null
+				? new DelayDistributionDTO(delay.getDistribution())
+				: null;
 		}
 	}
 	
@@ -42,7 +46,10 @@ public class DelayDTO implements DTO<Delay>
 	@Override
 	public Delay buildObject()
 	{
-		return new Delay(this.timeUnit, this.value);
+		return new Delay(
+			this.timeUnit,
+			this.value,
+			this.distribution != null ? this.distribution.buildObject() : null);
 	}
 	
 	public TimeUnit getTimeUnit()
@@ -67,6 +74,17 @@ public class DelayDTO implements DTO<Delay>
 		return this;
 	}
 	
+	public DelayDistributionDTO getDistribution()
+	{
+		return this.distribution;
+	}
+	
+	public DelayDTO setDistribution(final DelayDistributionDTO distribution)
+	{
+		this.distribution = distribution;
+		return this;
+	}
+	
 	@Override
 	public boolean equals(final Object o)
 	{
@@ -82,12 +100,13 @@ public class DelayDTO implements DTO<Delay>
 		{
 			return false;
 		}
-		return this.getValue() == delayDTO.getValue() && this.getTimeUnit() == delayDTO.getTimeUnit();
+		return this.getValue() == delayDTO.getValue() && this.getTimeUnit() == delayDTO.getTimeUnit()
+			&& Objects.equals(this.getDistribution(), delayDTO.getDistribution());
 	}
 	
 	@Override
 	public int hashCode()
 	{
-		return Objects.hash(super.hashCode(), this.getTimeUnit(), this.getValue());
+		return Objects.hash(super.hashCode(), this.getTimeUnit(), this.getValue(), this.getDistribution());
 	}
 }
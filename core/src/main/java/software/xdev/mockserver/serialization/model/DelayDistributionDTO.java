@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.serialization.model;
+
+import java.util.Map;
+import java.util.Objects;
+
+import software.xdev.mockserver.model.DelayDistribution;
+
+
+public class DelayDistributionDTO implements DTO<DelayDistribution>
+{
+	private DelayDistribution.Type type;
+	private Long min;
+	private Long max;
+	private Long mean;
+	private Long standardDeviation;
+	private Long median;
+	private Double sigma;
+	private Map<Double, Long> percentiles;
+	
+	public DelayDistributionDTO(final DelayDistribution distribution)
+	{
+		if(distribution != null)
+		{
+			this.type = distribution.getType();
+			this.min = distribution.getMin();
+			this.max = distribution.getMax();
+			this.mean = distribution.getMean();
+			this.standardDeviation = distribution.getStandardDeviation();
+			this.median = distribution.getMedian();
+			this.sigma = distribution.getSigma();
+			this.percentiles = distribution.getPercentiles();
+		}
+	}
+	
+	public DelayDistributionDTO()
+	{
+	}
+	
+	@Override
+	public DelayDistribution buildObject()
+	{
+		return new DelayDistribution(
+			this.type,
+			this.min,
+			this.max,
+			this.mean,
+			this.standardDeviation,
+			this.median,
+			this.sigma,
+			this.percentiles);
+	}
+	
+	public DelayDistribution.Type getType()
+	{
+		return this.type;
+	}
+	
+	public DelayDistributionDTO setType(final DelayDistribution.Type type)
+	{
+		this.type = type;
+		return this;
+	}
+	
+	public Long getMin()
+	{
+		return this.min;
+	}
+	
+	public DelayDistributionDTO setMin(final Long min)
+	{
+		this.min = min;
+		return this;
+	}
+	
+	public Long getMax()
+	{
+		return this.max;
+	}
+	
+	public DelayDistributionDTO setMax(final Long max)
+	{
+		this.max = max;
+		return this;
+	}
+	
+	public Long getMean()
+	{
+		return this.mean;
+	}
+	
+	public DelayDistributionDTO setMean(final Long mean)
+	{
+		this.mean = mean;
+		return this;
+	}
+	
+	public Long getStandardDeviation()
+	{
+		return this.standardDeviation;
+	}
+	
+	public DelayDistributionDTO setStandardDeviation(final Long standardDeviation)
+	{
+		this.standardDeviation = standardDeviation;
+		return this;
+	}
+	
+	public Long getMedian()
+	{
+		return this.median;
+	}
+	
+	public DelayDistributionDTO setMedian(final Long median)
+	{
+		this.median = median;
+		return this;
+	}
+	
+	public Double getSigma()
+	{
+		return this.sigma;
+	}
+	
+	public DelayDistributionDTO setSigma(final Double sigma)
+	{
+		this.sigma = sigma;
+		return this;
+	}
+	
+	public Map<Double, Long> getPercentiles()
+	{
+		return this.percentiles;
+	}
+	
+	public DelayDistributionDTO setPercentiles(final Map<Double, Long> percentiles)
+	{
+		this.percentiles = percentiles;
+		return this;
+	}
+	
+	@Override
+	public boolean equals(final Object o)
+	{
+		if(this == o)
+		{
+			return true;
+		}
+		if(!(o instanceof final DelayDistributionDTO that))
+		{
+			return false;
+		}
+		return this.type == that.type
+			&& Objects.equals(this.min, that.min)
+			&& Objects.equals(this.max, that.max)
+			&& Objects.equals(this.mean, that.mean)
+			&& Objects.equals(this.standardDeviation, that.standardDeviation)
+			&& Objects.equals(this.median, that.median)
+			&& Objects.equals(this.sigma, that.sigma)
+			&& Objects.equals(this.percentiles, that.percentiles);
+	}
+	
+	@Override
+	public int hashCode()
+	{
+		return Objects.hash(
+			this.type,
+			this.min,
+			this.max,
+			this.mean,
+			this.standardDeviation,
+			this.median,
+			this.sigma,
+			this.percentiles);
+	}
+}
@@ -26,9 +26,11 @@ import software.xdev.mockserver.model.RequestDefinition;
 
 public class LogEventRequestAndResponseDTO extends ObjectWithJsonToString implements DTO<LogEventRequestAndResponse>
 {
+	private Long sequence;
 	private String timestamp;
 	private RequestDefinitionDTO httpRequest;
 	private HttpResponseDTO httpResponse;
+	private String expectationId;
 	
 	public LogEventRequestAndResponseDTO()
 	{
@@ -48,7 +50,9 @@ public class LogEventRequestAndResponseDTO extends ObjectWithJsonToString implem
 			{
 				this.httpResponse = new HttpResponseDTO(httpResponse);
 			}
+			this.sequence = httpRequestAndHttpResponse.getSequence();
 			this.timestamp = httpRequestAndHttpResponse.getTimestamp();
+			this.expectationId = httpRequestAndHttpResponse.getExpectationId();
 		}
 	}
 	
@@ -68,7 +72,19 @@ public class LogEventRequestAndResponseDTO extends ObjectWithJsonToString implem
 		return new LogEventRequestAndResponse()
 			.withHttpRequest(httpRequest)
 			.withHttpResponse(httpResponse)
-			.withTimestamp(this.timestamp);
+			.withSequence(this.sequence)
+			.withTimestamp(this.timestamp)
+			.withExpectationId(this.expectationId);
+	}
+	
+	public Long getSequence()
+	{
+		return this.sequence;
+	}
+	
+	public void setSequence(final Long sequence)
+	{
+		this.sequence = sequence;
 	}
 	
 	public String getTimestamp()
@@ -101,6 +117,16 @@ public class LogEventRequestAndResponseDTO extends ObjectWithJsonToString implem
 		this.httpResponse = httpResponse;
 	}
 	
+	public String getExpectationId()
+	{
+		return this.expectationId;
+	}
+	
+	public void setExpectationId(final String expectationId)
+	{
+		this.expectationId = expectationId;
+	}
+	
 	@Override
 	public boolean equals(final Object o)
 	{
@@ -112,14 +138,21 @@ public class LogEventRequestAndResponseDTO extends ObjectWithJsonToString implem
 		{
 			return false;
 		}
-		return Objects.equals(this.getTimestamp(), that.getTimestamp())
+		return Objects.equals(this.getSequence(), that.getSequence())
+			&& Objects.equals(this.getTimestamp(), that.getTimestamp())
 			&& Objects.equals(this.getHttpRequest(), that.getHttpRequest())
-			&& Objects.equals(this.getHttpResponse(), that.getHttpResponse());
+			&& Objects.equals(this.getHttpResponse(), that.getHttpResponse())
+			&& Objects.equals(this.getExpectationId(), that.getExpectationId());
 	}
 	
 	@Override
 	public int hashCode()
 	{
-		return Objects.hash(this.getTimestamp(), this.getHttpRequest(), this.getHttpResponse());
+		return Objects.hash(
+			this.getSequence(),
+			this.getTimestamp(),
+			this.getHttpRequest(),
+			this.getHttpResponse(),
+			this.getExpectationId());
 	}
 }
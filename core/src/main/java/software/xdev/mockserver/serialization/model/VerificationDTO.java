@@ -32,6 +32,7 @@ public class VerificationDTO extends ObjectWithJsonToString implements DTO<Verif
 	private ExpectationId expectationId;
 	private VerificationTimesDTO times;
 	private Integer maximumNumberOfRequestToReturnInVerificationFailure;
+	private Long timeoutInMillis;
 	
 	public VerificationDTO(final Verification verification)
 	{
@@ -45,6 +46,7 @@ public class VerificationDTO extends ObjectWithJsonToString implements DTO<Verif
 			this.times = new VerificationTimesDTO(verification.getTimes());
 			this.maximumNumberOfRequestToReturnInVerificationFailure =
 				verification.getMaximumNumberOfRequestToReturnInVerificationFailure();
+			this.timeoutInMillis = verification.getTimeoutInMillis();
 		}
 	}
 	
@@ -60,7 +62,8 @@ public class VerificationDTO extends ObjectWithJsonToString implements DTO<Verif
 			.withExpectationId(this.expectationId)
 			.withTimes(this.times != null ? this.times.buildObject() : once())
 			.withMaximumNumberOfRequestToReturnInVerificationFailure(
-				this.maximumNumberOfRequestToReturnInVerificationFailure);
+				this.maximumNumberOfRequestToReturnInVerificationFailure)
+			.withTimeoutInMillis(this.timeoutInMillis);
 	}
 	
 	public RequestDefinitionDTO getHttpRequest()
@@ -108,6 +111,17 @@ public class VerificationDTO extends ObjectWithJsonToString implements DTO<Verif
 		return this;
 	}
 	
+	public Long getTimeoutInMillis()
+	{
+		return this.timeoutInMillis;
+	}
+	
+	public VerificationDTO setTimeoutInMillis(final Long timeoutInMillis)
+	{
+		this.timeoutInMillis = timeoutInMillis;
+		return this;
+	}
+	
 	@Override
 	public boolean equals(final Object o)
 	{
@@ -123,7 +137,9 @@ public class VerificationDTO extends ObjectWithJsonToString implements DTO<Verif
 			this.getExpectationId(),
 			that.getExpectationId()) && Objects.equals(this.getTimes(), that.getTimes()) && Objects.equals(
 			this.getMaximumNumberOfRequestToReturnInVerificationFailure(),
-			that.getMaximumNumberOfRequestToReturnInVerificationFailure());
+			that.getMaximumNumberOfRequestToReturnInVerificationFailure()) && Objects.equals(
+			this.getTimeoutInMillis(),
+			that.getTimeoutInMillis());
 	}
 	
 	@Override
@@ -133,6 +149,7 @@ public class VerificationDTO extends ObjectWithJsonToString implements DTO<Verif
 			this.getHttpRequest(),
 			this.getExpectationId(),
 			this.getTimes(),
-			this.getMaximumNumberOfRequestToReturnInVerificationFailure());
+			this.getMaximumNumberOfRequestToReturnInVerificationFailure(),
+			this.getTimeoutInMillis());
 	}
 }
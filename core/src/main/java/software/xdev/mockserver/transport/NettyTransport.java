@@ -0,0 +1,220 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.transport;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.IoEventLoopGroup;
+import io.netty.channel.IoHandler;
+import io.netty.channel.IoHandlerFactory;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+
+/**
+ * The Netty transport used for event loops and sockets. The native transports are loaded reflectively, so they are
+ * only used if the matching netty-transport-native-* library is on the classpath and supported by the operating
+ * system, otherwise NIO is used.
+ */
+public enum NettyTransport
+{
+	/**
+	 * epoll if available, then io_uring if available, otherwise NIO
+	 */
+	AUTO(null, null, null, null),
+	NIO(
+		null,
+		NioIoHandler.class.getName(),
+		NioSocketChannel.class.getName(),
+		NioServerSocketChannel.class.getName()),
+	EPOLL(
+		"io.netty.channel.epoll.Epoll",
+		"io.netty.channel.epoll.EpollIoHandler",
+		"io.netty.channel.epoll.EpollSocketChannel",
+		"io.netty.channel.epoll.EpollServerSocketChannel"),
+	IO_URING(
+		"io.netty.channel.uring.IoUring",
+		"io.netty.channel.uring.IoUringIoHandler",
+		"io.netty.channel.uring.IoUringSocketChannel",
+		"io.netty.channel.uring.IoUringServerSocketChannel");
+	
+	private static final Logger LOG = LoggerFactory.getLogger(NettyTransport.class);
+	private static final Map<NettyTransport, Boolean> AVAILABLE = new ConcurrentHashMap<>();
+	private static final Set<NettyTransport> UNAVAILABLE_WARNED = ConcurrentHashMap.newKeySet();
+	
+	private final String availabilityClassName;
+	private final String ioHandlerClassName;
+	private final String socketChannelClassName;
+	private final String serverSocketChannelClassName;
+	
+	NettyTransport(
+		final String availabilityClassName,
+		final String ioHandlerClassName,
+		final String socketChannelClassName,
+		final String serverSocketChannelClassName)
+	{
+		this.availabilityClassName = availabilityClassName;
+		this.ioHandlerClassName = ioHandlerClassName;
+		this.socketChannelClassName = socketChannelClassName;
+		this.serverSocketChannelClassName = serverSocketChannelClassName;
+	}
+	
+	/**
+	 * Resolves AUTO and native transports that are not available to the transport that will be used
+	 */
+	public static NettyTransport select(final NettyTransport transport)
+	{
+		if(transport == null || transport == AUTO)
+		{
+			if(EPOLL.isAvailable())
+			{
+				return EPOLL;
+			}
+			return IO_URING.isAvailable() ? IO_URING : NIO;
+		}
+		if(!transport.isAvailable())
+		{
+			if(UNAVAILABLE_WARNED.add(transport))
+			{
+				LOG.warn("Netty transport {} is not available, using NIO instead", transport);
+			}
+			return NIO;
+		}
+		return transport;
+	}
+	
+	/**
+	 * The transport of an existing event loop group, so channels created for it (i.e. by clients sharing the server's
+	 * event loops) are compatible with its event loops
+	 */
+	public static NettyTransport of(final EventLoopGroup eventLoopGroup)
+	{
+		if(eventLoopGroup instanceof final IoEventLoopGroup ioEventLoopGroup)
+		{
+			for(final NettyTransport transport : new NettyTransport[]{EPOLL, IO_URING})
+			{
+				if(transport.isAvailable() && ioEventLoopGroup.isIoType(transport.ioHandlerClass()))
+				{
+					return transport;
+				}
+			}
+		}
+		return NIO;
+	}
+	
+	public boolean isAvailable()
+	{
+		if(this == NIO)
+		{
+			return true;
+		}
+		if(this.availabilityClassName == null)
+		{
+			return false;
+		}
+		return AVAILABLE.computeIfAbsent(this, NettyTransport::loadAvailability);
+	}
+	
+	private static boolean loadAvailability(final NettyTransport transport)
+	{
+		try
+		{
+			return Boolean.TRUE.equals(
+				Class.forName(transport.availabilityClassName).getMethod("isAvailable").invoke(null));
+		}
+		catch(final ReflectiveOperationException | LinkageError | RuntimeException ex)
+		{
+			if(LOG.isDebugEnabled())
+			{
+				LOG.debug("Netty transport {} is not available", transport, ex);
+			}
+			return false;
+		}
+	}
+	
+	/**
+	 * If server sockets of this transport support SO_REUSEPORT, so a port can be bound by several server sockets
+	 */
+	public boolean isReusePortSupported()
+	{
+		return this == EPOLL || this == IO_URING;
+	}
+	
+	public MultiThreadIoEventLoopGroup newEventLoopGroup(final int threadCount, final ThreadFactory threadFactory)
+	{
+		return new MultiThreadIoEventLoopGroup(threadCount, threadFactory, this.ioHandlerFactory());
+	}
+	
+	public IoHandlerFactory ioHandlerFactory()
+	{
+		if(this == NIO)
+		{
+			return NioIoHandler.newFactory();
+		}
+		try
+		{
+			return (IoHandlerFactory)this.ioHandlerClass().getMethod("newFactory").invoke(null);
+		}
+		catch(final ReflectiveOperationException ex)
+		{
+			throw new IllegalStateException("Failed to create io handler factory for Netty transport " + this, ex);
+		}
+	}
+	
+	public Class<? extends SocketChannel> socketChannelClass()
+	{
+		return this == NIO ? NioSocketChannel.class : this.loadClass(this.socketChannelClassName, SocketChannel.class);
+	}
+	
+	public Class<? extends ServerSocketChannel> serverSocketChannelClass()
+	{
+		return this == NIO
+			? NioServerSocketChannel.class
+			: this.loadClass(this.serverSocketChannelClassName, ServerSocketChannel.class);
+	}
+	
+	private Class<? extends IoHandler> ioHandlerClass()
+	{
+		return this.loadClass(this.ioHandlerClassName, IoHandler.class);
+	}
+	
+	private <T> Class<? extends T> loadClass(final String className, final Class<T> type)
+	{
+		if(className == null)
+		{
+			throw new IllegalStateException("Netty transport " + this + " must be selected before it is used");
+		}
+		try
+		{
+			return Class.forName(className).asSubclass(type);
+		}
+		catch(final ClassNotFoundException ex)
+		{
+			throw new IllegalStateException("Netty transport " + this + " is not on the classpath", ex);
+		}
+	}
+}
@@ -28,6 +28,7 @@ public class Verification extends ObjectWithJsonToString
 	private ExpectationId expectationId;
 	private VerificationTimes times = VerificationTimes.atLeast(1);
 	private Integer maximumNumberOfRequestToReturnInVerificationFailure;
+	private Long timeoutInMillis;
 	
 	public static Verification verification()
 	{
@@ -79,6 +80,21 @@ public class Verification extends ObjectWithJsonToString
 		return this;
 	}
 	
+	public Long getTimeoutInMillis()
+	{
+		return this.timeoutInMillis;
+	}
+	
+	/**
+	 * Waits up to the timeout for the requests to be received, the verification completes as soon as the times are
+	 * satisfied and only fails once the timeout has passed
+	 */
+	public Verification withTimeoutInMillis(final Long timeoutInMillis)
+	{
+		this.timeoutInMillis = timeoutInMillis;
+		return this;
+	}
+	
 	@Override
 	public boolean equals(final Object o)
 	{
@@ -94,7 +110,9 @@ public class Verification extends ObjectWithJsonToString
 			this.getExpectationId(),
 			that.getExpectationId()) && Objects.equals(this.getTimes(), that.getTimes()) && Objects.equals(
 			this.getMaximumNumberOfRequestToReturnInVerificationFailure(),
-			that.getMaximumNumberOfRequestToReturnInVerificationFailure());
+			that.getMaximumNumberOfRequestToReturnInVerificationFailure()) && Objects.equals(
+			this.getTimeoutInMillis(),
+			that.getTimeoutInMillis());
 	}
 	
 	@Override
@@ -104,6 +122,7 @@ public class Verification extends ObjectWithJsonToString
 			this.getHttpRequest(),
 			this.getExpectationId(),
 			this.getTimes(),
-			this.getMaximumNumberOfRequestToReturnInVerificationFailure());
+			this.getMaximumNumberOfRequestToReturnInVerificationFailure(),
+			this.getTimeoutInMillis());
 	}
 }
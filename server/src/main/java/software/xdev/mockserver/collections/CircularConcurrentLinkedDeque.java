@@ -16,8 +16,10 @@
 package software.xdev.mockserver.collections;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 
 public class CircularConcurrentLinkedDeque<E> extends ConcurrentLinkedDeque<E>
@@ -116,6 +118,55 @@ public class CircularConcurrentLinkedDeque<E> extends ConcurrentLinkedDeque<E>
 		return super.remove(o);
 	}
 	
+	/**
+	 * Removes all matching elements in a single pass, which is much cheaper than removing each element individually
+	 * with {@link #removeItem(Object)} as that has to search for each element
+	 *
+	 * @return the number of elements removed
+	 */
+	public int removeMatching(final Predicate<? super E> predicate)
+	{
+		int removed = 0;
+		final Iterator<E> iterator = this.iterator();
+		while(iterator.hasNext())
+		{
+			final E element = iterator.next();
+			if(predicate.test(element))
+			{
+				iterator.remove();
+				if(this.onEvictCallback != null)
+				{
+					this.onEvictCallback.accept(element);
+				}
+				removed++;
+			}
+		}
+		return removed;
+	}
+	
+	/**
+	 * Evicts elements from the head (i.e. the oldest elements) for as long as they match, so only the elements up to
+	 * the first non-matching element are examined
+	 *
+	 * @return the number of elements evicted
+	 */
+	public int evictWhile(final Predicate<? super E> predicate)
+	{
+		int evicted = 0;
+		E head = this.peekFirst();
+		while(head != null && predicate.test(head))
+		{
+			final E element = this.pollFirst();
+			if(element != null && this.onEvictCallback != null)
+			{
+				this.onEvictCallback.accept(element);
+			}
+			evicted++;
+			head = this.peekFirst();
+		}
+		return evicted;
+	}
+	
 	public boolean removeItem(final E e)
 	{
 		if(this.onEvictCallback != null)
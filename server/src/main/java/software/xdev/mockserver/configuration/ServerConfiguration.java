@@ -15,6 +15,7 @@
  */
 package software.xdev.mockserver.configuration;
 
+import software.xdev.mockserver.event.EventBackpressurePolicy;
 import software.xdev.mockserver.model.BinaryProxyListener;
 
 
@@ -28,18 +29,30 @@ public class ServerConfiguration extends Configuration
 	
 	// logging
 	private Boolean detailedMatchFailures;
+	private Integer eventLogSampleRate;
+	private Integer eventLogMaxBodySize;
+	private Boolean asynchronousLogging;
+	private Integer asynchronousLoggingQueueSize;
 	
 	private Integer maxExpectations;
 	private Integer maxLogEntries;
+	private Integer maxLogEntryAgeInSeconds;
+	private Integer maxEventSubscriptionBufferSize;
+	private String eventLogArchiveDirectory;
 	
 	// scalability
 	private Integer nioEventLoopThreadCount;
 	private Integer actionHandlerThreadCount;
+	private Boolean actionHandlerVirtualThreads;
 	private Boolean matchersFailFast;
+	private Integer eventLogShards;
+	private EventBackpressurePolicy eventLogBackpressurePolicy;
+	private Long eventLogBackpressureTimeoutInMillis;
 	
 	// socket
 	private Boolean alwaysCloseSocketConnections;
 	private String localBoundIP;
+	private Integer acceptorsPerPort;
 	
 	// http request parsing
 	private Integer maxInitialLineLength;
@@ -94,6 +107,113 @@ public class ServerConfiguration extends Configuration
 		return this;
 	}
 	
+	public Integer eventLogSampleRate()
+	{
+		if(this.eventLogSampleRate == null)
+		{
+			return ServerConfigurationProperties.eventLogSampleRate();
+		}
+		return this.eventLogSampleRate;
+	}
+	
+	/**
+	 * <p>
+	 * Only 1 in N received requests is recorded in the event log, i.e. for load tests where not every request needs to
+	 * be logged.  Requests that are not recorded can't be retrieved or verified.
+	 * </p>
+	 * <p>
+	 * The default is 1 (every request is recorded)
+	 * </p>
+	 *
+	 * @param eventLogSampleRate record 1 in N received requests
+	 */
+	public ServerConfiguration eventLogSampleRate(final Integer eventLogSampleRate)
+	{
+		this.eventLogSampleRate = eventLogSampleRate;
+		return this;
+	}
+	
+	public Integer eventLogMaxBodySize()
+	{
+		if(this.eventLogMaxBodySize == null)
+		{
+			return ServerConfigurationProperties.eventLogMaxBodySize();
+		}
+		return this.eventLogMaxBodySize;
+	}
+	
+	/**
+	 * <p>
+	 * Maximum number of bytes of the body of a received request that is recorded in the event log, larger bodies are
+	 * truncated.  Use 0 to only record the metadata (i.e. method, path, headers) of received requests without any
+	 * body.  Matching and the response are not affected, only the recorded request.
+	 * </p>
+	 * <p>
+	 * The default is -1 (bodies are recorded completely)
+	 * </p>
+	 *
+	 * @param eventLogMaxBodySize maximum number of body bytes recorded, 0 for no body, -1 for no limit
+	 */
+	public ServerConfiguration eventLogMaxBodySize(final Integer eventLogMaxBodySize)
+	{
+		this.eventLogMaxBodySize = eventLogMaxBodySize;
+		return this;
+	}
+	
+	public Boolean asynchronousLogging()
+	{
+		if(this.asynchronousLogging == null)
+		{
+			return ServerConfigurationProperties.asynchronousLogging();
+		}
+		return this.asynchronousLogging;
+	}
+	
+	/**
+	 * <p>
+	 * If true received requests, responses and forwarded requests are logged on a dedicated logging thread so they are
+	 * only rendered as JSON on that thread and not on the thread handling the request.  As rendering is deferred the
+	 * logged state is the state of the objects when the log message is written and log messages are dropped once the
+	 * queue is full.
+	 * </p>
+	 * <p>
+	 * The default is false (log messages are written on the thread handling the request)
+	 * </p>
+	 *
+	 * @param asynchronousLogging log asynchronously on a dedicated logging thread
+	 */
+	public ServerConfiguration asynchronousLogging(final Boolean asynchronousLogging)
+	{
+		this.asynchronousLogging = asynchronousLogging;
+		return this;
+	}
+	
+	public Integer asynchronousLoggingQueueSize()
+	{
+		if(this.asynchronousLoggingQueueSize == null)
+		{
+			return ServerConfigurationProperties.asynchronousLoggingQueueSize();
+		}
+		return this.asynchronousLoggingQueueSize;
+	}
+	
+	/**
+	 * <p>
+	 * Maximum number of log messages waiting to be written by the asynchronous logging thread, when the queue is full
+	 * further log messages are dropped and the number of dropped messages is logged.
+	 * </p>
+	 * <p>
+	 * The default is 10000
+	 * </p>
+	 *
+	 * @param asynchronousLoggingQueueSize maximum number of queued log messages
+	 */
+	public ServerConfiguration asynchronousLoggingQueueSize(final Integer asynchronousLoggingQueueSize)
+	{
+		this.asynchronousLoggingQueueSize = asynchronousLoggingQueueSize;
+		return this;
+	}
+	
 	public Integer maxExpectations()
 	{
 		if(this.maxExpectations == null)
@@ -147,6 +267,84 @@ public class ServerConfiguration extends Configuration
 		return this;
 	}
 	
+	public Integer maxLogEntryAgeInSeconds()
+	{
+		if(this.maxLogEntryAgeInSeconds == null)
+		{
+			return ServerConfigurationProperties.maxLogEntryAgeInSeconds();
+		}
+		return this.maxLogEntryAgeInSeconds;
+	}
+	
+	/**
+	 * <p>
+	 * Maximum age of log entries, older log entries are evicted in bulk (every tenth of the maximum age, but at most
+	 * once a second) independent of maxLogEntries, so for example only the last 10 minutes are kept
+	 * </p>
+	 * <p>
+	 * The default is 0 (log entries are only evicted once maxLogEntries is reached)
+	 * </p>
+	 *
+	 * @param maxLogEntryAgeInSeconds maximum age of log entries in seconds, 0 to disable time based retention
+	 */
+	public ServerConfiguration maxLogEntryAgeInSeconds(final Integer maxLogEntryAgeInSeconds)
+	{
+		this.maxLogEntryAgeInSeconds = maxLogEntryAgeInSeconds;
+		return this;
+	}
+	
+	public Integer maxEventSubscriptionBufferSize()
+	{
+		if(this.maxEventSubscriptionBufferSize == null)
+		{
+			return ServerConfigurationProperties.maxEventSubscriptionBufferSize();
+		}
+		return this.maxEventSubscriptionBufferSize;
+	}
+	
+	/**
+	 * <p>
+	 * Maximum number of events buffered for each live event subscription (web socket) that have not yet been written
+	 * to the subscriber.  Once this limit is reached further events for that subscriber are dropped and counted.
+	 * </p>
+	 * <p>
+	 * The default is 1000
+	 * </p>
+	 *
+	 * @param maxEventSubscriptionBufferSize maximum number of events buffered per subscriber
+	 */
+	public ServerConfiguration maxEventSubscriptionBufferSize(final Integer maxEventSubscriptionBufferSize)
+	{
+		this.maxEventSubscriptionBufferSize = maxEventSubscriptionBufferSize;
+		return this;
+	}
+	
+	public String eventLogArchiveDirectory()
+	{
+		if(this.eventLogArchiveDirectory == null)
+		{
+			return ServerConfigurationProperties.eventLogArchiveDirectory();
+		}
+		return this.eventLogArchiveDirectory;
+	}
+	
+	/**
+	 * <p>
+	 * Directory the event log is exported to and imported from (PUT /mockserver/export and /mockserver/import), paths
+	 * outside of this directory are rejected.
+	 * </p>
+	 * <p>
+	 * The default is the java.io.tmpdir system property
+	 * </p>
+	 *
+	 * @param eventLogArchiveDirectory directory for event log exports and imports
+	 */
+	public ServerConfiguration eventLogArchiveDirectory(final String eventLogArchiveDirectory)
+	{
+		this.eventLogArchiveDirectory = eventLogArchiveDirectory;
+		return this;
+	}
+	
 	public Integer nioEventLoopThreadCount()
 	{
 		if(this.nioEventLoopThreadCount == null)
@@ -198,6 +396,34 @@ public class ServerConfiguration extends Configuration
 		return this;
 	}
 	
+	public Boolean actionHandlerVirtualThreads()
+	{
+		if(this.actionHandlerVirtualThreads == null)
+		{
+			return ServerConfigurationProperties.actionHandlerVirtualThreads();
+		}
+		return this.actionHandlerVirtualThreads;
+	}
+	
+	/**
+	 * <p>
+	 * If true action handlers and class callbacks are run on virtual threads (one per action) instead of the action
+	 * handler thread pool, so blocking class callbacks don't occupy event loop or pool threads while they wait. Delays
+	 * are still timed by the scheduler's timer. Requires a Java runtime that supports virtual threads (Java 21+),
+	 * otherwise the action handler thread pool is used.
+	 * </p>
+	 * <p>
+	 * Default is false
+	 * </p>
+	 *
+	 * @param actionHandlerVirtualThreads run action handlers and class callbacks on virtual threads
+	 */
+	public ServerConfiguration actionHandlerVirtualThreads(final Boolean actionHandlerVirtualThreads)
+	{
+		this.actionHandlerVirtualThreads = actionHandlerVirtualThreads;
+		return this;
+	}
+	
 	public Boolean matchersFailFast()
 	{
 		if(this.matchersFailFast == null)
@@ -220,6 +446,92 @@ public class ServerConfiguration extends Configuration
 		return this;
 	}
 	
+	public Integer eventLogShards()
+	{
+		if(this.eventLogShards == null)
+		{
+			return ServerConfigurationProperties.eventLogShards();
+		}
+		return this.eventLogShards;
+	}
+	
+	/**
+	 * <p>
+	 * Number of shards the event log is split into, each shard has its own ring buffer and thread that request threads
+	 * publish log events to (chosen by thread), so under high concurrency they don't all contend on a single ring
+	 * buffer.  The shards are merged by sequence when the event log is read.  A good value is the number of event loop
+	 * or action handler threads.
+	 * </p>
+	 * <p>
+	 * The maximum number of log entries is split evenly between the shards and each shard evicts its own oldest log
+	 * entries, so if most requests are handled by the same thread (i.e. all connections are on the same event loop)
+	 * only about maxLogEntries / eventLogShards of them are retained.
+	 * </p>
+	 * <p>
+	 * The default is 1 (a single event log ring buffer)
+	 * </p>
+	 *
+	 * @param eventLogShards number of event log shards
+	 */
+	public ServerConfiguration eventLogShards(final Integer eventLogShards)
+	{
+		this.eventLogShards = eventLogShards;
+		return this;
+	}
+	
+	public EventBackpressurePolicy eventLogBackpressurePolicy()
+	{
+		if(this.eventLogBackpressurePolicy == null)
+		{
+			return ServerConfigurationProperties.eventLogBackpressurePolicy();
+		}
+		return this.eventLogBackpressurePolicy;
+	}
+	
+	/**
+	 * <p>
+	 * What to do with a log event when the event log ring buffer is full: DROP drops and counts it, BLOCK waits for
+	 * at most eventLogBackpressureTimeoutInMillis for space (i.e. for verification critical tests) and SPILL adds it
+	 * to an overflow queue that is moved into the ring buffer once it has space.
+	 * </p>
+	 * <p>
+	 * The default is DROP
+	 * </p>
+	 *
+	 * @param eventLogBackpressurePolicy the event log backpressure policy
+	 */
+	public ServerConfiguration eventLogBackpressurePolicy(final EventBackpressurePolicy eventLogBackpressurePolicy)
+	{
+		this.eventLogBackpressurePolicy = eventLogBackpressurePolicy;
+		return this;
+	}
+	
+	public Long eventLogBackpressureTimeoutInMillis()
+	{
+		if(this.eventLogBackpressureTimeoutInMillis == null)
+		{
+			return ServerConfigurationProperties.eventLogBackpressureTimeoutInMillis();
+		}
+		return this.eventLogBackpressureTimeoutInMillis;
+	}
+	
+	/**
+	 * <p>
+	 * Maximum time a request thread waits for space in the event log ring buffer with the BLOCK backpressure policy,
+	 * after which the log event is dropped.
+	 * </p>
+	 * <p>
+	 * The default is 1000
+	 * </p>
+	 *
+	 * @param eventLogBackpressureTimeoutInMillis maximum time to wait for space in the event log ring buffer
+	 */
+	public ServerConfiguration eventLogBackpressureTimeoutInMillis(final Long eventLogBackpressureTimeoutInMillis)
+	{
+		this.eventLogBackpressureTimeoutInMillis = eventLogBackpressureTimeoutInMillis;
+		return this;
+	}
+	
 	public Boolean alwaysCloseSocketConnections()
 	{
 		if(this.alwaysCloseSocketConnections == null)
@@ -265,6 +577,34 @@ public class ServerConfiguration extends Configuration
 		return this;
 	}
 	
+	public Integer acceptorsPerPort()
+	{
+		if(this.acceptorsPerPort == null)
+		{
+			return ServerConfigurationProperties.acceptorsPerPort();
+		}
+		return this.acceptorsPerPort;
+	}
+	
+	/**
+	 * <p>
+	 * Number of server sockets each port is bound with (using SO_REUSEPORT), each accepts connections on its own boss
+	 * event loop and the kernel distributes new connections between them, which helps when many short-lived
+	 * connections are opened. Only supported by the native transports (EPOLL or IO_URING), with NIO each port is bound
+	 * once. Note that with SO_REUSEPORT another process of the same user can bind the same port without failing.
+	 * </p>
+	 * <p>
+	 * Default is 1
+	 * </p>
+	 *
+	 * @param acceptorsPerPort number of server sockets each port is bound with
+	 */
+	public ServerConfiguration acceptorsPerPort(final Integer acceptorsPerPort)
+	{
+		this.acceptorsPerPort = acceptorsPerPort;
+		return this;
+	}
+	
 	public Integer maxInitialLineLength()
 	{
 		if(this.maxInitialLineLength == null)
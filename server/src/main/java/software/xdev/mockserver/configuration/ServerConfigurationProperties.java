@@ -31,6 +31,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
 
+import software.xdev.mockserver.event.EventBackpressurePolicy;
+
 
 @SuppressWarnings({"checkstyle:MagicNumber", "PMD.GodClass"})
 public class ServerConfigurationProperties extends ConfigurationProperties
@@ -44,19 +46,33 @@ public class ServerConfigurationProperties extends ConfigurationProperties
 	private static final String MOCKSERVER_DISABLE_SYSTEM_OUT = "mockserver.disableSystemOut";
 	private static final String MOCKSERVER_DISABLE_LOGGING = "mockserver.disableLogging";
 	private static final String MOCKSERVER_DETAILED_MATCH_FAILURES = "mockserver.detailedMatchFailures";
+	private static final String MOCKSERVER_EVENT_LOG_SAMPLE_RATE = "mockserver.eventLogSampleRate";
+	private static final String MOCKSERVER_EVENT_LOG_MAX_BODY_SIZE = "mockserver.eventLogMaxBodySize";
+	private static final String MOCKSERVER_ASYNCHRONOUS_LOGGING = "mockserver.asynchronousLogging";
+	private static final String MOCKSERVER_ASYNCHRONOUS_LOGGING_QUEUE_SIZE = "mockserver.asynchronousLoggingQueueSize";
 	
 	// memory usage
 	private static final String MOCKSERVER_MAX_EXPECTATIONS = "mockserver.maxExpectations";
 	private static final String MOCKSERVER_MAX_LOG_ENTRIES = "mockserver.maxLogEntries";
+	private static final String MOCKSERVER_MAX_LOG_ENTRY_AGE_IN_SECONDS = "mockserver.maxLogEntryAgeInSeconds";
+	private static final String MOCKSERVER_MAX_EVENT_SUBSCRIPTION_BUFFER_SIZE =
+		"mockserver.maxEventSubscriptionBufferSize";
+	private static final String MOCKSERVER_EVENT_LOG_ARCHIVE_DIRECTORY = "mockserver.eventLogArchiveDirectory";
 	
 	// scalability
 	private static final String MOCKSERVER_NIO_EVENT_LOOP_THREAD_COUNT = "mockserver.nioEventLoopThreadCount";
 	private static final String MOCKSERVER_ACTION_HANDLER_THREAD_COUNT = "mockserver.actionHandlerThreadCount";
+	private static final String MOCKSERVER_ACTION_HANDLER_VIRTUAL_THREADS = "mockserver.actionHandlerVirtualThreads";
 	private static final String MOCKSERVER_MATCHERS_FAIL_FAST = "mockserver.matchersFailFast";
+	private static final String MOCKSERVER_EVENT_LOG_SHARDS = "mockserver.eventLogShards";
+	private static final String MOCKSERVER_EVENT_LOG_BACKPRESSURE_POLICY = "mockserver.eventLogBackpressurePolicy";
+	private static final String MOCKSERVER_EVENT_LOG_BACKPRESSURE_TIMEOUT =
+		"mockserver.eventLogBackpressureTimeoutInMillis";
 	
 	// socket
 	private static final String MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS = "mockserver.alwaysCloseSocketConnections";
 	private static final String MOCKSERVER_LOCAL_BOUND_IP = "mockserver.localBoundIP";
+	private static final String MOCKSERVER_ACCEPTORS_PER_PORT = "mockserver.acceptorsPerPort";
 	
 	// http request parsing
 	private static final String MOCKSERVER_MAX_INITIAL_LINE_LENGTH = "mockserver.maxInitialLineLength";
@@ -284,6 +300,100 @@ public class ServerConfigurationProperties extends ConfigurationProperties
 		setProperty(MOCKSERVER_DETAILED_MATCH_FAILURES, String.valueOf(enable));
 	}
 	
+	public static int eventLogSampleRate()
+	{
+		return readIntegerProperty(MOCKSERVER_EVENT_LOG_SAMPLE_RATE, "MOCKSERVER_EVENT_LOG_SAMPLE_RATE", 1);
+	}
+	
+	/**
+	 * <p>
+	 * Only 1 in N received requests is recorded in the event log, i.e. for load tests where not every request needs to
+	 * be logged.  Requests that are not recorded can't be retrieved or verified.
+	 * </p>
+	 * <p>
+	 * The default is 1 (every request is recorded)
+	 * </p>
+	 *
+	 * @param rate record 1 in N received requests
+	 */
+	public static void eventLogSampleRate(final int rate)
+	{
+		setProperty(MOCKSERVER_EVENT_LOG_SAMPLE_RATE, String.valueOf(rate));
+	}
+	
+	public static int eventLogMaxBodySize()
+	{
+		return readIntegerProperty(MOCKSERVER_EVENT_LOG_MAX_BODY_SIZE, "MOCKSERVER_EVENT_LOG_MAX_BODY_SIZE", -1);
+	}
+	
+	/**
+	 * <p>
+	 * Maximum number of bytes of the body of a received request that is recorded in the event log, larger bodies are
+	 * truncated.  Use 0 to only record the metadata (i.e. method, path, headers) of received requests without any
+	 * body.  Matching and the response are not affected, only the recorded request.
+	 * </p>
+	 * <p>
+	 * The default is -1 (bodies are recorded completely)
+	 * </p>
+	 *
+	 * @param size maximum number of body bytes recorded, 0 for no body, -1 for no limit
+	 */
+	public static void eventLogMaxBodySize(final int size)
+	{
+		setProperty(MOCKSERVER_EVENT_LOG_MAX_BODY_SIZE, String.valueOf(size));
+	}
+	
+	public static boolean asynchronousLogging()
+	{
+		return Boolean.parseBoolean(readPropertyHierarchically(
+			properties,
+			MOCKSERVER_ASYNCHRONOUS_LOGGING,
+			"MOCKSERVER_ASYNCHRONOUS_LOGGING",
+			String.valueOf(false)));
+	}
+	
+	/**
+	 * <p>
+	 * If true received requests, responses and forwarded requests are logged on a dedicated logging thread so they are
+	 * only rendered as JSON on that thread and not on the thread handling the request.  As rendering is deferred the
+	 * logged state is the state of the objects when the log message is written and log messages are dropped once the
+	 * queue is full.
+	 * </p>
+	 * <p>
+	 * The default is false (log messages are written on the thread handling the request)
+	 * </p>
+	 *
+	 * @param enable log asynchronously on a dedicated logging thread
+	 */
+	public static void asynchronousLogging(final boolean enable)
+	{
+		setProperty(MOCKSERVER_ASYNCHRONOUS_LOGGING, String.valueOf(enable));
+	}
+	
+	public static int asynchronousLoggingQueueSize()
+	{
+		return readIntegerProperty(
+			MOCKSERVER_ASYNCHRONOUS_LOGGING_QUEUE_SIZE,
+			"MOCKSERVER_ASYNCHRONOUS_LOGGING_QUEUE_SIZE",
+			10000);
+	}
+	
+	/**
+	 * <p>
+	 * Maximum number of log messages waiting to be written by the asynchronous logging thread, when the queue is full
+	 * further log messages are dropped and the number of dropped messages is logged.
+	 * </p>
+	 * <p>
+	 * The default is 10000
+	 * </p>
+	 *
+	 * @param size maximum number of queued log messages
+	 */
+	public static void asynchronousLoggingQueueSize(final int size)
+	{
+		setProperty(MOCKSERVER_ASYNCHRONOUS_LOGGING_QUEUE_SIZE, String.valueOf(size));
+	}
+	
 	public static int maxExpectations()
 	{
 		return readIntegerProperty(MOCKSERVER_MAX_EXPECTATIONS, "MOCKSERVER_MAX_EXPECTATIONS", 5000);
@@ -328,6 +438,79 @@ public class ServerConfigurationProperties extends ConfigurationProperties
 		setProperty(MOCKSERVER_MAX_LOG_ENTRIES, String.valueOf(count));
 	}
 	
+	public static int maxLogEntryAgeInSeconds()
+	{
+		return readIntegerProperty(
+			MOCKSERVER_MAX_LOG_ENTRY_AGE_IN_SECONDS,
+			"MOCKSERVER_MAX_LOG_ENTRY_AGE_IN_SECONDS",
+			0);
+	}
+	
+	/**
+	 * <p>
+	 * Maximum age of log entries, older log entries are evicted in bulk (every tenth of the maximum age, but at most
+	 * once a second) independent of maxLogEntries, so for example only the last 10 minutes are kept
+	 * </p>
+	 * <p>
+	 * The default is 0 (log entries are only evicted once maxLogEntries is reached)
+	 * </p>
+	 *
+	 * @param seconds maximum age of log entries in seconds, 0 to disable time based retention
+	 */
+	public static void maxLogEntryAgeInSeconds(final int seconds)
+	{
+		setProperty(MOCKSERVER_MAX_LOG_ENTRY_AGE_IN_SECONDS, String.valueOf(seconds));
+	}
+	
+	public static int maxEventSubscriptionBufferSize()
+	{
+		return readIntegerProperty(
+			MOCKSERVER_MAX_EVENT_SUBSCRIPTION_BUFFER_SIZE,
+			"MOCKSERVER_MAX_EVENT_SUBSCRIPTION_BUFFER_SIZE",
+			1000);
+	}
+	
+	/**
+	 * <p>
+	 * Maximum number of events buffered for each live event subscription (web socket) that have not yet been written
+	 * to the subscriber.  Once this limit is reached further events for that subscriber are dropped and counted.
+	 * </p>
+	 * <p>
+	 * The default is 1000
+	 * </p>
+	 *
+	 * @param count maximum number of events buffered per subscriber
+	 */
+	public static void maxEventSubscriptionBufferSize(final int count)
+	{
+		setProperty(MOCKSERVER_MAX_EVENT_SUBSCRIPTION_BUFFER_SIZE, String.valueOf(count));
+	}
+	
+	public static String eventLogArchiveDirectory()
+	{
+		return readPropertyHierarchically(
+			properties,
+			MOCKSERVER_EVENT_LOG_ARCHIVE_DIRECTORY,
+			"MOCKSERVER_EVENT_LOG_ARCHIVE_DIRECTORY",
+			System.getProperty("java.io.tmpdir"));
+	}
+	
+	/**
+	 * <p>
+	 * Directory the event log is exported to and imported from (PUT /mockserver/export and /mockserver/import), paths
+	 * outside of this directory are rejected.
+	 * </p>
+	 * <p>
+	 * The default is the java.io.tmpdir system property
+	 * </p>
+	 *
+	 * @param directory directory for event log exports and imports
+	 */
+	public static void eventLogArchiveDirectory(final String directory)
+	{
+		setProperty(MOCKSERVER_EVENT_LOG_ARCHIVE_DIRECTORY, directory);
+	}
+	
 	// scalability
 	
 	public static int nioEventLoopThreadCount()
@@ -374,6 +557,33 @@ public class ServerConfigurationProperties extends ConfigurationProperties
 		setProperty(MOCKSERVER_ACTION_HANDLER_THREAD_COUNT, String.valueOf(count));
 	}
 	
+	public static boolean actionHandlerVirtualThreads()
+	{
+		return Boolean.parseBoolean(readPropertyHierarchically(
+			properties,
+			MOCKSERVER_ACTION_HANDLER_VIRTUAL_THREADS,
+			"MOCKSERVER_ACTION_HANDLER_VIRTUAL_THREADS",
+			String.valueOf(false)));
+	}
+	
+	/**
+	 * <p>
+	 * If true action handlers and class callbacks are run on virtual threads (one per action) instead of the action
+	 * handler thread pool, so blocking class callbacks don't occupy event loop or pool threads while they wait. Delays
+	 * are still timed by the scheduler's timer. Requires a Java runtime that supports virtual threads (Java 21+),
+	 * otherwise the action handler thread pool is used.
+	 * </p>
+	 * <p>
+	 * Default is false
+	 * </p>
+	 *
+	 * @param enable run action handlers and class callbacks on virtual threads
+	 */
+	public static void actionHandlerVirtualThreads(final boolean enable)
+	{
+		setProperty(MOCKSERVER_ACTION_HANDLER_VIRTUAL_THREADS, String.valueOf(enable));
+	}
+	
 	public static boolean matchersFailFast()
 	{
 		return Boolean.parseBoolean(readPropertyHierarchically(
@@ -395,6 +605,93 @@ public class ServerConfigurationProperties extends ConfigurationProperties
 		setProperty(MOCKSERVER_MATCHERS_FAIL_FAST, String.valueOf(enable));
 	}
 	
+	public static int eventLogShards()
+	{
+		return readIntegerProperty(MOCKSERVER_EVENT_LOG_SHARDS, "MOCKSERVER_EVENT_LOG_SHARDS", 1);
+	}
+	
+	/**
+	 * <p>
+	 * Number of shards the event log is split into, each shard has its own ring buffer and thread that request threads
+	 * publish log events to (chosen by thread), so under high concurrency they don't all contend on a single ring
+	 * buffer.  The shards are merged by sequence when the event log is read.  A good value is the number of event loop
+	 * or action handler threads.
+	 * </p>
+	 * <p>
+	 * The maximum number of log entries is split evenly between the shards and each shard evicts its own oldest log
+	 * entries, so if most requests are handled by the same thread (i.e. all connections are on the same event loop)
+	 * only about maxLogEntries / eventLogShards of them are retained.
+	 * </p>
+	 * <p>
+	 * The default is 1 (a single event log ring buffer)
+	 * </p>
+	 *
+	 * @param shards number of event log shards
+	 */
+	public static void eventLogShards(final int shards)
+	{
+		setProperty(MOCKSERVER_EVENT_LOG_SHARDS, String.valueOf(shards));
+	}
+	
+	public static EventBackpressurePolicy eventLogBackpressurePolicy()
+	{
+		final String policy = readPropertyHierarchically(
+			properties,
+			MOCKSERVER_EVENT_LOG_BACKPRESSURE_POLICY,
+			"MOCKSERVER_EVENT_LOG_BACKPRESSURE_POLICY",
+			EventBackpressurePolicy.DROP.name());
+		try
+		{
+			return EventBackpressurePolicy.valueOf(policy.trim().toUpperCase());
+		}
+		catch(final IllegalArgumentException iae)
+		{
+			LOG.error("Invalid event log backpressure policy '{}', using DROP", policy);
+			return EventBackpressurePolicy.DROP;
+		}
+	}
+	
+	/**
+	 * <p>
+	 * What to do with a log event when the event log ring buffer is full: DROP drops and counts it, BLOCK waits for
+	 * at most eventLogBackpressureTimeoutInMillis for space (i.e. for verification critical tests) and SPILL adds it
+	 * to an overflow queue that is moved into the ring buffer once it has space.
+	 * </p>
+	 * <p>
+	 * The default is DROP
+	 * </p>
+	 *
+	 * @param policy the event log backpressure policy
+	 */
+	public static void eventLogBackpressurePolicy(final EventBackpressurePolicy policy)
+	{
+		setProperty(MOCKSERVER_EVENT_LOG_BACKPRESSURE_POLICY, policy.name());
+	}
+	
+	public static long eventLogBackpressureTimeoutInMillis()
+	{
+		return readLongProperty(
+			MOCKSERVER_EVENT_LOG_BACKPRESSURE_TIMEOUT,
+			"MOCKSERVER_EVENT_LOG_BACKPRESSURE_TIMEOUT_IN_MILLIS",
+			1000L);
+	}
+	
+	/**
+	 * <p>
+	 * Maximum time a request thread waits for space in the event log ring buffer with the BLOCK backpressure policy,
+	 * after which the log event is dropped.
+	 * </p>
+	 * <p>
+	 * The default is 1000
+	 * </p>
+	 *
+	 * @param milliseconds maximum time to wait for space in the event log ring buffer
+	 */
+	public static void eventLogBackpressureTimeoutInMillis(final long milliseconds)
+	{
+		setProperty(MOCKSERVER_EVENT_LOG_BACKPRESSURE_TIMEOUT, String.valueOf(milliseconds));
+	}
+	
 	// socket
 	
 	/**
@@ -439,6 +736,29 @@ public class ServerConfigurationProperties extends ConfigurationProperties
 		}
 	}
 	
+	public static int acceptorsPerPort()
+	{
+		return readIntegerProperty(MOCKSERVER_ACCEPTORS_PER_PORT, "MOCKSERVER_ACCEPTORS_PER_PORT", 1);
+	}
+	
+	/**
+	 * <p>
+	 * Number of server sockets each port is bound with (using SO_REUSEPORT), each accepts connections on its own boss
+	 * event loop and the kernel distributes new connections between them, which helps when many short-lived
+	 * connections are opened. Only supported by the native transports (EPOLL or IO_URING), with NIO each port is bound
+	 * once. Note that with SO_REUSEPORT another process of the same user can bind the same port without failing.
+	 * </p>
+	 * <p>
+	 * Default is 1
+	 * </p>
+	 *
+	 * @param count number of server sockets each port is bound with
+	 */
+	public static void acceptorsPerPort(final int count)
+	{
+		setProperty(MOCKSERVER_ACCEPTORS_PER_PORT, String.valueOf(count));
+	}
+	
 	// http request parsing
 	
 	public static int maxInitialLineLength()
@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.event;
+
+/**
+ * What to do with a log event when the event log ring buffer is full
+ */
+public enum EventBackpressurePolicy
+{
+	/**
+	 * The log event is dropped and counted, only the first dropped log event is logged
+	 */
+	DROP,
+	/**
+	 * The request thread waits for the ring buffer to have space, for at most the backpressure timeout after which the
+	 * log event is dropped
+	 */
+	BLOCK,
+	/**
+	 * The log event is added to an overflow queue (bounded by the maximum number of log entries) that is moved into the
+	 * ring buffer once it has space, until then the log events in the overflow queue are not visible to retrievals and
+	 * verifications
+	 */
+	SPILL
+}
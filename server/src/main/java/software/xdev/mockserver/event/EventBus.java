@@ -15,6 +15,7 @@
  */
 package software.xdev.mockserver.event;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static software.xdev.mockserver.event.model.EventEntry.EventType.EXPECTATION_RESPONSE;
 import static software.xdev.mockserver.event.model.EventEntry.EventType.FORWARDED_REQUEST;
@@ -27,14 +28,20 @@ import static software.xdev.mockserver.model.HttpRequest.request;
 import static software.xdev.mockserver.util.StringUtils.isBlank;
 import static software.xdev.mockserver.util.StringUtils.isNotBlank;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -47,7 +54,6 @@ import org.slf4j.LoggerFactory;
 import com.lmax.disruptor.ExceptionHandler;
 import com.lmax.disruptor.dsl.Disruptor;
 
-import software.xdev.mockserver.collections.CircularConcurrentLinkedDeque;
 import software.xdev.mockserver.configuration.ServerConfiguration;
 import software.xdev.mockserver.event.model.EventEntry;
 import software.xdev.mockserver.event.model.RequestAndExpectationId;
@@ -59,11 +65,13 @@ import software.xdev.mockserver.model.LogEventRequestAndResponse;
 import software.xdev.mockserver.model.RequestDefinition;
 import software.xdev.mockserver.scheduler.SchedulerThreadFactory;
 import software.xdev.mockserver.serialization.RequestDefinitionSerializer;
+import software.xdev.mockserver.time.EpochService;
 import software.xdev.mockserver.uuid.UUIDService;
 import software.xdev.mockserver.verify.Verification;
 import software.xdev.mockserver.verify.VerificationSequence;
 
 
+@SuppressWarnings("PMD.GodClass")
 public class EventBus
 {
 	private static final Logger LOG = LoggerFactory.getLogger(EventBus.class);
@@ -80,6 +88,8 @@ public class EventBus
 			|| input.getType() == FORWARDED_REQUEST);
 	private static final Predicate<EventEntry> RECORDED_EXPECTATION_LOG_PREDICATE =
 		input -> !input.isDeleted() && input.getType() == FORWARDED_REQUEST;
+	private static final Predicate<EventEntry> SUBSCRIPTION_PREDICATE =
+		input -> input.getType() == RECEIVED_REQUEST || input.getType() == EXPECTATION_RESPONSE;
 	private static final Function<EventEntry, RequestDefinition[]> LOG_ENTRY_TO_REQUEST =
 		EventEntry::getHttpRequests;
 	private static final Function<EventEntry, Expectation> LOG_ENTRY_TO_EXPECTATION =
@@ -88,14 +98,41 @@ public class EventBus
 		eventEntry -> new LogEventRequestAndResponse()
 			.withHttpRequest(eventEntry.getHttpRequest())
 			.withHttpResponse(eventEntry.getHttpResponse())
-			.withTimestamp(eventEntry.getTimestamp());
+			.withSequence(eventEntry.getSequence())
+			.withTimestamp(eventEntry.getTimestamp())
+			.withExpectationId(eventEntry.getExpectationId());
+	private static final ExceptionHandler<EventSlot> EXCEPTION_HANDLER = new ExceptionHandler<>()
+	{
+		@Override
+		public void handleEventException(final Throwable ex, final long sequence, final EventSlot logEntry)
+		{
+			LOG.error("exception handling log entry in log ring buffer, for log entry: {}", logEntry, ex);
+		}
+		
+		@Override
+		public void handleOnStartException(final Throwable ex)
+		{
+			LOG.error("exception starting log ring buffer", ex);
+		}
+		
+		@Override
+		public void handleOnShutdownException(final Throwable ex)
+		{
+			LOG.error("exception during shutdown of log ring buffer", ex);
+		}
+	};
 	
 	private final ServerConfiguration configuration;
-	private final CircularConcurrentLinkedDeque<EventEntry> eventLog;
+	private final EventLog eventLog;
+	private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+	private final Map<String, EventSubscription> subscriptions = new ConcurrentHashMap<>();
+	private final Set<PendingVerification> pendingVerifications = ConcurrentHashMap.newKeySet();
 	private final MatcherBuilder matcherBuilder;
 	private final RequestDefinitionSerializer requestDefinitionSerializer;
 	private final boolean asynchronousEventProcessing;
-	private Disruptor<EventEntry> disruptor;
+	private Disruptor<EventSlot> disruptor;
+	private EventPublisher publisher;
+	private final ScheduledThreadPoolExecutor scheduledExecutor;
 	
 	public EventBus(
 		final ServerConfiguration configuration,
@@ -105,17 +142,53 @@ public class EventBus
 		this.matcherBuilder = new MatcherBuilder(configuration);
 		this.requestDefinitionSerializer = new RequestDefinitionSerializer();
 		this.asynchronousEventProcessing = asynchronousEventProcessing;
-		this.eventLog = new CircularConcurrentLinkedDeque<>(configuration.maxLogEntries(), EventEntry::clear);
+		this.eventLog = new EventLog(
+			configuration,
+			asynchronousEventProcessing ? configuration.eventLogShards() : 1,
+			EXCEPTION_HANDLER,
+			this::logEntryAppended);
+		// the thread is only started once something is scheduled
+		this.scheduledExecutor = new ScheduledThreadPoolExecutor(1, new SchedulerThreadFactory("EventLogScheduler"));
+		this.scheduledExecutor.setRemoveOnCancelPolicy(true);
 		this.startRingBuffer();
+		this.startRetention();
 	}
 	
 	public void add(final EventEntry eventEntry)
 	{
 		if(this.asynchronousEventProcessing)
 		{
-			if(!this.disruptor.getRingBuffer().tryPublishEvent(eventEntry))
+			if(this.eventLog.isSharded())
+			{
+				this.eventLog.publish(eventEntry);
+			}
+			else
+			{
+				this.publisher.publish(eventEntry);
+			}
+		}
+		else
+		{
+			this.processLogEntry(eventEntry);
+		}
+	}
+	
+	/**
+	 * Adds the log event like {@link #add(EventEntry)} but waits for space in the ring buffer whatever the
+	 * backpressure policy, so no log event is dropped, for bulk producers (such as an import) that are not on the
+	 * event loop
+	 */
+	public void addWaiting(final EventEntry eventEntry)
+	{
+		if(this.asynchronousEventProcessing)
+		{
+			if(this.eventLog.isSharded())
+			{
+				this.eventLog.publishWaiting(eventEntry);
+			}
+			else
 			{
-				LOG.warn("Too many log events failed to add log event to ring buffer: {}", eventEntry);
+				this.publisher.publishWaiting(eventEntry);
 			}
 		}
 		else
@@ -129,37 +202,44 @@ public class EventBus
 		return this.eventLog.size();
 	}
 	
+	/**
+	 * @return number of log events published to the event log ring buffers
+	 */
+	public long getPublishedEvents()
+	{
+		return this.publisher.getPublished() + this.eventLog.sumOfShardPublishers(EventPublisher::getPublished);
+	}
+	
+	/**
+	 * @return number of log events dropped as the event log ring buffer was full
+	 * @see ServerConfiguration#eventLogBackpressurePolicy(EventBackpressurePolicy)
+	 */
+	public long getDroppedEvents()
+	{
+		return this.publisher.getDropped() + this.eventLog.sumOfShardPublishers(EventPublisher::getDropped);
+	}
+	
+	/**
+	 * @return number of log events that were blocked or spilled as the event log ring buffer was full
+	 * @see ServerConfiguration#eventLogBackpressurePolicy(EventBackpressurePolicy)
+	 */
+	public long getDelayedEvents()
+	{
+		return this.publisher.getDelayed() + this.eventLog.sumOfShardPublishers(EventPublisher::getDelayed);
+	}
+	
 	private void startRingBuffer()
 	{
 		this.disruptor =
 			new Disruptor<>(
-				EventEntry::new,
+				EventSlot::new,
 				this.configuration.ringBufferSize(),
 				new SchedulerThreadFactory("EventLog"));
+		this.disruptor.setDefaultExceptionHandler(EXCEPTION_HANDLER);
+		this.publisher = new EventPublisher(this.disruptor.getRingBuffer(), this.configuration);
 		
-		final ExceptionHandler<EventEntry> errorHandler = new ExceptionHandler<>()
-		{
-			@Override
-			public void handleEventException(final Throwable ex, final long sequence, final EventEntry logEntry)
-			{
-				LOG.error("exception handling log entry in log ring buffer, for log entry: {}", logEntry, ex);
-			}
-			
-			@Override
-			public void handleOnStartException(final Throwable ex)
-			{
-				LOG.error("exception starting log ring buffer", ex);
-			}
-			
-			@Override
-			public void handleOnShutdownException(final Throwable ex)
-			{
-				LOG.error("exception during shutdown of log ring buffer", ex);
-			}
-		};
-		this.disruptor.setDefaultExceptionHandler(errorHandler);
-		
-		this.disruptor.handleEventsWith((eventEntry, sequence, endOfBatch) -> {
+		this.disruptor.handleEventsWith((slot, sequence, endOfBatch) -> {
+			final EventEntry eventEntry = slot.get();
 			if(eventEntry.getType() != RUNNABLE)
 			{
 				this.processLogEntry(eventEntry);
@@ -167,22 +247,122 @@ public class EventBus
 			else
 			{
 				eventEntry.getConsumer().run();
-				eventEntry.clear();
+			}
+			slot.clear();
+			if(endOfBatch)
+			{
+				this.publisher.drainOverflow();
 			}
 		});
 		
 		this.disruptor.start();
 	}
 	
+	/**
+	 * Log entries older than maxLogEntryAgeInSeconds are evicted in bulk segments, i.e. every tenth of the maximum age
+	 * (but at most once a second) all expired entries are evicted from the head of the log, instead of checking the
+	 * age on every append. This also evicts entries when no further entries are added.
+	 */
+	@SuppressWarnings("checkstyle:MagicNumber")
+	private void startRetention()
+	{
+		final long maxAgeInMillis = SECONDS.toMillis(this.configuration.maxLogEntryAgeInSeconds());
+		if(maxAgeInMillis > 0)
+		{
+			final long segmentInMillis = Math.max(1000, maxAgeInMillis / 10);
+			this.scheduledExecutor.scheduleAtFixedRate(
+				() -> EventSlot.tryPublish(this.disruptor.getRingBuffer(), new EventEntry()
+					.setType(RUNNABLE)
+					.setConsumer(() -> this.evictExpired(maxAgeInMillis))),
+				segmentInMillis,
+				segmentInMillis,
+				MILLISECONDS);
+		}
+	}
+	
+	private void evictExpired(final long maxAgeInMillis)
+	{
+		final long cutOff = EpochService.currentTimeMillis() - maxAgeInMillis;
+		final int evicted = this.eventLog.evictWhile(logEntry -> logEntry.getEpochTime() < cutOff);
+		if(evicted > 0 && LOG.isTraceEnabled())
+		{
+			LOG.trace("Evicted {} log entries older than {}ms", evicted, maxAgeInMillis);
+		}
+	}
+	
 	private void processLogEntry(final EventEntry eventEntry)
 	{
-		this.eventLog.add(eventEntry.cloneAndClear());
+		this.eventLog.append(eventEntry);
+	}
+	
+	private void logEntryAppended(final EventEntry logEntry)
+	{
+		this.publishToSubscriptions(logEntry);
+		this.countPendingVerifications(logEntry);
+	}
+	
+	private void publishToSubscriptions(final EventEntry logEntry)
+	{
+		if(!this.subscriptions.isEmpty() && SUBSCRIPTION_PREDICATE.test(logEntry))
+		{
+			// mapped at most once and shared by all matching subscriptions
+			LogEventRequestAndResponse event = null;
+			for(final EventSubscription subscription : this.subscriptions.values())
+			{
+				if(subscription.matches(logEntry))
+				{
+					if(event == null)
+					{
+						event = LOG_ENTRY_TO_HTTP_REQUEST_AND_HTTP_RESPONSE.apply(logEntry);
+					}
+					subscription.offer(event);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Subscribes to received requests and expectation responses matching the request definition as they are added to
+	 * the event log, any existing subscription with the same id is replaced
+	 *
+	 * @param subscriptionId          id of the subscription, used to unsubscribe
+	 * @param requestDefinition       only matching events are buffered, null for all events
+	 * @param eventsAvailableListener called (on the event log thread) after an event has been offered to the
+	 *                                subscription, it should only schedule draining the subscription
+	 */
+	public EventSubscription subscribe(
+		final String subscriptionId,
+		final RequestDefinition requestDefinition,
+		final Runnable eventsAvailableListener)
+	{
+		final EventSubscription subscription = new EventSubscription(
+			subscriptionId,
+			requestDefinition != null ? this.matcherBuilder.transformsToMatcher(requestDefinition) : null,
+			this.configuration.maxEventSubscriptionBufferSize(),
+			eventsAvailableListener);
+		this.subscriptions.put(subscriptionId, subscription);
+		if(LOG.isDebugEnabled())
+		{
+			LOG.debug("Added event subscription {} for {}", subscriptionId, requestDefinition);
+		}
+		return subscription;
+	}
+	
+	public void unsubscribe(final String subscriptionId)
+	{
+		final EventSubscription subscription = this.subscriptions.remove(subscriptionId);
+		if(subscription != null && LOG.isDebugEnabled())
+		{
+			LOG.debug("Removed event subscription {}", subscription);
+		}
 	}
 	
 	public void stop()
 	{
+		this.scheduledExecutor.shutdownNow();
 		try
 		{
+			this.eventLog.stop();
 			this.eventLog.clear();
 			this.disruptor.shutdown(2, SECONDS);
 		}
@@ -198,10 +378,11 @@ public class EventBus
 	public void reset()
 	{
 		final CompletableFuture<String> future = new CompletableFuture<>();
-		this.disruptor.publishEvent(new EventEntry()
+		EventSlot.publish(this.disruptor.getRingBuffer(), new EventEntry()
 			.setType(RUNNABLE)
 			.setConsumer(() -> {
 				this.eventLog.clear();
+				this.expirePendingVerifications();
 				future.complete("done");
 			})
 		);
@@ -215,19 +396,23 @@ public class EventBus
 		}
 	}
 	
+	/**
+	 * Marks the matching log entries as deleted, so they are ignored by all retrievals and verifications, the marked
+	 * entries are then physically removed by a compaction pass that runs in the background on the event log thread
+	 */
 	@SuppressWarnings("PMD.CognitiveComplexity")
 	public void clear(final RequestDefinition requestDefinition)
 	{
-		final CompletableFuture<String> future = new CompletableFuture<>();
-		final boolean markAsDeletedOnly = LOG.isInfoEnabled();
-		this.disruptor.publishEvent(new EventEntry()
+		final CompletableFuture<Integer> future = new CompletableFuture<>();
+		EventSlot.publish(this.disruptor.getRingBuffer(), new EventEntry()
 			.setType(RUNNABLE)
 			.setConsumer(() -> {
 				final String logCorrelationId = UUIDService.getUUID();
 				final RequestDefinition matcher =
 					requestDefinition != null ? requestDefinition : request().withLogCorrelationId(logCorrelationId);
 				final HttpRequestMatcher requestMatcher = this.matcherBuilder.transformsToMatcher(matcher);
-				for(final EventEntry eventEntry : new LinkedList<>(this.eventLog))
+				int deleted = 0;
+				for(final EventEntry eventEntry : this.eventLog)
 				{
 					final RequestDefinition[] requests = eventEntry.getHttpRequests();
 					boolean matches = false;
@@ -245,28 +430,26 @@ public class EventBus
 					{
 						matches = true;
 					}
-					if(matches)
+					if(matches && !eventEntry.isDeleted())
 					{
-						if(markAsDeletedOnly)
-						{
-							eventEntry.setDeleted(true);
-						}
-						else
-						{
-							this.eventLog.removeItem(eventEntry);
-						}
+						eventEntry.setDeleted(true);
+						deleted++;
 					}
 				}
 				if(LOG.isInfoEnabled())
 				{
 					LOG.info("Cleared logs that match: {}", requestDefinition);
 				}
-				future.complete("done");
+				this.expirePendingVerifications();
+				future.complete(deleted);
 			})
 		);
 		try
 		{
-			future.get(2, SECONDS);
+			if(future.get(2, SECONDS) > 0)
+			{
+				this.scheduleCompaction();
+			}
 		}
 		catch(final ExecutionException | InterruptedException | TimeoutException ignore)
 		{
@@ -274,6 +457,32 @@ public class EventBus
 		}
 	}
 	
+	/**
+	 * Schedules a single compaction pass behind the events already queued, further requests are ignored until the
+	 * scheduled pass has started so consecutive clears are compacted together
+	 */
+	private void scheduleCompaction()
+	{
+		if(this.compactionScheduled.compareAndSet(false, true)
+			&& !EventSlot.tryPublish(this.disruptor.getRingBuffer(), new EventEntry()
+			.setType(RUNNABLE)
+			.setConsumer(this::compact)))
+		{
+			// ring buffer is full, the next clear will schedule the compaction again
+			this.compactionScheduled.set(false);
+		}
+	}
+	
+	private void compact()
+	{
+		this.compactionScheduled.set(false);
+		final int removed = this.eventLog.removeMatching(EventEntry::isDeleted);
+		if(LOG.isTraceEnabled())
+		{
+			LOG.trace("Compacted event log, removed {} deleted log entries", removed);
+		}
+	}
+	
 	public void retrieveRequests(
 		final Verification verification,
 		final String logCorrelationId,
@@ -376,6 +585,35 @@ public class EventBus
 		);
 	}
 	
+	/**
+	 * Retrieves the requests received after the log entry with the given sequence
+	 *
+	 * @param sinceSequence only log entries with a higher sequence are considered, 0 for all log entries
+	 * @param limit         maximum number of log entries returned, 0 for no limit
+	 * @param listConsumer  receives the requests and the sequence to continue retrieving from
+	 */
+	public void retrieveRequests(
+		final RequestDefinition requestDefinition,
+		final long sinceSequence,
+		final int limit,
+		final BiConsumer<List<RequestDefinition>, Long> listConsumer)
+	{
+		this.retrieveLogEntries(
+			requestDefinition,
+			sinceSequence,
+			limit,
+			REQUEST_LOG_PREDICATE,
+			LOG_ENTRY_TO_REQUEST,
+			(logEvents, lastSequence) -> listConsumer.accept(
+				logEvents.stream()
+					.filter(Objects::nonNull)
+					.flatMap(Arrays::stream)
+					.collect(Collectors.toList()),
+				lastSequence
+			)
+		);
+	}
+	
 	public void retrieveRequestResponses(
 		final RequestDefinition requestDefinition,
 		final Consumer<List<LogEventRequestAndResponse>> listConsumer)
@@ -388,6 +626,47 @@ public class EventBus
 		);
 	}
 	
+	/**
+	 * Streams the requests and responses to the consumer on the event log thread, so they are never collected into a
+	 * list, the stream must not be used once the consumer returns
+	 */
+	public void streamRequestResponses(
+		final RequestDefinition requestDefinition,
+		final Consumer<Stream<LogEventRequestAndResponse>> streamConsumer)
+	{
+		this.retrieveLogEntries(
+			requestDefinition,
+			REQUEST_RESPONSE_LOG_PREDICATE,
+			LOG_ENTRY_TO_HTTP_REQUEST_AND_HTTP_RESPONSE,
+			logEventStream -> streamConsumer.accept(logEventStream.filter(Objects::nonNull))
+		);
+	}
+	
+	/**
+	 * Retrieves the requests and responses logged after the log entry with the given sequence
+	 *
+	 * @param sinceSequence only log entries with a higher sequence are considered, 0 for all log entries
+	 * @param limit         maximum number of log entries returned, 0 for no limit
+	 * @param listConsumer  receives the requests and responses and the sequence to continue retrieving from
+	 */
+	public void retrieveRequestResponses(
+		final RequestDefinition requestDefinition,
+		final long sinceSequence,
+		final int limit,
+		final BiConsumer<List<LogEventRequestAndResponse>, Long> listConsumer)
+	{
+		this.retrieveLogEntries(
+			requestDefinition,
+			sinceSequence,
+			limit,
+			REQUEST_RESPONSE_LOG_PREDICATE,
+			LOG_ENTRY_TO_HTTP_REQUEST_AND_HTTP_RESPONSE,
+			(logEvents, lastSequence) -> listConsumer.accept(
+				logEvents.stream().filter(Objects::nonNull).collect(Collectors.toList()),
+				lastSequence)
+		);
+	}
+	
 	public void retrieveRecordedExpectations(
 		final RequestDefinition requestDefinition,
 		final Consumer<List<Expectation>> listConsumer)
@@ -400,13 +679,80 @@ public class EventBus
 		);
 	}
 	
+	/**
+	 * Retrieves the recorded expectations logged after the log entry with the given sequence
+	 *
+	 * @param sinceSequence only log entries with a higher sequence are considered, 0 for all log entries
+	 * @param limit         maximum number of log entries returned, 0 for no limit
+	 * @param listConsumer  receives the recorded expectations and the sequence to continue retrieving from
+	 */
+	public void retrieveRecordedExpectations(
+		final RequestDefinition requestDefinition,
+		final long sinceSequence,
+		final int limit,
+		final BiConsumer<List<Expectation>, Long> listConsumer)
+	{
+		this.retrieveLogEntries(
+			requestDefinition,
+			sinceSequence,
+			limit,
+			RECORDED_EXPECTATION_LOG_PREDICATE,
+			LOG_ENTRY_TO_EXPECTATION,
+			(logEvents, lastSequence) -> listConsumer.accept(
+				logEvents.stream().filter(Objects::nonNull).collect(Collectors.toList()),
+				lastSequence)
+		);
+	}
+	
+	/**
+	 * Retrieves the matching log entries added after the log entry with the given sequence, the consumer also
+	 * receives the sequence of the last log entry examined which can be passed as sinceSequence to continue from the
+	 * same position
+	 */
+	private <T> void retrieveLogEntries(
+		final RequestDefinition requestDefinition,
+		final long sinceSequence,
+		final int limit,
+		final Predicate<EventEntry> logEntryPredicate,
+		final Function<EventEntry, T> logEntryMapper,
+		final BiConsumer<List<T>, Long> consumer)
+	{
+		EventSlot.publish(this.disruptor.getRingBuffer(), new EventEntry()
+			.setType(RUNNABLE)
+			.setConsumer(() -> {
+				final RequestDefinition requestDefinitionMatcher = requestDefinition != null
+					? requestDefinition
+					: request().withLogCorrelationId(UUIDService.getUUID());
+				final HttpRequestMatcher httpRequestMatcher =
+					this.matcherBuilder.transformsToMatcher(requestDefinitionMatcher);
+				// a sequence ahead of the log can only come from before a restart so start from the beginning
+				final long fromSequence = sinceSequence > this.eventLog.getSequence() ? 0 : sinceSequence;
+				final List<T> logEntries = new ArrayList<>();
+				long lastSequence = fromSequence;
+				for(final EventEntry logItem : this.eventLog.entriesAfter(fromSequence))
+				{
+					if(limit > 0 && logEntries.size() >= limit)
+					{
+						break;
+					}
+					lastSequence = logItem.getSequence();
+					if(logEntryPredicate.test(logItem) && logItem.matches(httpRequestMatcher))
+					{
+						logEntries.add(logEntryMapper.apply(logItem));
+					}
+				}
+				consumer.accept(logEntries, lastSequence);
+			})
+		);
+	}
+	
 	private <T> void retrieveLogEntries(
 		final RequestDefinition requestDefinition,
 		final Predicate<EventEntry> logEntryPredicate,
 		final Function<EventEntry, T> logEntryMapper,
 		final Consumer<Stream<T>> consumer)
 	{
-		this.disruptor.publishEvent(new EventEntry()
+		EventSlot.publish(this.disruptor.getRingBuffer(), new EventEntry()
 			.setType(RUNNABLE)
 			.setConsumer(() -> {
 				final RequestDefinition requestDefinitionMatcher = requestDefinition != null
@@ -431,7 +777,7 @@ public class EventBus
 		final Function<EventEntry, T> logEntryMapper,
 		final Consumer<Stream<T>> consumer)
 	{
-		this.disruptor.publishEvent(new EventEntry()
+		EventSlot.publish(this.disruptor.getRingBuffer(), new EventEntry()
 			.setType(RUNNABLE)
 			.setConsumer(() -> consumer.accept(this.eventLog
 				.stream()
@@ -446,7 +792,15 @@ public class EventBus
 	public void verify(final Verification verification, final Consumer<String> resultConsumer)
 	{
 		final String logCorrelationId = UUIDService.getUUID();
-		if(verification != null)
+		if(verification != null && verification.getTimeoutInMillis() != null && verification.getTimeoutInMillis() > 0)
+		{
+			if(LOG.isInfoEnabled())
+			{
+				LOG.info(VERIFICATION_REQUESTS_MESSAGE_FORMAT, verification);
+			}
+			this.verifyWithinTimeout(verification, logCorrelationId, resultConsumer);
+		}
+		else if(verification != null)
 		{
 			if(LOG.isInfoEnabled())
 			{
@@ -458,38 +812,10 @@ public class EventBus
 					if(!verification.getTimes().matches(httpRequests.size()))
 					{
 						final boolean matchByExpectationId = verification.getExpectationId() != null;
-						this.retrieveAllRequests(matchByExpectationId, allRequests -> {
-							final String failureMessage;
-							final String serializedRequestToBeVerified =
-								this.requestDefinitionSerializer.serialize(true, verification.getHttpRequest());
-							final Integer maximumNumberOfRequestToReturnInVerificationFailure =
-								verification.getMaximumNumberOfRequestToReturnInVerificationFailure() != null
-									? verification.getMaximumNumberOfRequestToReturnInVerificationFailure()
-									: this.configuration.maximumNumberOfRequestToReturnInVerificationFailure();
-							if(allRequests.size() < maximumNumberOfRequestToReturnInVerificationFailure)
-							{
-								final String serializedAllRequestInLog = allRequests.size() == 1
-									? this.requestDefinitionSerializer.serialize(true, allRequests.get(0))
-									: this.requestDefinitionSerializer.serialize(true, allRequests);
-								failureMessage = "Request not found " + verification.getTimes() + ", expected:<"
-									+ serializedRequestToBeVerified + "> but was:<" + serializedAllRequestInLog + ">";
-							}
-							else
-							{
-								failureMessage = "Request not found " + verification.getTimes() + ", expected:<"
-									+ serializedRequestToBeVerified + "> but was not found, found " + allRequests.size()
-									+ " other requests";
-							}
-							if(LOG.isInfoEnabled())
-							{
-								LOG.info(
-									"Request not found {}, expected: {} but was: {}",
-									verification.getTimes(),
-									verification.getHttpRequest(),
-									allRequests.size() == 1 ? allRequests.get(0) : allRequests);
-							}
-							resultConsumer.accept(failureMessage);
-						});
+						this.retrieveAllRequests(
+							matchByExpectationId,
+							allRequests -> resultConsumer.accept(
+								this.verificationFailureMessage(verification, allRequests)));
 					}
 					else
 					{
@@ -515,7 +841,241 @@ public class EventBus
 		}
 	}
 	
-	@SuppressWarnings({"PMD.CognitiveComplexity", "PMD.AvoidDeeplyNestedIfStmts"})
+	/**
+	 * Counts the existing log entries once and then registers the verification against the log entries appended
+	 * afterwards, so it completes as soon as its times are satisfied without polling the event log or fails as soon
+	 * as its times are exceeded or once its timeout has passed
+	 */
+	@SuppressWarnings("PMD.CognitiveComplexity")
+	private void verifyWithinTimeout(
+		final Verification verification,
+		final String logCorrelationId,
+		final Consumer<String> resultConsumer)
+	{
+		EventSlot.publish(this.disruptor.getRingBuffer(), new EventEntry()
+			.setType(RUNNABLE)
+			.setConsumer(() -> {
+				PendingVerification pendingVerification = null;
+				try
+				{
+					pendingVerification = new PendingVerification(
+						new VerificationCounter(
+							verification,
+							REQUEST_LOG_PREDICATE,
+							EXPECTATION_LOG_PREDICATE,
+							this.matcherBuilder,
+							logCorrelationId),
+						resultConsumer);
+					// added before the sequence is read, so a log entry appended in between has a sequence up to it
+					// and is counted as existing, while every log entry after the sequence is counted as appended
+					this.pendingVerifications.add(pendingVerification);
+					pendingVerification.register(this.eventLog::getSequence);
+					this.eventLog.forEach(pendingVerification::countExisting);
+					if(pendingVerification.existingCounted())
+					{
+						this.verificationCompleted(pendingVerification);
+					}
+					else
+					{
+						final PendingVerification timedVerification = pendingVerification;
+						pendingVerification.setTimeout(this.scheduledExecutor.schedule(
+							() -> this.verificationTimedOut(timedVerification),
+							verification.getTimeoutInMillis(),
+							MILLISECONDS));
+					}
+				}
+				catch(final Exception ex)
+				{
+					if(pendingVerification != null)
+					{
+						this.pendingVerifications.remove(pendingVerification);
+					}
+					if(pendingVerification == null || pendingVerification.expire())
+					{
+						LOG.error("exception while processing verification: {}", verification, ex);
+						resultConsumer.accept("exception while processing verification" + (isNotBlank(ex.getMessage())
+							? " " + ex.getMessage()
+							: ""));
+					}
+				}
+			})
+		);
+	}
+	
+	private void countPendingVerifications(final EventEntry logEntry)
+	{
+		if(!this.pendingVerifications.isEmpty())
+		{
+			for(final PendingVerification pendingVerification : this.pendingVerifications)
+			{
+				if(pendingVerification.countAppended(logEntry))
+				{
+					this.verificationCompleted(pendingVerification);
+				}
+			}
+		}
+	}
+	
+	private void verificationCompleted(final PendingVerification pendingVerification)
+	{
+		if(pendingVerification.isFailed())
+		{
+			this.verificationFailed(pendingVerification);
+		}
+		else
+		{
+			this.verificationPassed(pendingVerification);
+		}
+	}
+	
+	private void verificationPassed(final PendingVerification pendingVerification)
+	{
+		this.pendingVerifications.remove(pendingVerification);
+		if(LOG.isInfoEnabled())
+		{
+			LOG.info(
+				"request:{} found {}",
+				pendingVerification.getVerification().getHttpRequest(),
+				pendingVerification.getVerification().getTimes());
+		}
+		pendingVerification.getResultConsumer().accept("");
+	}
+	
+	private void verificationTimedOut(final PendingVerification pendingVerification)
+	{
+		if(pendingVerification.expire())
+		{
+			this.verificationFailed(pendingVerification);
+		}
+	}
+	
+	/**
+	 * Fails the verifications still waiting, as the log entries they have counted were cleared they would otherwise
+	 * count the requests received afterwards (i.e. of the next test)
+	 */
+	private void expirePendingVerifications()
+	{
+		for(final PendingVerification pendingVerification : this.pendingVerifications)
+		{
+			if(pendingVerification.expire())
+			{
+				this.verificationFailed(pendingVerification);
+			}
+		}
+	}
+	
+	private void verificationFailed(final PendingVerification pendingVerification)
+	{
+		this.pendingVerifications.remove(pendingVerification);
+		final Verification verification = pendingVerification.getVerification();
+		this.retrieveAllRequests(
+			verification.getExpectationId() != null,
+			allRequests -> pendingVerification.getResultConsumer().accept(
+				this.verificationFailureMessage(verification, allRequests)));
+	}
+	
+	/**
+	 * Evaluates all verifications in a single pass over the event log, each log entry is tested against every
+	 * verification
+	 *
+	 * @param resultsConsumer receives the result of each verification in the same order, an empty string if the
+	 *                        verification passed otherwise the failure message
+	 */
+	@SuppressWarnings("PMD.CognitiveComplexity")
+	public void verify(final List<Verification> verifications, final Consumer<List<String>> resultsConsumer)
+	{
+		final String logCorrelationId = UUIDService.getUUID();
+		if(LOG.isInfoEnabled())
+		{
+			verifications.forEach(verification -> LOG.info(VERIFICATION_REQUESTS_MESSAGE_FORMAT, verification));
+		}
+		EventSlot.publish(this.disruptor.getRingBuffer(), new EventEntry()
+			.setType(RUNNABLE)
+			.setConsumer(() -> {
+				try
+				{
+					final List<VerificationCounter> verificationCounters = verifications.stream()
+						.map(verification -> new VerificationCounter(
+							verification,
+							REQUEST_LOG_PREDICATE,
+							EXPECTATION_LOG_PREDICATE,
+							this.matcherBuilder,
+							logCorrelationId))
+						.toList();
+					// requests are only referenced, they are needed for the failure messages
+					final List<RequestDefinition> allRequests = new ArrayList<>();
+					final List<RequestDefinition> allExpectationRequests = new ArrayList<>();
+					for(final EventEntry logEntry : this.eventLog)
+					{
+						if(REQUEST_LOG_PREDICATE.test(logEntry))
+						{
+							Collections.addAll(allRequests, logEntry.getHttpRequests());
+						}
+						else if(EXPECTATION_LOG_PREDICATE.test(logEntry))
+						{
+							Collections.addAll(allExpectationRequests, logEntry.getHttpRequests());
+						}
+						verificationCounters.forEach(verificationCounter -> verificationCounter.count(logEntry));
+					}
+					resultsConsumer.accept(verificationCounters.stream()
+						.map(verificationCounter -> verificationCounter.matches()
+							? ""
+							: this.verificationFailureMessage(
+								verificationCounter.getVerification(),
+								verificationCounter.getVerification().getExpectationId() != null
+									? allExpectationRequests
+									: allRequests))
+						.toList());
+				}
+				catch(final Exception ex)
+				{
+					LOG.error("exception while processing verifications: {}", verifications, ex);
+					resultsConsumer.accept(Collections.nCopies(
+						verifications.size(),
+						"exception while processing verification"
+							+ (isNotBlank(ex.getMessage()) ? " " + ex.getMessage() : "")));
+				}
+			})
+		);
+	}
+	
+	private String verificationFailureMessage(
+		final Verification verification,
+		final List<RequestDefinition> allRequests)
+	{
+		final String failureMessage;
+		final String serializedRequestToBeVerified =
+			this.requestDefinitionSerializer.serialize(true, verification.getHttpRequest());
+		final Integer maximumNumberOfRequestToReturnInVerificationFailure =
+			verification.getMaximumNumberOfRequestToReturnInVerificationFailure() != null
+				? verification.getMaximumNumberOfRequestToReturnInVerificationFailure()
+				: this.configuration.maximumNumberOfRequestToReturnInVerificationFailure();
+		if(allRequests.size() < maximumNumberOfRequestToReturnInVerificationFailure)
+		{
+			final String serializedAllRequestInLog = allRequests.size() == 1
+				? this.requestDefinitionSerializer.serialize(true, allRequests.get(0))
+				: this.requestDefinitionSerializer.serialize(true, allRequests);
+			failureMessage = "Request not found " + verification.getTimes() + ", expected:<"
+				+ serializedRequestToBeVerified + "> but was:<" + serializedAllRequestInLog + ">";
+		}
+		else
+		{
+			failureMessage = "Request not found " + verification.getTimes() + ", expected:<"
+				+ serializedRequestToBeVerified + "> but was not found, found " + allRequests.size()
+				+ " other requests";
+		}
+		if(LOG.isInfoEnabled())
+		{
+			LOG.info(
+				"Request not found {}, expected: {} but was: {}",
+				verification.getTimes(),
+				verification.getHttpRequest(),
+				allRequests.size() == 1 ? allRequests.get(0) : allRequests);
+		}
+		return failureMessage;
+	}
+	
+	@SuppressWarnings("PMD.CognitiveComplexity")
 	public void verify(final VerificationSequence verificationSequence, final Consumer<String> resultConsumer)
 	{
 		if(verificationSequence != null)
@@ -525,94 +1085,34 @@ public class EventBus
 			{
 				LOG.info(VERIFICATION_REQUEST_SEQUENCES_MESSAGE_FORMAT, verificationSequence);
 			}
-			if(verificationSequence.getExpectationIds() != null && !verificationSequence.getExpectationIds().isEmpty())
-			{
-				this.retrieveAllRequests(verificationSequence.getExpectationIds()
-					.stream()
-					.map(ExpectationId::getId)
-					.collect(Collectors.toList()), allRequests -> {
-					final List<RequestDefinition> requestDefinitions = allRequests.stream()
-						.map(RequestAndExpectationId::getRequestDefinition)
-						.collect(Collectors.toList());
+			EventSlot.publish(this.disruptor.getRingBuffer(), new EventEntry()
+				.setType(RUNNABLE)
+				.setConsumer(() -> {
 					try
 					{
-						String failureMessage = "";
-						int requestLogCounter = 0;
-						for(final ExpectationId expectationId : verificationSequence.getExpectationIds())
+						final RequestSequenceMatcher requestSequenceMatcher;
+						if(verificationSequence.getExpectationIds() != null
+							&& !verificationSequence.getExpectationIds().isEmpty())
 						{
-							if(expectationId != null)
-							{
-								boolean foundRequest = false;
-								for(; !foundRequest && requestLogCounter < allRequests.size(); requestLogCounter++)
-								{
-									if(allRequests.get(requestLogCounter).matches(expectationId))
-									{
-										// move on to next request
-										foundRequest = true;
-									}
-								}
-								if(!foundRequest)
-								{
-									failureMessage = this.verificationSequenceFailureMessage(
-										verificationSequence,
-										requestDefinitions);
-									break;
-								}
-							}
+							requestSequenceMatcher = RequestSequenceMatcher.forExpectationIds(
+								verificationSequence.getExpectationIds(),
+								EXPECTATION_LOG_PREDICATE);
 						}
-						this.verificationSequenceSuccessMessage(
-							verificationSequence,
-							resultConsumer,
-							failureMessage);
-					}
-					catch(final Exception ex)
-					{
-						this.verificationSequenceExceptionHandler(
-							verificationSequence,
-							resultConsumer,
-							ex,
-							"exception while processing verification sequence:{}",
-							"exception while processing verification sequence");
-					}
-				});
-			}
-			else
-			{
-				this.retrieveAllRequests(false, allRequests -> {
-					try
-					{
-						String failureMessage = "";
-						int requestLogCounter = 0;
-						for(final RequestDefinition verificationHttpRequest : verificationSequence.getHttpRequests())
+						else
 						{
-							if(verificationHttpRequest != null)
-							{
-								verificationHttpRequest.withLogCorrelationId(logCorrelationId);
-								final HttpRequestMatcher httpRequestMatcher =
-									this.matcherBuilder.transformsToMatcher(verificationHttpRequest);
-								boolean foundRequest = false;
-								for(; !foundRequest && requestLogCounter < allRequests.size(); requestLogCounter++)
-								{
-									if(httpRequestMatcher.matches(allRequests.get(requestLogCounter)
-										.cloneWithLogCorrelationId()))
-									{
-										// move on to next request
-										foundRequest = true;
-									}
-								}
-								if(!foundRequest)
-								{
-									failureMessage = this.verificationSequenceFailureMessage(
-										verificationSequence,
-										allRequests);
-									break;
-								}
-							}
+							requestSequenceMatcher = RequestSequenceMatcher.forRequests(
+								verificationSequence.getHttpRequests(),
+								REQUEST_LOG_PREDICATE,
+								this.matcherBuilder,
+								logCorrelationId);
 						}
-						this.verificationSequenceSuccessMessage(
-							verificationSequence,
-							resultConsumer,
-							failureMessage);
+						// single pass over the event log that stops as soon as the sequence has been found
+						final String failureMessage = requestSequenceMatcher.matches(this.eventLog)
+							? ""
+							: this.verificationSequenceFailureMessage(
+								verificationSequence,
+								requestSequenceMatcher.getScannedRequests());
+						this.verificationSequenceSuccessMessage(verificationSequence, resultConsumer, failureMessage);
 					}
 					catch(final Exception ex)
 					{
@@ -620,11 +1120,11 @@ public class EventBus
 							verificationSequence,
 							resultConsumer,
 							ex,
-							"exception:{} while processing verification sequence:{}",
+							"exception while processing verification sequence:{}",
 							"exception while processing verification sequence");
 					}
-				});
-			}
+				})
+			);
 		}
 		else
 		{
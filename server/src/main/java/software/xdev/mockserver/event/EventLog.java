@@ -0,0 +1,415 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.event;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.AbstractCollection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import com.lmax.disruptor.ExceptionHandler;
+import com.lmax.disruptor.dsl.Disruptor;
+
+import software.xdev.mockserver.collections.CircularConcurrentLinkedDeque;
+import software.xdev.mockserver.configuration.ServerConfiguration;
+import software.xdev.mockserver.event.model.EventEntry;
+import software.xdev.mockserver.scheduler.SchedulerThreadFactory;
+
+
+/**
+ * The log entries of the {@link EventBus}, optionally split into shards.
+ * <p>
+ * Without shards all log entries are appended by the event log thread. With shards each shard has its own ring buffer
+ * and thread, request threads publish to the shard chosen by their thread and the shard thread appends to the log of
+ * that shard, so request threads don't all contend on the single event log ring buffer. Log entries get a global
+ * sequence when they are published to their shard (by the request thread), so the sequence follows the order the
+ * requests were received in regardless of how far behind each shard is. Each shard is ordered by sequence and reading
+ * merges the shards by sequence.
+ * <p>
+ * Before the shards are read all log entries published so far are awaited, so as with a single ring buffer a request
+ * is always visible to a retrieval or verification that is started after its response has been returned.
+ * <p>
+ * The maximum number of log entries is split evenly between the shards, each shard evicts its own oldest log entries.
+ */
+class EventLog extends AbstractCollection<EventEntry>
+{
+	@SuppressWarnings("checkstyle:MagicNumber")
+	private static final int MIN_SHARD_RING_BUFFER_SIZE = 64;
+	@SuppressWarnings("checkstyle:MagicNumber")
+	private static final long AWAIT_PARK_NANOS = 10_000L;
+	
+	private final AtomicLong sequence = new AtomicLong();
+	private final List<Shard> shards = new ArrayList<>();
+	private final Consumer<EventEntry> appendListener;
+	private final long maxAwaitInMillis;
+	
+	/**
+	 * @param shardCount     number of shards, 1 for log entries appended by the event log thread
+	 * @param appendListener called with each log entry after it has been appended (on the thread appending it)
+	 */
+	EventLog(
+		final ServerConfiguration configuration,
+		final int shardCount,
+		final ExceptionHandler<EventSlot> exceptionHandler,
+		final Consumer<EventEntry> appendListener)
+	{
+		this.appendListener = appendListener;
+		this.maxAwaitInMillis = configuration.maxFutureTimeoutInMillis();
+		final int count = Math.max(1, shardCount);
+		final int maxLogEntriesPerShard = (configuration.maxLogEntries() + count - 1) / count;
+		final int ringBufferSizePerShard =
+			Math.max(MIN_SHARD_RING_BUFFER_SIZE, Integer.highestOneBit(configuration.ringBufferSize() / count));
+		for(int i = 0; i < count; i++)
+		{
+			this.shards.add(count > 1
+				? new Shard(maxLogEntriesPerShard, i, ringBufferSizePerShard, exceptionHandler, configuration)
+				: new Shard(maxLogEntriesPerShard));
+		}
+	}
+	
+	boolean isSharded()
+	{
+		return this.shards.size() > 1;
+	}
+	
+	long getSequence()
+	{
+		return this.sequence.get();
+	}
+	
+	/**
+	 * Publishes the event to the ring buffer of the shard of the current thread, only used with shards
+	 *
+	 * @return false if the event was dropped
+	 */
+	boolean publish(final EventEntry eventEntry)
+	{
+		final Shard shard = this.shards.get((int)(Thread.currentThread().getId() % this.shards.size()));
+		return shard.publisher.publish(eventEntry);
+	}
+	
+	/**
+	 * Publishes the event to the ring buffer of the shard of the current thread waiting for space in it, only used
+	 * with shards
+	 */
+	void publishWaiting(final EventEntry eventEntry)
+	{
+		final Shard shard = this.shards.get((int)(Thread.currentThread().getId() % this.shards.size()));
+		shard.publisher.publishWaiting(eventEntry);
+	}
+	
+	long sumOfShardPublishers(final ToLongFunction<EventPublisher> counter)
+	{
+		long sum = 0;
+		for(final Shard shard : this.shards)
+		{
+			if(shard.publisher != null)
+			{
+				sum += counter.applyAsLong(shard.publisher);
+			}
+		}
+		return sum;
+	}
+	
+	/**
+	 * Appends the event without shards, must only be called by the event log thread
+	 */
+	void append(final EventEntry eventEntry)
+	{
+		// the published event entry becomes the log entry, it is not modified by the producer once published
+		eventEntry.setSequence(this.sequence.incrementAndGet());
+		this.append(this.shards.get(0), eventEntry);
+	}
+	
+	private void append(final Shard shard, final EventEntry eventEntry)
+	{
+		shard.logEntries.add(eventEntry);
+		this.appendListener.accept(eventEntry);
+	}
+	
+	@Override
+	public Iterator<EventEntry> iterator()
+	{
+		if(!this.isSharded())
+		{
+			return this.shards.get(0).logEntries.iterator();
+		}
+		final long upToSequence = this.awaitPublished();
+		final List<Iterator<EventEntry>> iterators = new ArrayList<>(this.shards.size());
+		for(final Shard shard : this.shards)
+		{
+			iterators.add(shard.logEntries.iterator());
+		}
+		return new MergingIterator(iterators, upToSequence);
+	}
+	
+	@Override
+	public Spliterator<EventEntry> spliterator()
+	{
+		if(!this.isSharded())
+		{
+			return this.shards.get(0).logEntries.spliterator();
+		}
+		// the size is only an estimate as log entries are appended concurrently
+		return Spliterators.spliteratorUnknownSize(this.iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+	}
+	
+	/**
+	 * @return the log entries with a higher sequence than the given sequence, in sequence order
+	 */
+	Collection<EventEntry> entriesAfter(final long sinceSequence)
+	{
+		if(sinceSequence <= 0)
+		{
+			return this;
+		}
+		if(!this.isSharded())
+		{
+			return entriesAfter(this.shards.get(0).logEntries, sinceSequence);
+		}
+		final long upToSequence = this.awaitPublished();
+		final List<Iterator<EventEntry>> iterators = new ArrayList<>(this.shards.size());
+		for(final Shard shard : this.shards)
+		{
+			iterators.add(entriesAfter(shard.logEntries, sinceSequence).iterator());
+		}
+		final List<EventEntry> logEntries = new ArrayList<>();
+		new MergingIterator(iterators, upToSequence).forEachRemaining(logEntries::add);
+		return logEntries;
+	}
+	
+	private static Deque<EventEntry> entriesAfter(
+		final CircularConcurrentLinkedDeque<EventEntry> shardLogEntries,
+		final long sinceSequence)
+	{
+		// newest entries are at the tail so only walk back until the sequence is reached
+		final Deque<EventEntry> logEntries = new ArrayDeque<>();
+		final Iterator<EventEntry> iterator = shardLogEntries.descendingIterator();
+		while(iterator.hasNext())
+		{
+			final EventEntry logItem = iterator.next();
+			if(logItem.getSequence() <= sinceSequence)
+			{
+				break;
+			}
+			logEntries.addFirst(logItem);
+		}
+		return logEntries;
+	}
+	
+	/**
+	 * Waits until each shard has appended every log entry with a sequence up to the returned sequence, a log entry
+	 * that is being published while the sequence is read is awaited before the shard's published log entries are.
+	 *
+	 * @return the sequence up to which the shards should be read
+	 */
+	private long awaitPublished()
+	{
+		final long deadline = System.nanoTime() + MILLISECONDS.toNanos(this.maxAwaitInMillis);
+		final long upToSequence = this.sequence.get();
+		for(final Shard shard : this.shards)
+		{
+			shard.publisher.awaitPublishing(deadline);
+			final long published = shard.disruptor.getRingBuffer().getCursor();
+			while(shard.appended.get() < published && System.nanoTime() < deadline)
+			{
+				LockSupport.parkNanos(AWAIT_PARK_NANOS);
+			}
+		}
+		return upToSequence;
+	}
+	
+	@Override
+	public int size()
+	{
+		int size = 0;
+		for(final Shard shard : this.shards)
+		{
+			size += shard.logEntries.size();
+		}
+		return size;
+	}
+	
+	@Override
+	public void clear()
+	{
+		for(final Shard shard : this.shards)
+		{
+			shard.logEntries.clear();
+		}
+	}
+	
+	/**
+	 * @see CircularConcurrentLinkedDeque#removeMatching(Predicate)
+	 */
+	int removeMatching(final Predicate<EventEntry> predicate)
+	{
+		int removed = 0;
+		for(final Shard shard : this.shards)
+		{
+			removed += shard.logEntries.removeMatching(predicate);
+		}
+		return removed;
+	}
+	
+	/**
+	 * @see CircularConcurrentLinkedDeque#evictWhile(Predicate)
+	 */
+	int evictWhile(final Predicate<EventEntry> predicate)
+	{
+		int evicted = 0;
+		for(final Shard shard : this.shards)
+		{
+			evicted += shard.logEntries.evictWhile(predicate);
+		}
+		return evicted;
+	}
+	
+	void stop()
+	{
+		for(final Shard shard : this.shards)
+		{
+			if(shard.disruptor != null)
+			{
+				shard.disruptor.halt();
+			}
+		}
+	}
+	
+	private final class Shard
+	{
+		private final CircularConcurrentLinkedDeque<EventEntry> logEntries;
+		private final Disruptor<EventSlot> disruptor;
+		private final EventPublisher publisher;
+		private final AtomicLong appended = new AtomicLong(-1);
+		
+		Shard(final int maxLogEntries)
+		{
+			this.logEntries = new CircularConcurrentLinkedDeque<>(maxLogEntries, EventEntry::clear);
+			this.disruptor = null;
+			this.publisher = null;
+		}
+		
+		Shard(
+			final int maxLogEntries,
+			final int index,
+			final int ringBufferSize,
+			final ExceptionHandler<EventSlot> exceptionHandler,
+			final ServerConfiguration configuration)
+		{
+			this.logEntries = new CircularConcurrentLinkedDeque<>(maxLogEntries, EventEntry::clear);
+			this.disruptor =
+				new Disruptor<>(EventSlot::new, ringBufferSize, new SchedulerThreadFactory("EventLogShard" + index));
+			this.disruptor.setDefaultExceptionHandler(exceptionHandler);
+			this.publisher = new EventPublisher(
+				this.disruptor.getRingBuffer(),
+				configuration,
+				EventLog.this.sequence::incrementAndGet);
+			this.disruptor.handleEventsWith((slot, ringSequence, endOfBatch) -> {
+				try
+				{
+					EventLog.this.append(this, slot.get());
+					slot.clear();
+				}
+				finally
+				{
+					this.appended.set(ringSequence);
+				}
+				if(endOfBatch)
+				{
+					this.publisher.drainOverflow();
+				}
+			});
+			this.disruptor.start();
+		}
+	}
+	
+	/**
+	 * Merges the shards, each of which is ordered by sequence, into a single sequence order
+	 */
+	private static final class MergingIterator implements Iterator<EventEntry>
+	{
+		private final List<Iterator<EventEntry>> iterators;
+		private final EventEntry[] heads;
+		private final long upToSequence;
+		
+		MergingIterator(final List<Iterator<EventEntry>> iterators, final long upToSequence)
+		{
+			this.iterators = iterators;
+			this.upToSequence = upToSequence;
+			this.heads = new EventEntry[iterators.size()];
+			for(int i = 0; i < this.heads.length; i++)
+			{
+				this.advance(i);
+			}
+		}
+		
+		private void advance(final int index)
+		{
+			final Iterator<EventEntry> iterator = this.iterators.get(index);
+			final EventEntry next = iterator.hasNext() ? iterator.next() : null;
+			// entries appended after reading started are left for the next read
+			this.heads[index] = next != null && next.getSequence() <= this.upToSequence ? next : null;
+		}
+		
+		@Override
+		public boolean hasNext()
+		{
+			for(final EventEntry head : this.heads)
+			{
+				if(head != null)
+				{
+					return true;
+				}
+			}
+			return false;
+		}
+		
+		@Override
+		public EventEntry next()
+		{
+			int lowest = -1;
+			for(int i = 0; i < this.heads.length; i++)
+			{
+				if(this.heads[i] != null
+					&& (lowest == -1 || this.heads[i].getSequence() < this.heads[lowest].getSequence()))
+				{
+					lowest = i;
+				}
+			}
+			if(lowest == -1)
+			{
+				throw new NoSuchElementException();
+			}
+			final EventEntry next = this.heads[lowest];
+			this.advance(lowest);
+			return next;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.event;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import software.xdev.mockserver.configuration.ServerConfiguration;
+import software.xdev.mockserver.model.BinaryBody;
+import software.xdev.mockserver.model.Body;
+import software.xdev.mockserver.model.HttpRequest;
+import software.xdev.mockserver.model.MediaType;
+import software.xdev.mockserver.model.StringBody;
+
+
+/**
+ * Applies the event log sampling and body capture limits of the configuration to received requests before they are
+ * recorded and counts how many received requests have been sampled (recorded) or skipped.
+ */
+public class EventLogPolicy
+{
+	private final int sampleRate;
+	private final int maxBodySize;
+	private final AtomicLong received = new AtomicLong();
+	private final AtomicLong sampled = new AtomicLong();
+	private final AtomicLong skipped = new AtomicLong();
+	
+	public EventLogPolicy(final ServerConfiguration configuration)
+	{
+		this.sampleRate = Math.max(1, configuration.eventLogSampleRate());
+		this.maxBodySize = configuration.eventLogMaxBodySize();
+	}
+	
+	/**
+	 * @return true if this received request and all events of it should be recorded, every sampleRate-th request is
+	 * recorded
+	 */
+	public boolean sample()
+	{
+		if(this.sampleRate == 1 || this.received.getAndIncrement() % this.sampleRate == 0)
+		{
+			this.sampled.incrementAndGet();
+			return true;
+		}
+		this.skipped.incrementAndGet();
+		return false;
+	}
+	
+	/**
+	 * @return the request to record, which is a copy without the body or with a truncated body if the body exceeds
+	 * the maximum body size, otherwise the request itself
+	 */
+	public HttpRequest captureRequest(final HttpRequest request)
+	{
+		final Body<?> body = request.getBody();
+		if(this.maxBodySize < 0 || body == null)
+		{
+			return request;
+		}
+		final byte[] rawBytes = body.getRawBytes();
+		if(rawBytes.length <= this.maxBodySize)
+		{
+			return request;
+		}
+		final HttpRequest capturedRequest = request.shallowClone()
+			.withBody(this.maxBodySize > 0 ? this.truncate(body, rawBytes) : null);
+		capturedRequest.withLogCorrelationId(request.getLogCorrelationId());
+		return capturedRequest;
+	}
+	
+	private Body<?> truncate(final Body<?> body, final byte[] rawBytes)
+	{
+		final byte[] truncated = Arrays.copyOf(rawBytes, this.maxBodySize);
+		final MediaType contentType = body.getContentType() != null ? MediaType.parse(body.getContentType()) : null;
+		if(body instanceof BinaryBody)
+		{
+			return new BinaryBody(truncated, contentType);
+		}
+		return new StringBody(
+			new String(truncated, body.getCharset(StandardCharsets.UTF_8)),
+			truncated,
+			false,
+			contentType);
+	}
+	
+	public long getSampled()
+	{
+		return this.sampled.get();
+	}
+	
+	public long getSkipped()
+	{
+		return this.skipped.get();
+	}
+}
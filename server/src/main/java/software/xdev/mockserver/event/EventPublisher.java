@@ -0,0 +1,249 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.event;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.lmax.disruptor.RingBuffer;
+
+import software.xdev.mockserver.configuration.ServerConfiguration;
+import software.xdev.mockserver.event.model.EventEntry;
+
+
+/**
+ * Publishes log events to an event log ring buffer applying the {@link EventBackpressurePolicy} when it is full and
+ * counts the published, dropped and delayed (i.e. blocked or spilled) log events.
+ * <p>
+ * With a log sequence each log event gets its sequence when it is put into the ring buffer (on the publishing
+ * thread), only one thread at a time puts log events into the ring buffer so it is in the order of their sequences.
+ */
+class EventPublisher
+{
+	private static final Logger LOG = LoggerFactory.getLogger(EventPublisher.class);
+	@SuppressWarnings("checkstyle:MagicNumber")
+	private static final long BLOCK_PARK_NANOS = 10_000L;
+	
+	private final RingBuffer<EventSlot> ringBuffer;
+	private final EventBackpressurePolicy policy;
+	private final long timeoutInNanos;
+	private final int maxOverflowSize;
+	private final Queue<EventEntry> overflow = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger overflowSize = new AtomicInteger();
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private final AtomicLong published = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+	private final AtomicLong delayed = new AtomicLong();
+	private final LongSupplier logSequence;
+	// odd while a log event is put into the ring buffer, only used with a log sequence
+	private final AtomicLong publishing = new AtomicLong();
+	
+	EventPublisher(final RingBuffer<EventSlot> ringBuffer, final ServerConfiguration configuration)
+	{
+		this(ringBuffer, configuration, null);
+	}
+	
+	/**
+	 * @param logSequence provides the sequence of each log event, null if the log events get their sequence when they
+	 *                    are appended to the event log
+	 */
+	EventPublisher(
+		final RingBuffer<EventSlot> ringBuffer,
+		final ServerConfiguration configuration,
+		final LongSupplier logSequence)
+	{
+		this.ringBuffer = ringBuffer;
+		this.logSequence = logSequence;
+		this.policy = configuration.eventLogBackpressurePolicy();
+		this.timeoutInNanos = MILLISECONDS.toNanos(configuration.eventLogBackpressureTimeoutInMillis());
+		this.maxOverflowSize = configuration.maxLogEntries();
+	}
+	
+	/**
+	 * @return false if the log event was dropped
+	 */
+	boolean publish(final EventEntry eventEntry)
+	{
+		final boolean accepted = switch(this.policy)
+		{
+			case BLOCK -> this.publishBlocking(eventEntry);
+			case SPILL -> this.publishOrSpill(eventEntry);
+			default -> this.tryPublish(eventEntry);
+		};
+		if(accepted)
+		{
+			this.published.incrementAndGet();
+		}
+		else if(this.dropped.getAndIncrement() == 0 && LOG.isWarnEnabled())
+		{
+			LOG.warn(
+				"Event log ring buffer is full, dropped log event (further dropped log events are only counted): {}",
+				eventEntry);
+		}
+		return accepted;
+	}
+	
+	/**
+	 * Publishes the log event whatever the policy, waiting for space in the ring buffer (after any spilled log events
+	 * so the order is kept), for bulk producers such as an import that must not lose log events
+	 */
+	void publishWaiting(final EventEntry eventEntry)
+	{
+		if(this.overflowSize.get() > 0 || !this.tryPublish(eventEntry))
+		{
+			this.delayed.incrementAndGet();
+			do
+			{
+				LockSupport.parkNanos(BLOCK_PARK_NANOS);
+				this.drainOverflow();
+			}
+			while(this.overflowSize.get() > 0 || !this.tryPublish(eventEntry));
+		}
+		this.published.incrementAndGet();
+	}
+	
+	private boolean tryPublish(final EventEntry eventEntry)
+	{
+		if(this.logSequence == null)
+		{
+			return EventSlot.tryPublish(this.ringBuffer, eventEntry);
+		}
+		long publishingBefore = this.publishing.get();
+		while(publishingBefore % 2 != 0 || !this.publishing.compareAndSet(publishingBefore, publishingBefore + 1))
+		{
+			// only held to claim a slot and take the sequence, so the other thread is done as soon as it runs
+			Thread.yield();
+			publishingBefore = this.publishing.get();
+		}
+		try
+		{
+			return EventSlot.tryPublish(this.ringBuffer, eventEntry, this.logSequence);
+		}
+		finally
+		{
+			this.publishing.set(publishingBefore + 2);
+		}
+	}
+	
+	/**
+	 * Waits (at most until the deadline) for a log event that is being put into the ring buffer, afterwards the ring
+	 * buffer's cursor includes every log event with a sequence taken so far
+	 */
+	void awaitPublishing(final long deadlineNanos)
+	{
+		final long publishingNow = this.publishing.get();
+		if(publishingNow % 2 != 0)
+		{
+			while(this.publishing.get() == publishingNow && System.nanoTime() < deadlineNanos)
+			{
+				LockSupport.parkNanos(BLOCK_PARK_NANOS);
+			}
+		}
+	}
+	
+	private boolean publishBlocking(final EventEntry eventEntry)
+	{
+		if(this.tryPublish(eventEntry))
+		{
+			return true;
+		}
+		this.delayed.incrementAndGet();
+		final long deadline = System.nanoTime() + this.timeoutInNanos;
+		while(System.nanoTime() < deadline)
+		{
+			LockSupport.parkNanos(BLOCK_PARK_NANOS);
+			if(this.tryPublish(eventEntry))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	private boolean publishOrSpill(final EventEntry eventEntry)
+	{
+		// once log events have spilled they must be published first to keep the order
+		if(this.overflowSize.get() == 0 && this.tryPublish(eventEntry))
+		{
+			return true;
+		}
+		if(this.overflowSize.get() >= this.maxOverflowSize)
+		{
+			return false;
+		}
+		// counted after adding, so a drainer that has just finished either sees it in the queue or by its count
+		this.overflow.add(eventEntry);
+		this.overflowSize.incrementAndGet();
+		this.delayed.incrementAndGet();
+		this.drainOverflow();
+		return true;
+	}
+	
+	/**
+	 * Moves spilled log events into the ring buffer for as long as it has space, called by producers and by the
+	 * ring buffer consumer at the end of each batch (so the consumer never blocks on its own ring buffer)
+	 */
+	void drainOverflow()
+	{
+		while(this.overflowSize.get() > 0 && this.draining.compareAndSet(false, true))
+		{
+			try
+			{
+				EventEntry eventEntry = this.overflow.peek();
+				while(eventEntry != null && this.tryPublish(eventEntry))
+				{
+					this.overflow.poll();
+					this.overflowSize.decrementAndGet();
+					eventEntry = this.overflow.peek();
+				}
+				if(eventEntry != null)
+				{
+					// ring buffer is full again
+					return;
+				}
+			}
+			finally
+			{
+				this.draining.set(false);
+			}
+		}
+	}
+	
+	long getPublished()
+	{
+		return this.published.get();
+	}
+	
+	long getDropped()
+	{
+		return this.dropped.get();
+	}
+	
+	long getDelayed()
+	{
+		return this.delayed.get();
+	}
+}
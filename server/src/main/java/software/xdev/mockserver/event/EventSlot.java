@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.event;
+
+import java.util.function.LongSupplier;
+
+import com.lmax.disruptor.EventTranslatorOneArg;
+import com.lmax.disruptor.EventTranslatorTwoArg;
+import com.lmax.disruptor.RingBuffer;
+
+import software.xdev.mockserver.event.model.EventEntry;
+
+
+/**
+ * Slot of the event log ring buffers, the slot only references the published event entry so the event entry created
+ * by the producer is handed over to the event log as it is, instead of being copied into the slot and then cloned
+ * again when it is added to the event log.
+ */
+final class EventSlot
+{
+	private static final EventTranslatorOneArg<EventSlot, EventEntry> TRANSLATOR =
+		(slot, sequence, eventEntry) -> slot.eventEntry = eventEntry;
+	private static final EventTranslatorTwoArg<EventSlot, EventEntry, LongSupplier> SEQUENCING_TRANSLATOR =
+		(slot, sequence, eventEntry, logSequence) -> {
+			eventEntry.setSequence(logSequence.getAsLong());
+			slot.eventEntry = eventEntry;
+		};
+	
+	private EventEntry eventEntry;
+	
+	static void publish(final RingBuffer<EventSlot> ringBuffer, final EventEntry eventEntry)
+	{
+		ringBuffer.publishEvent(TRANSLATOR, eventEntry);
+	}
+	
+	static boolean tryPublish(final RingBuffer<EventSlot> ringBuffer, final EventEntry eventEntry)
+	{
+		return ringBuffer.tryPublishEvent(TRANSLATOR, eventEntry);
+	}
+	
+	/**
+	 * Publishes the event entry with the next log sequence, which is only taken once its slot has been claimed so a
+	 * full ring buffer doesn't use up a log sequence
+	 */
+	static boolean tryPublish(
+		final RingBuffer<EventSlot> ringBuffer,
+		final EventEntry eventEntry,
+		final LongSupplier logSequence)
+	{
+		return ringBuffer.tryPublishEvent(SEQUENCING_TRANSLATOR, eventEntry, logSequence);
+	}
+	
+	EventEntry get()
+	{
+		return this.eventEntry;
+	}
+	
+	/**
+	 * Releases the event entry once it has been handled, so the ring buffer doesn't retain it
+	 */
+	void clear()
+	{
+		this.eventEntry = null;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return String.valueOf(this.eventEntry);
+	}
+}
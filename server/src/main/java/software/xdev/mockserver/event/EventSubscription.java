@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.event;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.xdev.mockserver.event.model.EventEntry;
+import software.xdev.mockserver.matchers.HttpRequestMatcher;
+import software.xdev.mockserver.model.LogEventRequestAndResponse;
+
+
+/**
+ * A live subscription to received requests and expectation responses. Matching events are added to a bounded buffer
+ * as they are appended to the event log; once the buffer is full further events are dropped and counted, so a slow
+ * subscriber can never block the event log.
+ */
+public class EventSubscription
+{
+	private static final Logger LOG = LoggerFactory.getLogger(EventSubscription.class);
+	
+	private final String subscriptionId;
+	private final HttpRequestMatcher httpRequestMatcher;
+	private final BlockingQueue<LogEventRequestAndResponse> buffer;
+	private final Runnable eventsAvailableListener;
+	private final AtomicLong delivered = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+	
+	EventSubscription(
+		final String subscriptionId,
+		final HttpRequestMatcher httpRequestMatcher,
+		final int bufferSize,
+		final Runnable eventsAvailableListener)
+	{
+		this.subscriptionId = subscriptionId;
+		this.httpRequestMatcher = httpRequestMatcher;
+		this.buffer = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+		this.eventsAvailableListener = eventsAvailableListener;
+	}
+	
+	boolean matches(final EventEntry eventEntry)
+	{
+		return eventEntry.matches(this.httpRequestMatcher);
+	}
+	
+	void offer(final LogEventRequestAndResponse event)
+	{
+		if(!this.buffer.offer(event) && this.dropped.incrementAndGet() == 1 && LOG.isWarnEnabled())
+		{
+			LOG.warn(
+				"Buffer of event subscription {} is full, events are dropped until the subscriber catches up",
+				this.subscriptionId);
+		}
+		this.eventsAvailableListener.run();
+	}
+	
+	/**
+	 * @return the next buffered event or null if no event is buffered
+	 */
+	public LogEventRequestAndResponse poll()
+	{
+		final LogEventRequestAndResponse event = this.buffer.poll();
+		if(event != null)
+		{
+			this.delivered.incrementAndGet();
+		}
+		return event;
+	}
+	
+	public String getSubscriptionId()
+	{
+		return this.subscriptionId;
+	}
+	
+	public int getBuffered()
+	{
+		return this.buffer.size();
+	}
+	
+	public long getDelivered()
+	{
+		return this.delivered.get();
+	}
+	
+	public long getDropped()
+	{
+		return this.dropped.get();
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "EventSubscription{"
+			+ "subscriptionId='" + this.subscriptionId + '\''
+			+ ", buffered=" + this.buffer.size()
+			+ ", delivered=" + this.delivered
+			+ ", dropped=" + this.dropped
+			+ '}';
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.event;
+
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import software.xdev.mockserver.event.model.EventEntry;
+import software.xdev.mockserver.verify.Verification;
+
+
+/**
+ * A verification that waits for its requests to be received, it counts the log entries that existed when it was
+ * registered (with a sequence up to the registered sequence) once and then every log entry appended afterwards, so
+ * the event log is never scanned again. Log entries can be appended concurrently by the event log shards. It
+ * completes as soon as its times are matched or have been exceeded, in the latter case it has failed.
+ */
+final class PendingVerification
+{
+	private final VerificationCounter verificationCounter;
+	private final Consumer<String> resultConsumer;
+	// no appended log entry is counted until registered, they are all counted as existing log entries
+	private long registeredSequence = Long.MAX_VALUE;
+	private boolean scanned;
+	private boolean completed;
+	private boolean failed;
+	private Future<?> timeout;
+	
+	PendingVerification(
+		final VerificationCounter verificationCounter,
+		final Consumer<String> resultConsumer)
+	{
+		this.verificationCounter = verificationCounter;
+		this.resultConsumer = resultConsumer;
+	}
+	
+	/**
+	 * Reads the sequence of the event log once this verification receives the appended log entries, the sequence is
+	 * read while holding the lock so a log entry appended concurrently either is counted as appended or has a sequence
+	 * up to the registered sequence
+	 */
+	synchronized void register(final LongSupplier sequence)
+	{
+		this.registeredSequence = sequence.getAsLong();
+	}
+	
+	/**
+	 * Counts a log entry that existed when this verification was registered
+	 */
+	synchronized void countExisting(final EventEntry logEntry)
+	{
+		if(logEntry.getSequence() <= this.registeredSequence)
+		{
+			this.verificationCounter.count(logEntry);
+		}
+	}
+	
+	/**
+	 * Counts a log entry appended after this verification was registered
+	 *
+	 * @return true if the verification has now been satisfied or has failed, it is then completed
+	 */
+	synchronized boolean countAppended(final EventEntry logEntry)
+	{
+		if(this.completed || logEntry.getSequence() <= this.registeredSequence)
+		{
+			return false;
+		}
+		this.verificationCounter.count(logEntry);
+		// the times can only be checked once all existing log entries have been counted
+		return this.scanned && this.completeIfDecided();
+	}
+	
+	/**
+	 * @return true if the verification has already been satisfied or has failed by the existing log entries, it is
+	 * then completed
+	 */
+	synchronized boolean existingCounted()
+	{
+		this.scanned = true;
+		return this.completeIfDecided();
+	}
+	
+	private boolean completeIfDecided()
+	{
+		// an upper bound can't be matched again once exceeded, so there is no need to wait for the timeout
+		this.failed = this.verificationCounter.exceeded();
+		if(this.failed || this.verificationCounter.matches())
+		{
+			this.completed = true;
+			if(this.timeout != null)
+			{
+				this.timeout.cancel(false);
+			}
+			return true;
+		}
+		return false;
+	}
+	
+	synchronized void setTimeout(final Future<?> timeout)
+	{
+		this.timeout = timeout;
+	}
+	
+	/**
+	 * @return true if the verification was still waiting, it is then completed and has failed
+	 */
+	synchronized boolean expire()
+	{
+		if(this.completed)
+		{
+			return false;
+		}
+		this.completed = true;
+		this.failed = true;
+		if(this.timeout != null)
+		{
+			this.timeout.cancel(false);
+		}
+		return true;
+	}
+	
+	synchronized boolean isFailed()
+	{
+		return this.failed;
+	}
+	
+	Verification getVerification()
+	{
+		return this.verificationCounter.getVerification();
+	}
+	
+	Consumer<String> getResultConsumer()
+	{
+		return this.resultConsumer;
+	}
+}
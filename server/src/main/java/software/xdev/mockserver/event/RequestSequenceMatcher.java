@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import software.xdev.mockserver.event.model.EventEntry;
+import software.xdev.mockserver.matchers.HttpRequestMatcher;
+import software.xdev.mockserver.matchers.MatcherBuilder;
+import software.xdev.mockserver.model.ExpectationId;
+import software.xdev.mockserver.model.RequestDefinition;
+
+
+/**
+ * Verifies a request sequence in a single pass over the event log, each log entry is only compared with the next
+ * expected element of the sequence and the pass ends as soon as the last element has been matched.
+ * <p>
+ * The requests of the scanned log entries are only referenced (not cloned) so the failure message can list them
+ * without a second pass over the event log.
+ */
+final class RequestSequenceMatcher
+{
+	private final Predicate<EventEntry> logEntryPredicate;
+	private final List<Predicate<EventEntry>> sequence;
+	private final List<RequestDefinition> scannedRequests = new ArrayList<>();
+	private int position;
+	
+	private RequestSequenceMatcher(
+		final Predicate<EventEntry> logEntryPredicate,
+		final List<Predicate<EventEntry>> sequence)
+	{
+		this.logEntryPredicate = logEntryPredicate;
+		this.sequence = sequence;
+	}
+	
+	static RequestSequenceMatcher forExpectationIds(
+		final List<ExpectationId> expectationIds,
+		final Predicate<EventEntry> logEntryPredicate)
+	{
+		final List<String> ids = expectationIds.stream()
+			.filter(Objects::nonNull)
+			.map(ExpectationId::getId)
+			.toList();
+		final List<Predicate<EventEntry>> sequence = new ArrayList<>();
+		for(final String id : ids)
+		{
+			sequence.add(logEntry -> id != null && id.equals(logEntry.getExpectationId()));
+		}
+		return new RequestSequenceMatcher(
+			logEntryPredicate.and(logEntry -> logEntry.matchesAnyExpectationId(ids)),
+			sequence);
+	}
+	
+	static RequestSequenceMatcher forRequests(
+		final List<RequestDefinition> requestDefinitions,
+		final Predicate<EventEntry> logEntryPredicate,
+		final MatcherBuilder matcherBuilder,
+		final String logCorrelationId)
+	{
+		final List<Predicate<EventEntry>> sequence = new ArrayList<>();
+		for(final RequestDefinition requestDefinition : requestDefinitions)
+		{
+			if(requestDefinition != null)
+			{
+				final HttpRequestMatcher httpRequestMatcher =
+					matcherBuilder.transformsToMatcher(requestDefinition.withLogCorrelationId(logCorrelationId));
+				sequence.add(logEntry -> {
+					for(final RequestDefinition httpRequest : logEntry.getHttpRequests())
+					{
+						if(httpRequestMatcher.matches(httpRequest))
+						{
+							return true;
+						}
+					}
+					return false;
+				});
+			}
+		}
+		return new RequestSequenceMatcher(logEntryPredicate, sequence);
+	}
+	
+	/**
+	 * @return true if the log entries contain the complete sequence in order
+	 */
+	boolean matches(final Iterable<EventEntry> logEntries)
+	{
+		for(final EventEntry logEntry : logEntries)
+		{
+			if(this.isComplete())
+			{
+				break;
+			}
+			if(this.logEntryPredicate.test(logEntry))
+			{
+				Collections.addAll(this.scannedRequests, logEntry.getHttpRequests());
+				if(this.sequence.get(this.position).test(logEntry))
+				{
+					this.position++;
+				}
+			}
+		}
+		return this.isComplete();
+	}
+	
+	private boolean isComplete()
+	{
+		return this.position == this.sequence.size();
+	}
+	
+	/**
+	 * @return the requests of all log entries scanned, i.e. all requests in the event log if the sequence wasn't found
+	 */
+	List<RequestDefinition> getScannedRequests()
+	{
+		return this.scannedRequests;
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.event;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import software.xdev.mockserver.event.model.EventEntry;
+import software.xdev.mockserver.matchers.HttpRequestMatcher;
+import software.xdev.mockserver.matchers.MatcherBuilder;
+import software.xdev.mockserver.verify.Verification;
+
+
+/**
+ * Counts the logged requests matching a single verification one log entry at a time, so any number of verifications
+ * can be evaluated in the same pass over the event log
+ */
+final class VerificationCounter
+{
+	private final Verification verification;
+	private final Predicate<EventEntry> logEntryPredicate;
+	private int count;
+	
+	VerificationCounter(
+		final Verification verification,
+		final Predicate<EventEntry> requestLogPredicate,
+		final Predicate<EventEntry> expectationLogPredicate,
+		final MatcherBuilder matcherBuilder,
+		final String logCorrelationId)
+	{
+		this.verification = verification;
+		if(verification.getExpectationId() != null)
+		{
+			final List<String> expectationIds = Collections.singletonList(verification.getExpectationId().getId());
+			this.logEntryPredicate =
+				expectationLogPredicate.and(logEntry -> logEntry.matchesAnyExpectationId(expectationIds));
+		}
+		else
+		{
+			final HttpRequestMatcher httpRequestMatcher = matcherBuilder.transformsToMatcher(
+				verification.getHttpRequest().withLogCorrelationId(logCorrelationId));
+			this.logEntryPredicate = requestLogPredicate.and(logEntry -> logEntry.matches(httpRequestMatcher));
+		}
+	}
+	
+	void count(final EventEntry logEntry)
+	{
+		if(this.logEntryPredicate.test(logEntry))
+		{
+			this.count += logEntry.getHttpRequests().length;
+		}
+	}
+	
+	boolean matches()
+	{
+		return this.verification.getTimes().matches(this.count);
+	}
+	
+	/**
+	 * @return true if more requests were counted than the times allow, so further log entries can't make the
+	 * verification match anymore
+	 */
+	boolean exceeded()
+	{
+		final int atMost = this.verification.getTimes().getAtMost();
+		return atMost != -1 && this.count > atMost;
+	}
+	
+	Verification getVerification()
+	{
+		return this.verification;
+	}
+}
@@ -26,7 +26,6 @@ import java.util.List;
 import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.lmax.disruptor.EventTranslator;
 
 import software.xdev.mockserver.matchers.HttpRequestMatcher;
 import software.xdev.mockserver.matchers.MatchDifference;
@@ -42,7 +41,7 @@ import software.xdev.mockserver.uuid.UUIDService;
 
 
 @SuppressWarnings("PMD.GodClass")
-public class EventEntry implements EventTranslator<EventEntry>
+public class EventEntry
 {
 	private static final RequestDefinition[] EMPTY_REQUEST_DEFINITIONS = new RequestDefinition[0];
 	private static final RequestDefinition[] DEFAULT_REQUESTS_DEFINITIONS = {request()};
@@ -51,6 +50,7 @@ public class EventEntry implements EventTranslator<EventEntry>
 	private String id;
 	private String correlationId;
 	private long epochTime = EpochService.currentTimeMillis();
+	private long sequence;
 	private String timestamp;
 	private EventType type;
 	private RequestDefinition[] httpRequests;
@@ -87,6 +87,7 @@ public class EventEntry implements EventTranslator<EventEntry>
 		this.id = null;
 		this.correlationId = null;
 		this.epochTime = -1;
+		this.sequence = 0;
 		this.timestamp = null;
 		this.type = null;
 		this.httpRequests = null;
@@ -111,6 +112,21 @@ public class EventEntry implements EventTranslator<EventEntry>
 		return this;
 	}
 	
+	/**
+	 * Position of this entry in the event log, assigned when the entry is added to the log and strictly increasing
+	 * for the lifetime of the event log (it is not reset when the log is cleared), 0 if not yet added
+	 */
+	public long getSequence()
+	{
+		return this.sequence;
+	}
+	
+	public EventEntry setSequence(final long sequence)
+	{
+		this.sequence = sequence;
+		return this;
+	}
+	
 	public String getTimestamp()
 	{
 		if(this.timestamp == null)
@@ -302,13 +318,6 @@ public class EventEntry implements EventTranslator<EventEntry>
 		return this;
 	}
 	
-	public EventEntry cloneAndClear()
-	{
-		final EventEntry clone = this.clone();
-		this.clear();
-		return clone;
-	}
-	
 	@Override
 	@SuppressWarnings({"MethodDoesntCallSuperMethod", "checkstyle:NoClone"})
 	public EventEntry clone()
@@ -317,6 +326,7 @@ public class EventEntry implements EventTranslator<EventEntry>
 			.setId(this.id())
 			.setType(this.getType())
 			.setEpochTime(this.getEpochTime())
+			.setSequence(this.getSequence())
 			.setCorrelationId(this.getCorrelationId())
 			.setHttpRequests(this.getHttpRequests())
 			.setHttpResponse(this.getHttpResponse())
@@ -328,25 +338,6 @@ public class EventEntry implements EventTranslator<EventEntry>
 			.setDeleted(this.isDeleted());
 	}
 	
-	@Override
-	public void translateTo(final EventEntry event, final long sequence)
-	{
-		event
-			.setId(this.id())
-			.setType(this.getType())
-			.setEpochTime(this.getEpochTime())
-			.setCorrelationId(this.getCorrelationId())
-			.setHttpRequests(this.getHttpRequests())
-			.setHttpResponse(this.getHttpResponse())
-			.setHttpError(this.getHttpError())
-			.setExpectation(this.getExpectation())
-			.setExpectationId(this.getExpectationId())
-			.setException(this.getException())
-			.setConsumer(this.getConsumer())
-			.setDeleted(this.isDeleted());
-		this.clear();
-	}
-	
 	@Override
 	public boolean equals(final Object o)
 	{
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
@@ -39,13 +40,12 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelOutboundInvoker;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.MultiThreadIoEventLoopGroup;
-import io.netty.channel.nio.NioIoHandler;
 import software.xdev.mockserver.configuration.ServerConfiguration;
 import software.xdev.mockserver.mock.HttpState;
 import software.xdev.mockserver.scheduler.Scheduler;
 import software.xdev.mockserver.scheduler.SchedulerThreadFactory;
 import software.xdev.mockserver.stop.Stoppable;
+import software.xdev.mockserver.transport.NettyTransport;
 
 
 @SuppressWarnings("PMD.AvoidUnmanagedThreads") // WebServer that manages channels with threads
@@ -54,10 +54,13 @@ public abstract class LifeCycle implements Stoppable
 	private static final Logger LOG = LoggerFactory.getLogger(LifeCycle.class);
 	protected final EventLoopGroup bossGroup;
 	protected final EventLoopGroup workerGroup;
+	protected final NettyTransport transport;
+	protected final int acceptorsPerPort;
 	protected final HttpState httpState;
 	private final ServerConfiguration configuration;
 	protected ServerBootstrap serverServerBootstrap;
 	private final List<Future<Channel>> serverChannelFutures = new ArrayList<>();
+	private final List<Channel> additionalAcceptorChannels = new CopyOnWriteArrayList<>();
 	private final CompletableFuture<Void> stopFuture = new CompletableFuture<>();
 	private final AtomicBoolean stopping = new AtomicBoolean(false);
 	private final Scheduler scheduler;
@@ -65,18 +68,33 @@ public abstract class LifeCycle implements Stoppable
 	protected LifeCycle(final ServerConfiguration configuration)
 	{
 		this.configuration = configuration != null ? configuration : configuration();
-		this.bossGroup = new MultiThreadIoEventLoopGroup(
-			5,
-			new SchedulerThreadFactory(this.getClass().getSimpleName() + "-bossEventLoop"),
-			NioIoHandler.newFactory());
-		this.workerGroup = new MultiThreadIoEventLoopGroup(
+		this.transport = NettyTransport.select(this.configuration.nettyTransport());
+		this.acceptorsPerPort = this.acceptorsPerPort();
+		this.bossGroup = this.transport.newEventLoopGroup(
+			Math.max(5, this.acceptorsPerPort),
+			new SchedulerThreadFactory(this.getClass().getSimpleName() + "-bossEventLoop"));
+		this.workerGroup = this.transport.newEventLoopGroup(
 			this.configuration.nioEventLoopThreadCount(),
-			new SchedulerThreadFactory(this.getClass().getSimpleName() + "-workerEventLoop"),
-			NioIoHandler.newFactory());
+			new SchedulerThreadFactory(this.getClass().getSimpleName() + "-workerEventLoop"));
 		this.scheduler = new Scheduler(this.configuration);
 		this.httpState = new HttpState(this.configuration, this.scheduler);
 	}
 	
+	private int acceptorsPerPort()
+	{
+		final int acceptors = Math.max(1, this.configuration.acceptorsPerPort());
+		if(acceptors > 1 && !this.transport.isReusePortSupported())
+		{
+			LOG.warn(
+				"Binding ports with {} acceptors requires SO_REUSEPORT which isn't supported by the {} transport, "
+					+ "binding each port once",
+				acceptors,
+				this.transport);
+			return 1;
+		}
+		return acceptors;
+	}
+	
 	public CompletableFuture<Void> stopAsync()
 	{
 		if(!this.stopFuture.isDone() && this.stopping.compareAndSet(false, true))
@@ -85,19 +103,21 @@ public abstract class LifeCycle implements Stoppable
 			LOG.info("Stopped for port{}", localPorts.size() == 1 ? ": " + localPorts.get(0) : "s: " + localPorts);
 			
 			new SchedulerThreadFactory("Stop").newThread(() -> {
-				final List<ChannelFuture> collect = this.serverChannelFutures
-					.stream()
-					.flatMap(channelFuture -> {
-						try
-						{
-							return Stream.of(channelFuture.get(60, SECONDS));
-						}
-						catch(final Exception ex)
-						{
-							// ignore
-							return Stream.empty();
-						}
-					})
+				final List<ChannelFuture> collect = Stream.concat(
+						this.serverChannelFutures
+							.stream()
+							.flatMap(channelFuture -> {
+								try
+								{
+									return Stream.of(channelFuture.get(60, SECONDS));
+								}
+								catch(final Exception ex)
+								{
+									// ignore
+									return Stream.empty();
+								}
+							}),
+						this.additionalAcceptorChannels.stream())
 					.map(ChannelOutboundInvoker::disconnect)
 					.toList();
 				try
@@ -274,9 +294,10 @@ public abstract class LifeCycle implements Stoppable
 					}
 				}).start();
 				
-				actualPortBindings.add(((InetSocketAddress)channelOpened
-					.get(this.configuration.maxFutureTimeoutInMillis(), MILLISECONDS).localAddress())
-					.getPort());
+				final InetSocketAddress boundAddress = (InetSocketAddress)channelOpened
+					.get(this.configuration.maxFutureTimeoutInMillis(), MILLISECONDS).localAddress();
+				this.bindAdditionalAcceptors(serverBootstrap, boundAddress);
+				actualPortBindings.add(boundAddress.getPort());
 			}
 			catch(final Exception e)
 			{
@@ -288,6 +309,21 @@ public abstract class LifeCycle implements Stoppable
 		return actualPortBindings;
 	}
 	
+	/**
+	 * Binds the already bound address (i.e. including the actual port if port 0 was requested) with further server
+	 * sockets using SO_REUSEPORT, they are registered with the next boss event loops so connections are accepted by
+	 * several threads
+	 */
+	private void bindAdditionalAcceptors(final ServerBootstrap serverBootstrap, final InetSocketAddress boundAddress)
+	{
+		for(int i = 1; i < this.acceptorsPerPort; i++)
+		{
+			final ChannelFuture bindFuture = serverBootstrap.bind(boundAddress);
+			this.additionalAcceptorChannels.add(bindFuture.channel());
+			bindFuture.syncUninterruptibly();
+		}
+	}
+	
 	protected void startedServer(final List<Integer> ports)
 	{
 		setPort(ports);
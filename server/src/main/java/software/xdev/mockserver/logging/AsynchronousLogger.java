@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.logging;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import software.xdev.mockserver.configuration.ServerConfiguration;
+import software.xdev.mockserver.scheduler.SchedulerThreadFactory;
+
+
+/**
+ * Writes log messages on a dedicated logging thread, the arguments (i.e. requests, responses and expectations) are
+ * only rendered, which for model objects means pretty printed as JSON by their toString, on that thread so request
+ * threads never serialize for logging.
+ * <p>
+ * The queue is bounded, when it is full further messages are dropped and the number of dropped messages is logged
+ * once the logging thread has caught up.
+ */
+public class AsynchronousLogger
+{
+	private static final Logger LOG = LoggerFactory.getLogger(AsynchronousLogger.class);
+	
+	private final BlockingQueue<LogMessage> queue;
+	private final ExecutorService loggingExecutor;
+	private final AtomicLong dropped = new AtomicLong();
+	
+	public AsynchronousLogger(final ServerConfiguration configuration)
+	{
+		if(configuration.asynchronousLogging())
+		{
+			this.queue = new ArrayBlockingQueue<>(Math.max(1, configuration.asynchronousLoggingQueueSize()));
+			this.loggingExecutor = new ThreadPoolExecutor(
+				1,
+				1,
+				0L,
+				TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(),
+				new SchedulerThreadFactory("AsynchronousLogging"));
+			this.loggingExecutor.execute(this::writeMessages);
+		}
+		else
+		{
+			this.queue = null;
+			this.loggingExecutor = null;
+		}
+	}
+	
+	public void info(final Logger logger, final String format, final Object... arguments)
+	{
+		this.log(logger, Level.INFO, format, arguments);
+	}
+	
+	public void log(final Logger logger, final Level level, final String format, final Object... arguments)
+	{
+		if(!logger.isEnabledForLevel(level))
+		{
+			return;
+		}
+		if(this.queue == null)
+		{
+			logger.atLevel(level).log(format, arguments);
+		}
+		else if(!this.queue.offer(new LogMessage(logger, level, format, arguments)))
+		{
+			this.dropped.incrementAndGet();
+		}
+	}
+	
+	public long getDropped()
+	{
+		return this.dropped.get();
+	}
+	
+	private void writeMessages()
+	{
+		try
+		{
+			while(!Thread.currentThread().isInterrupted())
+			{
+				this.write(this.queue.take());
+			}
+		}
+		catch(final InterruptedException ignore)
+		{
+			Thread.currentThread().interrupt();
+		}
+		// write the messages queued before stopping
+		LogMessage logMessage = this.queue.poll();
+		while(logMessage != null)
+		{
+			this.write(logMessage);
+			logMessage = this.queue.poll();
+		}
+	}
+	
+	private void write(final LogMessage logMessage)
+	{
+		try
+		{
+			logMessage.logger().atLevel(logMessage.level()).log(logMessage.format(), logMessage.arguments());
+		}
+		catch(final RuntimeException ex)
+		{
+			LOG.error("Exception while writing log message {}", logMessage.format(), ex);
+		}
+		final long droppedSinceLastMessage = this.dropped.getAndSet(0);
+		if(droppedSinceLastMessage > 0 && LOG.isWarnEnabled())
+		{
+			LOG.warn(
+				"Dropped {} log messages because the asynchronous logging queue was full",
+				droppedSinceLastMessage);
+		}
+	}
+	
+	public void stop()
+	{
+		if(this.loggingExecutor != null)
+		{
+			this.loggingExecutor.shutdownNow();
+		}
+	}
+	
+	record LogMessage(Logger logger, Level level, String format, Object[] arguments)
+	{
+	}
+}
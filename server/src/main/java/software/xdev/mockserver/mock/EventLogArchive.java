@@ -0,0 +1,362 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.mock;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static software.xdev.mockserver.model.HttpRequest.request;
+import static software.xdev.mockserver.model.HttpResponse.response;
+import static software.xdev.mockserver.util.StringUtils.isBlank;
+import static software.xdev.mockserver.util.StringUtils.isNotBlank;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.xdev.mockserver.configuration.ServerConfiguration;
+import software.xdev.mockserver.event.EventBus;
+import software.xdev.mockserver.event.model.EventEntry;
+import software.xdev.mockserver.matchers.TimeToLive;
+import software.xdev.mockserver.matchers.Times;
+import software.xdev.mockserver.model.ArchiveFormat;
+import software.xdev.mockserver.model.HttpRequest;
+import software.xdev.mockserver.model.HttpResponse;
+import software.xdev.mockserver.model.ImportType;
+import software.xdev.mockserver.model.LogEventRequestAndResponse;
+import software.xdev.mockserver.model.MediaType;
+import software.xdev.mockserver.model.RequestDefinition;
+import software.xdev.mockserver.serialization.ObjectMappers;
+import software.xdev.mockserver.serialization.RequestDefinitionSerializer;
+import software.xdev.mockserver.serialization.model.LogEventRequestAndResponseDTO;
+import software.xdev.mockserver.uuid.UUIDService;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.SequenceWriter;
+
+
+/**
+ * Exports the requests and responses of the event log to a gzip compressed newline delimited JSON (NDJSON) or HAR
+ * file (see {@link HarArchive}) and imports such files back into the event log or as expectations.
+ * <p>
+ * Entries are written to and read from the file one at a time, neither the file nor the log is ever held in memory
+ * as a single string or list, an export iterates the log on the event log thread. Imported entries wait for space in
+ * the event log ring buffer, so none are dropped by the backpressure policy. Files are always resolved against the
+ * configured event log archive directory.
+ */
+@SuppressWarnings("PMD.GodClass")
+public class EventLogArchive
+{
+	private static final Logger LOG = LoggerFactory.getLogger(EventLogArchive.class);
+	private static final DateTimeFormatter LOG_DTF = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+	
+	private final HttpState httpState;
+	private final EventBus eventBus;
+	private final ServerConfiguration configuration;
+	private final RequestDefinitionSerializer requestDefinitionSerializer = new RequestDefinitionSerializer();
+	
+	public EventLogArchive(final HttpState httpState, final ServerConfiguration configuration)
+	{
+		this.httpState = httpState;
+		this.eventBus = httpState.getEventBus();
+		this.configuration = configuration;
+	}
+	
+	/**
+	 * Handles PUT /mockserver/export?path=...&amp;format=ndjson|har, the optional request body is a request matcher
+	 */
+	public HttpResponse export(final HttpRequest request)
+	{
+		final RequestDefinition requestDefinition = isNotBlank(request.getBodyAsString())
+			? this.requestDefinitionSerializer.deserialize(request.getBodyAsJsonOrXmlString())
+			: null;
+		final String path = request.getFirstQueryStringParameter("path");
+		final ArchiveFormat format = enumParameter(request, "format", ArchiveFormat.class, ArchiveFormat.NDJSON);
+		try
+		{
+			final int count = this.export(requestDefinition, path, format);
+			if(LOG.isInfoEnabled())
+			{
+				LOG.info("Exported {} requests and responses in {} to {}", count, format.name().toLowerCase(), path);
+			}
+			return archiveResponse(path, count);
+		}
+		catch(final IOException ioe)
+		{
+			throw new UncheckedIOException("Exception exporting event log to " + path, ioe);
+		}
+	}
+	
+	/**
+	 * Handles PUT /mockserver/import?path=...&amp;format=ndjson|har&amp;type=log|expectations
+	 */
+	public HttpResponse importArchive(final HttpRequest request)
+	{
+		final String path = request.getFirstQueryStringParameter("path");
+		final ArchiveFormat format = enumParameter(request, "format", ArchiveFormat.class, ArchiveFormat.NDJSON);
+		final ImportType type = enumParameter(request, "type", ImportType.class, ImportType.LOG);
+		try
+		{
+			final int count = this.importArchive(path, format, type);
+			if(LOG.isInfoEnabled())
+			{
+				LOG.info(
+					"Imported {} requests and responses in {} from {} as {}",
+					count,
+					format.name().toLowerCase(),
+					path,
+					type.name().toLowerCase());
+			}
+			return archiveResponse(path, count);
+		}
+		catch(final IOException ioe)
+		{
+			throw new UncheckedIOException("Exception importing event log from " + path, ioe);
+		}
+	}
+	
+	private static HttpResponse archiveResponse(final String path, final int count)
+	{
+		return response().withBody(
+			ObjectMappers.DEFAULT_MAPPER.createObjectNode()
+				.put("path", path)
+				.put("entries", count)
+				.toString(),
+			MediaType.JSON_UTF_8);
+	}
+	
+	private static <E extends Enum<E>> E enumParameter(
+		final HttpRequest request,
+		final String name,
+		final Class<E> type,
+		final E defaultValue)
+	{
+		final String value = request.getFirstQueryStringParameter(name);
+		if(isBlank(value))
+		{
+			return defaultValue;
+		}
+		try
+		{
+			return Enum.valueOf(type, value.trim().toUpperCase());
+		}
+		catch(final IllegalArgumentException iae)
+		{
+			throw new IllegalArgumentException("\"" + value + "\" is not a valid value for \"" + name
+				+ "\" parameter, only the following values are supported "
+				+ Arrays.stream(type.getEnumConstants())
+				.map(input -> input.name().toLowerCase())
+				.collect(Collectors.toList()), iae);
+		}
+	}
+	
+	/**
+	 * Writes the requests and responses matching the request definition to a gzip compressed archive
+	 *
+	 * @param requestDefinition only matching requests and responses are exported, null for all
+	 * @param path              file to write, relative to the event log archive directory
+	 * @param format            NDJSON with one request and response per line or HAR
+	 * @return number of exported requests and responses
+	 */
+	public int export(final RequestDefinition requestDefinition, final String path, final ArchiveFormat format)
+		throws IOException
+	{
+		final Path file = this.resolve(path);
+		if(file.getParent() != null)
+		{
+			Files.createDirectories(file.getParent());
+		}
+		final CompletableFuture<Integer> countFuture = new CompletableFuture<>();
+		this.eventBus.streamRequestResponses(requestDefinition, entries -> {
+			try(OutputStream outputStream =
+				new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file))))
+			{
+				countFuture.complete(format == ArchiveFormat.HAR
+					? HarArchive.write(entries, outputStream)
+					: writeNdjson(entries, outputStream));
+			}
+			catch(final IOException | RuntimeException ex)
+			{
+				countFuture.completeExceptionally(ex);
+			}
+		});
+		return this.awaitExport(countFuture);
+	}
+	
+	/**
+	 * Reads an archive, gzip compressed or not, and replays it into the event log or adds each request and response
+	 * as an expectation
+	 *
+	 * @param path   file to read, relative to the event log archive directory
+	 * @param format NDJSON with one request and response per line or HAR
+	 * @param type   LOG to replay the requests and responses into the event log or EXPECTATIONS to respond to each
+	 *               request with its recorded response
+	 * @return number of imported requests and responses
+	 */
+	public int importArchive(final String path, final ArchiveFormat format, final ImportType type)
+		throws IOException
+	{
+		final BiConsumer<HttpRequest, LogEventRequestAndResponse> importer = type == ImportType.EXPECTATIONS
+			? this::addExpectation
+			: this::addLogEntries;
+		try(InputStream inputStream = openArchive(this.resolve(path)))
+		{
+			return format == ArchiveFormat.HAR
+				? HarArchive.read(inputStream, importer)
+				: readNdjson(inputStream, importer);
+		}
+	}
+	
+	private int awaitExport(final CompletableFuture<Integer> countFuture) throws IOException
+	{
+		try
+		{
+			return countFuture.get(this.configuration.maxFutureTimeoutInMillis(), MILLISECONDS);
+		}
+		catch(final ExecutionException ee)
+		{
+			if(ee.getCause() instanceof IOException)
+			{
+				throw new IOException(ee.getCause().getMessage(), ee);
+			}
+			throw new IllegalStateException("Exception exporting requests and responses", ee);
+		}
+		catch(final TimeoutException te)
+		{
+			throw new IllegalStateException("Timeout exporting requests and responses", te);
+		}
+		catch(final InterruptedException ie)
+		{
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted exporting requests and responses", ie);
+		}
+	}
+	
+	/**
+	 * Resolves the path against the event log archive directory, rejecting any path that escapes it
+	 */
+	Path resolve(final String path)
+	{
+		if(path == null || path.isBlank())
+		{
+			throw new IllegalArgumentException("\"path\" parameter is required");
+		}
+		final Path directory = Paths.get(this.configuration.eventLogArchiveDirectory()).toAbsolutePath().normalize();
+		final Path file = directory.resolve(path).normalize();
+		if(!file.startsWith(directory) || file.equals(directory))
+		{
+			throw new IllegalArgumentException("\"" + path + "\" is not a valid value for \"path\" parameter, only "
+				+ "files inside the event log archive directory " + directory + " are supported");
+		}
+		return file;
+	}
+	
+	@SuppressWarnings("checkstyle:MagicNumber")
+	private static InputStream openArchive(final Path file) throws IOException
+	{
+		final BufferedInputStream inputStream = new BufferedInputStream(Files.newInputStream(file));
+		inputStream.mark(2);
+		final int magic = inputStream.read() | inputStream.read() << 8;
+		inputStream.reset();
+		return magic == GZIPInputStream.GZIP_MAGIC ? new GZIPInputStream(inputStream) : inputStream;
+	}
+	
+	private static int writeNdjson(final Stream<LogEventRequestAndResponse> entries, final OutputStream outputStream)
+	{
+		int count = 0;
+		try(SequenceWriter sequenceWriter = ObjectMappers.COMPACT_WRITER
+			.withRootValueSeparator("\n")
+			.writeValues(outputStream))
+		{
+			for(final LogEventRequestAndResponse entry : (Iterable<LogEventRequestAndResponse>)entries::iterator)
+			{
+				sequenceWriter.write(new LogEventRequestAndResponseDTO(entry));
+				count++;
+			}
+		}
+		return count;
+	}
+	
+	private static int readNdjson(
+		final InputStream inputStream,
+		final BiConsumer<HttpRequest, LogEventRequestAndResponse> importer)
+	{
+		int count = 0;
+		try(MappingIterator<LogEventRequestAndResponseDTO> lines = ObjectMappers.DEFAULT_MAPPER
+			.readerFor(LogEventRequestAndResponseDTO.class)
+			.readValues(inputStream))
+		{
+			while(lines.hasNext())
+			{
+				final LogEventRequestAndResponse entry = lines.next().buildObject();
+				if(entry.getHttpRequest() instanceof final HttpRequest httpRequest)
+				{
+					importer.accept(httpRequest, entry);
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+	
+	private void addLogEntries(final HttpRequest httpRequest, final LogEventRequestAndResponse entry)
+	{
+		final String correlationId = UUIDService.getUUID();
+		final long epochTime = entry.getTimestamp() != null
+			? LocalDateTime.parse(entry.getTimestamp(), LOG_DTF).atZone(ZoneId.systemDefault()).toInstant()
+			.toEpochMilli()
+			: Instant.now().toEpochMilli();
+		this.eventBus.addWaiting(new EventEntry()
+			.setType(EventEntry.EventType.RECEIVED_REQUEST)
+			.setEpochTime(epochTime)
+			.setCorrelationId(correlationId)
+			.setHttpRequest(httpRequest));
+		this.eventBus.addWaiting(new EventEntry()
+			.setType(entry.getExpectationId() != null
+				? EventEntry.EventType.EXPECTATION_RESPONSE
+				: EventEntry.EventType.NO_MATCH_RESPONSE)
+			.setEpochTime(epochTime)
+			.setCorrelationId(correlationId)
+			.setHttpRequest(httpRequest)
+			.setHttpResponse(entry.getHttpResponse())
+			.setExpectationId(entry.getExpectationId()));
+	}
+	
+	private void addExpectation(final HttpRequest httpRequest, final LogEventRequestAndResponse entry)
+	{
+		this.httpState.add(new Expectation(httpRequest, Times.once(), TimeToLive.unlimited(), 0)
+			.thenRespond(entry.getHttpResponse() != null ? entry.getHttpResponse() : response()));
+	}
+}
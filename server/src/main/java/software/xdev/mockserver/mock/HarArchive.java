@@ -0,0 +1,412 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.mock;
+
+import static software.xdev.mockserver.model.HttpRequest.request;
+import static software.xdev.mockserver.model.HttpResponse.response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.jar.Attributes;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.handler.codec.http.QueryStringEncoder;
+import software.xdev.mockserver.model.BinaryBody;
+import software.xdev.mockserver.model.Body;
+import software.xdev.mockserver.model.Header;
+import software.xdev.mockserver.model.HttpRequest;
+import software.xdev.mockserver.model.HttpResponse;
+import software.xdev.mockserver.model.LogEventRequestAndResponse;
+import software.xdev.mockserver.model.NottableString;
+import software.xdev.mockserver.serialization.ObjectMappers;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JsonNode;
+
+
+/**
+ * Streams requests and responses to and from HTTP Archive (HAR) 1.2 documents, the log sequence and matched
+ * expectation id are written as the custom entry fields <code>_sequence</code> and <code>_expectationId</code>.
+ */
+@SuppressWarnings("PMD.GodClass")
+final class HarArchive
+{
+	private static final Logger LOG = LoggerFactory.getLogger(HarArchive.class);
+	private static final DateTimeFormatter LOG_DTF = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+	private static final String HAR_VERSION = "1.2";
+	private static final String HTTP_VERSION = "HTTP/1.1";
+	private static final String BASE64_ENCODING = "base64";
+	private static final String MOCKSERVER_VERSION = mockServerVersion();
+	
+	private HarArchive()
+	{
+	}
+	
+	/**
+	 * @return number of written requests and responses
+	 */
+	static int write(final Stream<LogEventRequestAndResponse> entries, final OutputStream outputStream)
+	{
+		int count = 0;
+		try(JsonGenerator generator = ObjectMappers.DEFAULT_MAPPER.createGenerator(outputStream))
+		{
+			generator.writeStartObject();
+			generator.writeName("log");
+			generator.writeStartObject();
+			generator.writeStringProperty("version", HAR_VERSION);
+			generator.writeName("creator");
+			generator.writeStartObject();
+			generator.writeStringProperty("name", "MockServer");
+			generator.writeStringProperty("version", MOCKSERVER_VERSION);
+			generator.writeEndObject();
+			generator.writeName("entries");
+			generator.writeStartArray();
+			for(final LogEventRequestAndResponse entry : (Iterable<LogEventRequestAndResponse>)entries::iterator)
+			{
+				if(entry.getHttpRequest() instanceof final HttpRequest httpRequest)
+				{
+					writeHarEntry(generator, entry, httpRequest);
+					count++;
+				}
+			}
+			generator.writeEndArray();
+			generator.writeEndObject();
+			generator.writeEndObject();
+		}
+		return count;
+	}
+	
+	/**
+	 * @return the version of the MockServer jar (from the manifest of the core or the standalone jar), "unknown" if
+	 * not run from a jar
+	 */
+	private static String mockServerVersion()
+	{
+		try
+		{
+			final Enumeration<URL> manifests = HarArchive.class.getClassLoader().getResources("META-INF/MANIFEST.MF");
+			while(manifests.hasMoreElements())
+			{
+				try(InputStream inputStream = manifests.nextElement().openStream())
+				{
+					final Attributes buildInfo = new Manifest(inputStream).getAttributes("Mockserver-Info");
+					if(buildInfo != null && buildInfo.getValue("Version") != null)
+					{
+						return buildInfo.getValue("Version");
+					}
+				}
+			}
+		}
+		catch(final IOException | UncheckedIOException ex)
+		{
+			LOG.debug("Failed to determine MockServer version from jar manifest", ex);
+		}
+		return "unknown";
+	}
+	
+	private static void writeHarEntry(
+		final JsonGenerator generator,
+		final LogEventRequestAndResponse entry,
+		final HttpRequest httpRequest)
+	{
+		generator.writeStartObject();
+		generator.writeStringProperty("startedDateTime", toIsoDateTime(entry.getTimestamp()));
+		generator.writeNumberProperty("time", 0);
+		generator.writeName("request");
+		writeHarRequest(generator, httpRequest);
+		generator.writeName("response");
+		writeHarResponse(generator, entry.getHttpResponse() != null ? entry.getHttpResponse() : response());
+		generator.writeName("cache");
+		generator.writeStartObject();
+		generator.writeEndObject();
+		generator.writeName("timings");
+		generator.writeStartObject();
+		generator.writeNumberProperty("send", 0);
+		generator.writeNumberProperty("wait", 0);
+		generator.writeNumberProperty("receive", 0);
+		generator.writeEndObject();
+		if(entry.getSequence() != null)
+		{
+			generator.writeNumberProperty("_sequence", entry.getSequence());
+		}
+		if(entry.getExpectationId() != null)
+		{
+			generator.writeStringProperty("_expectationId", entry.getExpectationId());
+		}
+		generator.writeEndObject();
+	}
+	
+	private static void writeHarRequest(final JsonGenerator generator, final HttpRequest httpRequest)
+	{
+		final String host = httpRequest.getFirstHeader("host");
+		final QueryStringEncoder url = new QueryStringEncoder("http://"
+			+ (host.isEmpty() ? "localhost" : host)
+			+ (httpRequest.getPath() != null ? httpRequest.getPath().getValue() : "/"));
+		final Map<String, List<String>> queryString = new LinkedHashMap<>();
+		httpRequest.getQueryStringParameterList().forEach(parameter -> queryString.put(
+			parameter.getName().getValue(),
+			parameter.getValues().stream().map(NottableString::getValue).toList()));
+		queryString.forEach((name, values) -> values.forEach(value -> url.addParam(name, value)));
+		generator.writeStartObject();
+		generator.writeStringProperty("method", httpRequest.getMethod("GET"));
+		generator.writeStringProperty("url", url.toString());
+		generator.writeStringProperty("httpVersion", HTTP_VERSION);
+		generator.writeName("cookies");
+		generator.writeStartArray();
+		generator.writeEndArray();
+		writeNameValues(generator, "headers", toMap(httpRequest.getHeaderList()));
+		writeNameValues(generator, "queryString", queryString);
+		final Body<?> body = httpRequest.getBody();
+		if(body != null)
+		{
+			generator.writeName("postData");
+			generator.writeStartObject();
+			generator.writeStringProperty("mimeType", defaultString(body.getContentType()));
+			writeHarText(generator, body instanceof BinaryBody, httpRequest.getBodyAsRawBytes());
+			generator.writeEndObject();
+		}
+		generator.writeNumberProperty("headersSize", -1);
+		generator.writeNumberProperty("bodySize", body != null ? httpRequest.getBodyAsRawBytes().length : 0);
+		generator.writeEndObject();
+	}
+	
+	@SuppressWarnings("checkstyle:MagicNumber")
+	private static void writeHarResponse(final JsonGenerator generator, final HttpResponse httpResponse)
+	{
+		final byte[] body = httpResponse.getBodyAsRawBytes();
+		generator.writeStartObject();
+		generator.writeNumberProperty(
+			"status",
+			httpResponse.getStatusCode() != null ? httpResponse.getStatusCode() : 200);
+		generator.writeStringProperty("statusText", defaultString(httpResponse.getReasonPhrase()));
+		generator.writeStringProperty("httpVersion", HTTP_VERSION);
+		generator.writeName("cookies");
+		generator.writeStartArray();
+		generator.writeEndArray();
+		writeNameValues(generator, "headers", toMap(httpResponse.getHeaderList()));
+		generator.writeName("content");
+		generator.writeStartObject();
+		generator.writeNumberProperty("size", body != null ? body.length : 0);
+		generator.writeStringProperty(
+			"mimeType",
+			httpResponse.getBody() != null
+				? defaultString(httpResponse.getBody().getContentType())
+				: defaultString(httpResponse.getFirstHeader("content-type")));
+		if(body != null)
+		{
+			writeHarText(generator, httpResponse.getBody() instanceof BinaryBody, body);
+		}
+		generator.writeEndObject();
+		generator.writeStringProperty("redirectURL", defaultString(httpResponse.getFirstHeader("location")));
+		generator.writeNumberProperty("headersSize", -1);
+		generator.writeNumberProperty("bodySize", body != null ? body.length : 0);
+		generator.writeEndObject();
+	}
+	
+	private static void writeHarText(final JsonGenerator generator, final boolean binary, final byte[] bytes)
+	{
+		if(binary)
+		{
+			generator.writeStringProperty("text", Base64.getEncoder().encodeToString(bytes));
+			generator.writeStringProperty("encoding", BASE64_ENCODING);
+		}
+		else
+		{
+			generator.writeStringProperty("text", new String(bytes, StandardCharsets.UTF_8));
+		}
+	}
+	
+	private static void writeNameValues(
+		final JsonGenerator generator,
+		final String name,
+		final Map<String, List<String>> nameValues)
+	{
+		generator.writeName(name);
+		generator.writeStartArray();
+		nameValues.forEach((key, values) -> values.forEach(value -> {
+			generator.writeStartObject();
+			generator.writeStringProperty("name", key);
+			generator.writeStringProperty("value", value);
+			generator.writeEndObject();
+		}));
+		generator.writeEndArray();
+	}
+	
+	static int read(
+		final InputStream inputStream,
+		final BiConsumer<HttpRequest, LogEventRequestAndResponse> importer)
+	{
+		int count = 0;
+		try(JsonParser parser = ObjectMappers.DEFAULT_MAPPER.createParser(inputStream))
+		{
+			JsonToken token = parser.nextToken();
+			while(token != null)
+			{
+				if(token == JsonToken.PROPERTY_NAME && "entries".equals(parser.currentName()))
+				{
+					parser.nextToken();
+					while(parser.nextToken() == JsonToken.START_OBJECT)
+					{
+						if(readHarEntry(parser.readValueAsTree(), importer))
+						{
+							count++;
+						}
+					}
+					break;
+				}
+				token = parser.nextToken();
+			}
+		}
+		return count;
+	}
+	
+	/**
+	 * @return false if the entry was skipped because its request url is invalid
+	 */
+	private static boolean readHarEntry(
+		final JsonNode harEntry,
+		final BiConsumer<HttpRequest, LogEventRequestAndResponse> importer)
+	{
+		final HttpRequest httpRequest;
+		try
+		{
+			httpRequest = fromHarRequest(harEntry.path("request"));
+		}
+		catch(final IllegalArgumentException iae)
+		{
+			// e.g. a recorded url that is not percent-encoded, one such entry doesn't fail the whole import
+			if(LOG.isWarnEnabled())
+			{
+				LOG.warn(
+					"Skipped HAR entry with invalid request url {}: {}",
+					harEntry.path("request").path("url").asString(""),
+					iae.getMessage());
+			}
+			return false;
+		}
+		importer.accept(httpRequest, new LogEventRequestAndResponse()
+			.withHttpRequest(httpRequest)
+			.withHttpResponse(fromHarResponse(harEntry.path("response")))
+			.withTimestamp(fromIsoDateTime(harEntry.path("startedDateTime").asString()))
+			.withExpectationId(harEntry.has("_expectationId")
+				? harEntry.path("_expectationId").asString()
+				: null));
+		return true;
+	}
+	
+	private static HttpRequest fromHarRequest(final JsonNode harRequest)
+	{
+		final URI url = URI.create(harRequest.path("url").asString("/"));
+		final HttpRequest httpRequest = request()
+			.withMethod(harRequest.path("method").asString("GET"))
+			.withPath(url.getPath() != null && !url.getPath().isEmpty() ? url.getPath() : "/");
+		fromNameValues(harRequest.path("headers")).forEach(
+			(name, values) -> httpRequest.withHeader(name, values.toArray(new String[0])));
+		fromNameValues(harRequest.path("queryString")).forEach(
+			(name, values) -> httpRequest.withQueryStringParameter(name, values.toArray(new String[0])));
+		final JsonNode postData = harRequest.path("postData");
+		if(postData.has("text"))
+		{
+			httpRequest.withBody(fromHarText(postData));
+		}
+		return httpRequest;
+	}
+	
+	@SuppressWarnings("checkstyle:MagicNumber")
+	private static HttpResponse fromHarResponse(final JsonNode harResponse)
+	{
+		final HttpResponse httpResponse = response()
+			.withStatusCode(harResponse.path("status").asInt(200))
+			.withReasonPhrase(harResponse.path("statusText").asString(""));
+		fromNameValues(harResponse.path("headers")).forEach(
+			(name, values) -> httpResponse.withHeader(name, values.toArray(new String[0])));
+		final JsonNode content = harResponse.path("content");
+		if(content.has("text"))
+		{
+			httpResponse.withBody(fromHarText(content));
+		}
+		return httpResponse;
+	}
+	
+	private static byte[] fromHarText(final JsonNode content)
+	{
+		final String text = content.path("text").asString("");
+		return BASE64_ENCODING.equals(content.path("encoding").asString(""))
+			? Base64.getDecoder().decode(text)
+			: text.getBytes(StandardCharsets.UTF_8);
+	}
+	
+	private static Map<String, List<String>> fromNameValues(final JsonNode nameValues)
+	{
+		final Map<String, List<String>> values = new LinkedHashMap<>();
+		for(final JsonNode nameValue : nameValues.values())
+		{
+			values.computeIfAbsent(nameValue.path("name").asString(""), name -> new ArrayList<>())
+				.add(nameValue.path("value").asString(""));
+		}
+		return values;
+	}
+	
+	private static Map<String, List<String>> toMap(final List<Header> headers)
+	{
+		final Map<String, List<String>> values = new LinkedHashMap<>();
+		headers.forEach(header -> values.put(
+			header.getName().getValue(),
+			header.getValues().stream().map(NottableString::getValue).toList()));
+		return values;
+	}
+	
+	private static String toIsoDateTime(final String timestamp)
+	{
+		final LocalDateTime localDateTime = timestamp != null
+			? LocalDateTime.parse(timestamp, LOG_DTF)
+			: LocalDateTime.now();
+		return localDateTime.atZone(ZoneId.systemDefault()).toOffsetDateTime().toString();
+	}
+	
+	private static String fromIsoDateTime(final String isoDateTime)
+	{
+		return isoDateTime.isEmpty()
+			? null
+			: LOG_DTF.format(OffsetDateTime.parse(isoDateTime).atZoneSameInstant(ZoneId.systemDefault()));
+	}
+	
+	private static String defaultString(final String value)
+	{
+		return value != null ? value : "";
+	}
+}
@@ -16,6 +16,7 @@
 package software.xdev.mockserver.mock;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.ACCEPTED;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_ACCEPTABLE;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
@@ -23,18 +24,25 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static software.xdev.mockserver.logging.LoggingMessages.RECEIVED_REQUEST_MESSAGE_FORMAT;
 import static software.xdev.mockserver.model.HttpRequest.request;
 import static software.xdev.mockserver.model.HttpResponse.response;
+import static software.xdev.mockserver.model.RetrievedEntries.LIMIT_PARAMETER;
+import static software.xdev.mockserver.model.RetrievedEntries.SEQUENCE_HEADER;
+import static software.xdev.mockserver.model.RetrievedEntries.SINCE_SEQUENCE_PARAMETER;
 import static software.xdev.mockserver.util.StringUtils.defaultIfEmpty;
+import static software.xdev.mockserver.util.StringUtils.isBlank;
 import static software.xdev.mockserver.util.StringUtils.isEmpty;
 import static software.xdev.mockserver.util.StringUtils.isNotBlank;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -44,7 +52,9 @@ import software.xdev.mockserver.closurecallback.websocketregistry.LocalCallbackR
 import software.xdev.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry;
 import software.xdev.mockserver.configuration.ServerConfiguration;
 import software.xdev.mockserver.event.EventBus;
+import software.xdev.mockserver.event.EventLogPolicy;
 import software.xdev.mockserver.event.model.EventEntry;
+import software.xdev.mockserver.logging.AsynchronousLogger;
 import software.xdev.mockserver.model.Action;
 import software.xdev.mockserver.model.ClearType;
 import software.xdev.mockserver.model.ExpectationId;
@@ -61,9 +71,11 @@ import software.xdev.mockserver.scheduler.Scheduler;
 import software.xdev.mockserver.serialization.ExpectationIdSerializer;
 import software.xdev.mockserver.serialization.ExpectationSerializer;
 import software.xdev.mockserver.serialization.LogEventRequestAndResponseSerializer;
+import software.xdev.mockserver.serialization.ObjectMappers;
 import software.xdev.mockserver.serialization.RequestDefinitionSerializer;
 import software.xdev.mockserver.serialization.VerificationSequenceSerializer;
 import software.xdev.mockserver.serialization.VerificationSerializer;
+import software.xdev.mockserver.util.StringUtils;
 import software.xdev.mockserver.uuid.UUIDService;
 import software.xdev.mockserver.verify.Verification;
 import software.xdev.mockserver.verify.VerificationSequence;
@@ -78,6 +90,9 @@ public class HttpState
 	private static final ThreadLocal<Integer> LOCAL_PORT = new ThreadLocal<>();
 	private final String uniqueLoopPreventionHeaderValue = "MockServer_" + UUIDService.getUUID();
 	private final EventBus eventBus;
+	private final EventLogPolicy eventLogPolicy;
+	private final AsynchronousLogger asynchronousLogger;
+	private final EventLogArchive eventLogArchive;
 	private final Scheduler scheduler;
 	// mockserver
 	private final RequestMatchers requestMatchers;
@@ -134,7 +149,10 @@ public class HttpState
 		this.webSocketClientRegistry = new WebSocketClientRegistry(configuration);
 		LocalCallbackRegistry.setMaxWebSocketExpectations(configuration.maxWebSocketExpectations());
 		this.eventBus = new EventBus(configuration, true);
+		this.eventLogPolicy = new EventLogPolicy(configuration);
+		this.asynchronousLogger = new AsynchronousLogger(configuration);
 		this.requestMatchers = new RequestMatchers(configuration, scheduler, this.webSocketClientRegistry);
+		this.eventLogArchive = new EventLogArchive(this, configuration);
 		if(LOG.isTraceEnabled())
 		{
 			LOG.trace("Log ring buffer created, with size {}", configuration.ringBufferSize());
@@ -274,15 +292,50 @@ public class HttpState
 		this.requestMatchers.postProcess(expectation);
 	}
 	
+	public HttpResponse retrieve(final HttpRequest request)
+	{
+		final RetrievedResponse retrievedResponse = this.retrieveResponse(request);
+		if(retrievedResponse.jsonLines() != null)
+		{
+			final List<String> jsonLines = new ArrayList<>();
+			retrievedResponse.jsonLines().forEachRemaining(jsonLines::add);
+			return retrievedResponse.response().withBody(
+				jsonLines.stream().map(jsonLine -> jsonLine + "\n").collect(Collectors.joining()),
+				MediaType.APPLICATION_NDJSON_UTF_8);
+		}
+		return retrievedResponse.response();
+	}
+	
+	/**
+	 * Retrieves the requested state and writes it to the response writer, when newline delimited JSON is requested
+	 * each entry is only serialized once the connection is ready to send it so the complete response body is never
+	 * held in memory
+	 */
+	public void retrieve(final HttpRequest request, final ResponseWriter responseWriter)
+	{
+		final RetrievedResponse retrievedResponse = this.retrieveResponse(request);
+		if(retrievedResponse.jsonLines() != null)
+		{
+			responseWriter.writeStreamingResponse(
+				request,
+				retrievedResponse.response(),
+				retrievedResponse.jsonLines());
+		}
+		else
+		{
+			responseWriter.writeResponse(request, retrievedResponse.response(), true);
+		}
+	}
+	
 	@SuppressWarnings({
 		"checkstyle:MethodLength",
 		"checkstyle:MagicNumber",
 		"PMD.CognitiveComplexity",
 		"PMD.PreserveStackTrace"})
-	public HttpResponse retrieve(final HttpRequest request)
+	private RetrievedResponse retrieveResponse(final HttpRequest request)
 	{
 		final String logCorrelationId = UUIDService.getUUID();
-		final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
+		final CompletableFuture<RetrievedResponse> httpResponseFuture = new CompletableFuture<>();
 		final HttpResponse response = response().withStatusCode(OK.code());
 		if(request != null)
 		{
@@ -298,6 +351,9 @@ public class HttpState
 				final RetrieveType type = RetrieveType.valueOf(defaultIfEmpty(
 					request.getFirstQueryStringParameter("type").toUpperCase(),
 					"REQUESTS"));
+				final long sinceSequence = this.longQueryStringParameter(request, SINCE_SEQUENCE_PARAMETER);
+				final int limit =
+					(int)Math.min(Integer.MAX_VALUE, this.longQueryStringParameter(request, LIMIT_PARAMETER));
 				
 				this.logEvent(new EventEntry()
 					.setType(EventEntry.EventType.RETRIEVED)
@@ -314,22 +370,18 @@ public class HttpState
 								format.name().toLowerCase(),
 								requestDefinition);
 						}
-						switch(format)
-						{
-							case JSON:
-								this.eventBus
-									.retrieveRequests(
-										requestDefinition,
-										requests -> {
-											response.withBody(
-												this.getRequestDefinitionSerializer().serialize(true, requests),
-												MediaType.JSON_UTF_8
-											);
-											httpResponseFuture.complete(response);
-										}
-									);
-								break;
-						}
+						this.eventBus
+							.retrieveRequests(
+								requestDefinition,
+								sinceSequence,
+								limit,
+								(requests, lastSequence) -> httpResponseFuture.complete(this.retrievedResponse(
+									format,
+									response.withHeader(SEQUENCE_HEADER, String.valueOf(lastSequence)),
+									requests,
+									entries -> this.getRequestDefinitionSerializer().serialize(true, entries),
+									this.getRequestDefinitionSerializer()::serializeCompact))
+							);
 						break;
 					}
 					case REQUEST_RESPONSES:
@@ -341,23 +393,19 @@ public class HttpState
 								format.name().toLowerCase(),
 								requestDefinition);
 						}
-						switch(format)
-						{
-							case JSON:
-								this.eventBus
-									.retrieveRequestResponses(
-										requestDefinition,
-										httpRequestAndHttpResponses -> {
-											response.withBody(
-												this.getHttpRequestResponseSerializer()
-													.serialize(httpRequestAndHttpResponses),
-												MediaType.JSON_UTF_8
-											);
-											httpResponseFuture.complete(response);
-										}
-									);
-								break;
-						}
+						this.eventBus
+							.retrieveRequestResponses(
+								requestDefinition,
+								sinceSequence,
+								limit,
+								(httpRequestAndHttpResponses, lastSequence) -> httpResponseFuture.complete(
+									this.retrievedResponse(
+										format,
+										response.withHeader(SEQUENCE_HEADER, String.valueOf(lastSequence)),
+										httpRequestAndHttpResponses,
+										this.getHttpRequestResponseSerializer()::serialize,
+										this.getHttpRequestResponseSerializer()::serializeCompact))
+							);
 						break;
 					}
 					case RECORDED_EXPECTATIONS:
@@ -369,37 +417,30 @@ public class HttpState
 								format.name().toLowerCase(),
 								requestDefinition);
 						}
-						switch(format)
-						{
-							case JSON:
-								this.eventBus
-									.retrieveRecordedExpectations(
-										requestDefinition,
-										requests -> {
-											response.withBody(
-												this.getExpectationSerializerThatSerializesBodyDefault()
-													.serialize(requests),
-												MediaType.JSON_UTF_8
-											);
-											httpResponseFuture.complete(response);
-										}
-									);
-								break;
-						}
+						this.eventBus
+							.retrieveRecordedExpectations(
+								requestDefinition,
+								sinceSequence,
+								limit,
+								(requests, lastSequence) -> httpResponseFuture.complete(this.retrievedResponse(
+									format,
+									response.withHeader(SEQUENCE_HEADER, String.valueOf(lastSequence)),
+									requests,
+									this.getExpectationSerializerThatSerializesBodyDefault()::serialize,
+									this.getExpectationSerializerThatSerializesBodyDefault()::serializeCompact))
+							);
 						break;
 					}
 					case ACTIVE_EXPECTATIONS:
 					{
 						final List<Expectation> expectations =
 							this.requestMatchers.retrieveActiveExpectations(requestDefinition);
-						switch(format)
-						{
-							case JSON:
-								response.withBody(
-									this.getExpectationSerializer().serialize(expectations),
-									MediaType.JSON_UTF_8);
-								break;
-						}
+						httpResponseFuture.complete(this.retrievedResponse(
+							format,
+							response,
+							expectations,
+							this.getExpectationSerializer()::serialize,
+							this.getExpectationSerializer()::serializeCompact));
 						if(LOG.isInfoEnabled())
 						{
 							LOG.info(
@@ -408,7 +449,6 @@ public class HttpState
 								format.name().toLowerCase(),
 								requestDefinition);
 						}
-						httpResponseFuture.complete(response);
 						break;
 					}
 				}
@@ -447,10 +487,58 @@ public class HttpState
 		}
 		else
 		{
-			return response().withStatusCode(200);
+			return new RetrievedResponse(response().withStatusCode(200), null);
+		}
+	}
+	
+	private long longQueryStringParameter(final HttpRequest request, final String name)
+	{
+		final String value = request.getFirstQueryStringParameter(name);
+		if(isBlank(value))
+		{
+			return 0;
+		}
+		long parsedValue;
+		try
+		{
+			parsedValue = Long.parseLong(value.trim());
+		}
+		catch(final NumberFormatException nfe)
+		{
+			parsedValue = -1;
 		}
+		if(parsedValue < 0)
+		{
+			throw new IllegalArgumentException("\"" + value + "\" is not a valid value for \"" + name
+				+ "\" parameter, only positive numbers are supported");
+		}
+		return parsedValue;
 	}
 	
+	private <T> RetrievedResponse retrievedResponse(
+		final Format format,
+		final HttpResponse response,
+		final List<T> entries,
+		final Function<List<T>, String> jsonSerializer,
+		final Function<T, String> jsonLineSerializer)
+	{
+		if(format == Format.NDJSON)
+		{
+			// entries are only serialized when the response body is written
+			return new RetrievedResponse(
+				response.withContentType(MediaType.APPLICATION_NDJSON_UTF_8),
+				entries.stream().map(jsonLineSerializer).iterator());
+		}
+		return new RetrievedResponse(
+			response.withBody(jsonSerializer.apply(entries), MediaType.JSON_UTF_8),
+			null);
+	}
+	
+	record RetrievedResponse(HttpResponse response, Iterator<String> jsonLines)
+	{
+	}
+	
+	
 	public void verify(final Verification verification, final Consumer<String> resultConsumer)
 	{
 		if(verification.getExpectationId() != null)
@@ -461,6 +549,19 @@ public class HttpState
 		this.eventBus.verify(verification, resultConsumer);
 	}
 	
+	public void verify(final List<Verification> verifications, final Consumer<List<String>> resultsConsumer)
+	{
+		for(final Verification verification : verifications)
+		{
+			if(verification.getExpectationId() != null)
+			{
+				// check valid expectation id and populate for error message
+				verification.withRequest(this.resolveExpectationId(verification.getExpectationId()));
+			}
+		}
+		this.eventBus.verify(verifications, resultsConsumer);
+	}
+	
 	public void verify(final VerificationSequence verificationSequence, final Consumer<String> resultConsumer)
 	{
 		if(verificationSequence.getExpectationIds() != null && !verificationSequence.getExpectationIds().isEmpty())
@@ -523,13 +624,25 @@ public class HttpState
 			}
 			else if(request.matchesPath(PATH_PREFIX + "/retrieve", "/retrieve"))
 			{
-				responseWriter.writeResponse(request, this.retrieve(request), true);
+				this.retrieve(request, responseWriter);
+				canHandle.complete(true);
+			}
+			else if(request.matchesPath(PATH_PREFIX + "/export", "/export"))
+			{
+				this.submitBlocking(request, responseWriter, () -> this.eventLogArchive.export(request));
+				canHandle.complete(true);
+			}
+			else if(request.matchesPath(PATH_PREFIX + "/import", "/import"))
+			{
+				this.submitBlocking(request, responseWriter, () -> this.eventLogArchive.importArchive(request));
 				canHandle.complete(true);
 			}
 			else if(request.matchesPath(PATH_PREFIX + "/verify", "/verify"))
 			{
+				final Verification verification =
+					this.getVerificationSerializer().deserialize(request.getBodyAsJsonOrXmlString());
 				this.verify(
-					this.getVerificationSerializer().deserialize(request.getBodyAsJsonOrXmlString()),
+					verification,
 					result -> {
 						if(isEmpty(result))
 						{
@@ -545,6 +658,31 @@ public class HttpState
 						}
 						canHandle.complete(true);
 					});
+				if(verification.getTimeoutInMillis() != null)
+				{
+					// the response is written once the verification completes, the request is not waited for
+					canHandle.complete(true);
+				}
+			}
+			else if(request.matchesPath(PATH_PREFIX + "/verifyBulk", "/verifyBulk"))
+			{
+				final Verification[] verifications =
+					this.getVerificationSerializer().deserializeArray(request.getBodyAsJsonOrXmlString());
+				this.verify(
+					Arrays.asList(verifications),
+					results -> {
+						responseWriter.writeResponse(
+							request,
+							response()
+								.withStatusCode(results.stream().allMatch(StringUtils::isEmpty)
+									? ACCEPTED.code()
+									: NOT_ACCEPTABLE.code())
+								.withBody(
+									ObjectMappers.DEFAULT_MAPPER.writeValueAsString(results),
+									MediaType.JSON_UTF_8),
+							true);
+						canHandle.complete(true);
+					});
 			}
 			else if(request.matchesPath(PATH_PREFIX + "/verifySequence", "/verifySequence"))
 			{
@@ -589,6 +727,40 @@ public class HttpState
 	}
 	
 	@SuppressWarnings("rawtypes")
+	/**
+	 * Runs a request that blocks (e.g. on file I/O) on the scheduler's threads instead of the event loop and writes
+	 * its response, an exception is written as a bad request like the request handler does
+	 */
+	private void submitBlocking(
+		final HttpRequest request,
+		final ResponseWriter responseWriter,
+		final Supplier<HttpResponse> blockingRequest)
+	{
+		this.scheduler.submit(() -> {
+			try
+			{
+				responseWriter.writeResponse(request, blockingRequest.get(), true);
+			}
+			catch(final IllegalArgumentException iae)
+			{
+				LOG.error("Exception processing request: {}", request, iae);
+				responseWriter.writeResponse(
+					request,
+					BAD_REQUEST,
+					iae.getMessage(),
+					MediaType.create("text", "plain").toString());
+			}
+			catch(final RuntimeException re)
+			{
+				LOG.error("Exception processing {}", request, re);
+				responseWriter.writeResponse(
+					request,
+					response().withStatusCode(BAD_REQUEST.code()).withBody(re.getMessage()),
+					true);
+			}
+		});
+	}
+	
 	private boolean validateSupportedFeatures(
 		final Expectation expectation,
 		final HttpRequest request,
@@ -632,6 +804,16 @@ public class HttpState
 		return this.eventBus;
 	}
 	
+	public EventLogPolicy getEventLogPolicy()
+	{
+		return this.eventLogPolicy;
+	}
+	
+	public AsynchronousLogger getAsynchronousLogger()
+	{
+		return this.asynchronousLogger;
+	}
+	
 	public void logEvent(final EventEntry entry)
 	{
 		this.getEventBus().add(entry);
@@ -655,6 +837,7 @@ public class HttpState
 	public void stop()
 	{
 		this.eventBus.stop();
+		this.asynchronousLogger.stop();
 	}
 	
 	private ExpectationIdSerializer getExpectationIdSerializer()
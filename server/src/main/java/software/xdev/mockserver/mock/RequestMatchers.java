@@ -105,7 +105,7 @@ public class RequestMatchers
 						this.httpRequestMatchers.addPriorityKey(httpRequestMatcher);
 						if(LOG.isInfoEnabled())
 						{
-							LOG.info(UPDATED_EXPECTATION_MESSAGE_FORMAT, expectation.clone(), expectation.getId());
+							LOG.info(UPDATED_EXPECTATION_MESSAGE_FORMAT, expectation, expectation.getId());
 						}
 					}
 					else
@@ -126,7 +126,7 @@ public class RequestMatchers
 		this.httpRequestMatchers.add(httpRequestMatcher);
 		if(LOG.isInfoEnabled())
 		{
-			LOG.info(CREATED_EXPECTATION_MESSAGE_FORMAT, expectation.clone(), expectation.getId());
+			LOG.info(CREATED_EXPECTATION_MESSAGE_FORMAT, expectation, expectation.getId());
 		}
 		return httpRequestMatcher;
 	}
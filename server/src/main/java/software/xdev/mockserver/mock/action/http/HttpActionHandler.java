@@ -20,7 +20,6 @@ import static io.netty.handler.codec.http.HttpHeaderNames.PROXY_AUTHENTICATE;
 import static io.netty.handler.codec.http.HttpHeaderNames.PROXY_AUTHORIZATION;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.netty.handler.codec.http.HttpResponseStatus.PROXY_AUTHENTICATION_REQUIRED;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static software.xdev.mockserver.exception.ExceptionHandling.connectionClosedException;
 import static software.xdev.mockserver.exception.ExceptionHandling.connectionException;
 import static software.xdev.mockserver.exception.ExceptionHandling.sslHandshakeException;
@@ -56,6 +55,7 @@ import software.xdev.mockserver.httpclient.SocketCommunicationException;
 import software.xdev.mockserver.mock.Expectation;
 import software.xdev.mockserver.mock.HttpState;
 import software.xdev.mockserver.model.Action;
+import software.xdev.mockserver.model.Delay;
 import software.xdev.mockserver.model.HttpClassCallback;
 import software.xdev.mockserver.model.HttpError;
 import software.xdev.mockserver.model.HttpForward;
@@ -63,6 +63,7 @@ import software.xdev.mockserver.model.HttpObjectCallback;
 import software.xdev.mockserver.model.HttpOverrideForwardedRequest;
 import software.xdev.mockserver.model.HttpRequest;
 import software.xdev.mockserver.model.HttpResponse;
+import software.xdev.mockserver.netty.responsewriter.EncodedResponseCache;
 import software.xdev.mockserver.proxyconfiguration.ProxyConfiguration;
 import software.xdev.mockserver.responsewriter.ResponseWriter;
 import software.xdev.mockserver.scheduler.Scheduler;
@@ -78,7 +79,6 @@ public class HttpActionHandler
 	private final ServerConfiguration configuration;
 	private final HttpState httpStateHandler;
 	private final Scheduler scheduler;
-	private HttpResponseActionHandler httpResponseActionHandler;
 	private HttpResponseClassCallbackActionHandler httpResponseClassCallbackActionHandler;
 	private HttpResponseObjectCallbackActionHandler httpResponseObjectCallbackActionHandler;
 	private HttpForwardActionHandler httpForwardActionHandler;
@@ -91,6 +91,8 @@ public class HttpActionHandler
 	private final NettyHttpClient httpClient;
 	private final HopByHopHeaderFilter hopByHopHeaderFilter = new HopByHopHeaderFilter();
 	
+	private final EncodedResponseCache encodedResponseCache;
+	
 	public HttpActionHandler(
 		final ServerConfiguration configuration,
 		final EventLoopGroup eventLoopGroup,
@@ -101,6 +103,12 @@ public class HttpActionHandler
 		this.httpStateHandler = httpStateHandler;
 		this.scheduler = httpStateHandler.getScheduler();
 		this.httpClient = new NettyHttpClient(configuration, eventLoopGroup, proxyConfigurations, true);
+		this.encodedResponseCache = new EncodedResponseCache(configuration);
+	}
+	
+	public EncodedResponseCache getEncodedResponseCache()
+	{
+		return this.encodedResponseCache;
 	}
 	
 	@SuppressWarnings({
@@ -117,17 +125,24 @@ public class HttpActionHandler
 		final boolean proxyingRequest,
 		final boolean synchronous)
 	{
+		// sampled and captured once, so every event of the request records the same request (or none if skipped)
+		final HttpRequest recordedRequest = this.httpStateHandler.getEventLogPolicy().sample()
+			? this.captureRequest(request)
+			: null;
 		if(request.getHeaders() == null
 			|| !request.getHeaders().containsEntry(
 			this.httpStateHandler.getUniqueLoopPreventionHeaderName(),
 			this.httpStateHandler.getUniqueLoopPreventionHeaderValue()))
 		{
-			this.logEvent(new EventEntry()
-				.setType(EventEntry.EventType.RECEIVED_REQUEST)
-				.setCorrelationId(request.getLogCorrelationId())
-				.setHttpRequest(request)
-			);
-			LOG.info(RECEIVED_REQUEST_MESSAGE_FORMAT, request);
+			if(recordedRequest != null)
+			{
+				this.logEvent(new EventEntry()
+					.setType(EventEntry.EventType.RECEIVED_REQUEST)
+					.setCorrelationId(request.getLogCorrelationId())
+					.setHttpRequest(recordedRequest)
+				);
+			}
+			this.logInfo(RECEIVED_REQUEST_MESSAGE_FORMAT, request);
 		}
 		final Expectation expectation = this.httpStateHandler.firstMatchingExpectation(request);
 		final Runnable expectationPostProcessor = () -> this.httpStateHandler.postProcess(expectation);
@@ -144,23 +159,50 @@ public class HttpActionHandler
 			{
 				case RESPONSE:
 				{
-					this.scheduler.schedule(() -> this.handleAnyException(
-						request,
-						responseWriter,
-						synchronous,
-						action,
-						() -> {
-							final HttpResponse response =
-								this.getHttpResponseActionHandler().handle((HttpResponse)action);
-							this.writeResponseActionResponse(response, responseWriter, request, action, synchronous);
-							expectationPostProcessor.run();
-						}), synchronous);
+					// not cloned, the response writer only writes a copy or its cached encoding
+					final HttpResponse response = (HttpResponse)action;
+					if(isDelayed(response.getDelay()))
+					{
+						this.scheduler.schedule(() -> this.handleAnyException(
+							request,
+							recordedRequest,
+							responseWriter,
+							synchronous,
+							action,
+							() -> {
+								this.writeResponseActionResponse(
+									response,
+									responseWriter,
+									request,
+									recordedRequest,
+									action,
+									synchronous,
+									() -> responseWriter.writeActionResponse(request, response));
+								expectationPostProcessor.run();
+							}), synchronous);
+					}
+					else
+					{
+						// nothing to wait for, so written directly on the thread (i.e. event loop) that matched it
+						this.handleAnyException(
+							request,
+							recordedRequest,
+							responseWriter,
+							synchronous,
+							action,
+							() -> {
+								this.logResponseActionResponse(response, request, recordedRequest, action);
+								responseWriter.writeActionResponse(request, response);
+								expectationPostProcessor.run();
+							});
+					}
 					break;
 				}
 				case RESPONSE_CLASS_CALLBACK:
 				{
-					this.scheduler.schedule(() -> this.handleAnyException(
+					this.scheduler.scheduleBlocking(() -> this.handleAnyException(
 						request,
+						recordedRequest,
 						responseWriter,
 						synchronous,
 						action,
@@ -168,18 +210,25 @@ public class HttpActionHandler
 							final HttpResponse response =
 								this.getHttpResponseClassCallbackActionHandler()
 									.handle((HttpClassCallback)action, request);
-							this.writeResponseActionResponse(response, responseWriter, request, action, synchronous);
+							this.writeResponseActionResponse(
+								response,
+								responseWriter,
+								request,
+								recordedRequest,
+								action,
+								synchronous);
 							expectationPostProcessor.run();
 						}), synchronous, action.getDelay());
 					break;
 				}
 				case RESPONSE_OBJECT_CALLBACK:
 				{
-					this.scheduler.schedule(() ->
+					this.scheduler.scheduleBlocking(() ->
 							this.getHttpResponseObjectCallbackActionHandler().handle(
 								HttpActionHandler.this,
 								(HttpObjectCallback)action,
 								request,
+								recordedRequest,
 								responseWriter,
 								synchronous,
 								expectationPostProcessor),
@@ -190,6 +239,7 @@ public class HttpActionHandler
 				{
 					this.scheduler.schedule(() -> this.handleAnyException(
 						request,
+						recordedRequest,
 						responseWriter,
 						synchronous,
 						action,
@@ -200,16 +250,18 @@ public class HttpActionHandler
 								responseFuture,
 								responseWriter,
 								request,
+								recordedRequest,
 								action,
 								synchronous);
 							expectationPostProcessor.run();
-						}), synchronous, action.getDelay());
+						}), synchronous, responseWriter.getExecutor(), action.getDelay());
 					break;
 				}
 				case FORWARD_CLASS_CALLBACK:
 				{
-					this.scheduler.schedule(() -> this.handleAnyException(
+					this.scheduler.scheduleBlocking(() -> this.handleAnyException(
 						request,
+						recordedRequest,
 						responseWriter,
 						synchronous,
 						action,
@@ -221,6 +273,7 @@ public class HttpActionHandler
 								responseFuture,
 								responseWriter,
 								request,
+								recordedRequest,
 								action,
 								synchronous);
 							expectationPostProcessor.run();
@@ -229,11 +282,12 @@ public class HttpActionHandler
 				}
 				case FORWARD_OBJECT_CALLBACK:
 				{
-					this.scheduler.schedule(() ->
+					this.scheduler.scheduleBlocking(() ->
 							this.getHttpForwardObjectCallbackActionHandler().handle(
 								HttpActionHandler.this,
 								(HttpObjectCallback)action,
 								request,
+								recordedRequest,
 								responseWriter,
 								synchronous,
 								expectationPostProcessor),
@@ -244,6 +298,7 @@ public class HttpActionHandler
 				{
 					this.scheduler.schedule(() -> this.handleAnyException(
 						request,
+						recordedRequest,
 						responseWriter,
 						synchronous,
 						action,
@@ -256,35 +311,40 @@ public class HttpActionHandler
 								responseFuture,
 								responseWriter,
 								request,
+								recordedRequest,
 								action,
 								synchronous);
 							expectationPostProcessor.run();
-						}), synchronous, action.getDelay());
+						}), synchronous, responseWriter.getExecutor(), action.getDelay());
 					break;
 				}
 				case ERROR:
 				{
 					this.scheduler.schedule(() -> this.handleAnyException(
 						request,
+						recordedRequest,
 						responseWriter,
 						synchronous,
 						action,
 						() -> {
 							this.getHttpErrorActionHandler().handle((HttpError)action, ctx);
-							this.logEvent(new EventEntry()
-								.setType(EventEntry.EventType.EXPECTATION_RESPONSE)
-								.setCorrelationId(request.getLogCorrelationId())
-								.setHttpRequest(request)
-								.setHttpError((HttpError)action)
-								.setExpectationId(action.getExpectationId()));
-							LOG.info(
+							if(recordedRequest != null)
+							{
+								this.logEvent(new EventEntry()
+									.setType(EventEntry.EventType.EXPECTATION_RESPONSE)
+									.setCorrelationId(request.getLogCorrelationId())
+									.setHttpRequest(recordedRequest)
+									.setHttpError((HttpError)action)
+									.setExpectationId(action.getExpectationId()));
+							}
+							this.logInfo(
 								"Returning error: {} for request: {} for action: {} from expectation: {}",
 								action,
 								request,
 								action,
 								action.getExpectationId());
 							expectationPostProcessor.run();
-						}), synchronous, action.getDelay());
+						}), synchronous, responseWriter.getExecutor(), action.getDelay());
 					break;
 				}
 			}
@@ -315,7 +375,7 @@ public class HttpActionHandler
 							+ "- falling back to no proxy: {}",
 						request);
 				}
-				this.returnNotFound(responseWriter, request, null);
+				this.returnNotFound(responseWriter, request, recordedRequest, null);
 			}
 			else
 			{
@@ -340,7 +400,7 @@ public class HttpActionHandler
 								+ StringEscapeUtils.escapeJava(this.configuration.proxyAuthenticationRealm())
 								+ "\", charset=\"UTF-8\"");
 					responseWriter.writeResponse(request, response, false);
-					LOG.info(
+					this.logInfo(
 						"Proxy authentication failed so returning response: {} for forwarded request: {}",
 						response,
 						request);
@@ -364,8 +424,8 @@ public class HttpActionHandler
 					this.scheduler.submit(responseFuture, () -> {
 							try
 							{
-								HttpResponse response = responseFuture.getHttpResponse()
-									.get(this.configuration.maxFutureTimeoutInMillis(), MILLISECONDS);
+								// already completed, see Scheduler#submit
+								HttpResponse response = responseFuture.getHttpResponse().join();
 								if(response == null)
 								{
 									response = notFoundResponse();
@@ -375,31 +435,37 @@ public class HttpActionHandler
 									this.httpStateHandler.getUniqueLoopPreventionHeaderValue()))
 								{
 									response.removeHeader(this.httpStateHandler.getUniqueLoopPreventionHeaderName());
-									LOG.info(NO_MATCH_RESPONSE_NO_EXPECTATION_MESSAGE_FORMAT, request, response);
-									this.logEvent(new EventEntry()
-										.setType(EventEntry.EventType.NO_MATCH_RESPONSE)
-										.setCorrelationId(request.getLogCorrelationId())
-										.setHttpRequest(request)
-										.setHttpResponse(notFoundResponse()));
+									this.logInfo(NO_MATCH_RESPONSE_NO_EXPECTATION_MESSAGE_FORMAT, request, response);
+									if(recordedRequest != null)
+									{
+										this.logEvent(new EventEntry()
+											.setType(EventEntry.EventType.NO_MATCH_RESPONSE)
+											.setCorrelationId(request.getLogCorrelationId())
+											.setHttpRequest(recordedRequest)
+											.setHttpResponse(notFoundResponse()));
+									}
 								}
 								else
 								{
-									LOG.info(
+									this.logInfo(
 										"Returning response: {} for forwarded request in json: {}",
 										request,
 										response);
-									this.logEvent(new EventEntry()
-										.setType(EventEntry.EventType.FORWARDED_REQUEST)
-										.setCorrelationId(request.getLogCorrelationId())
-										.setHttpRequest(request)
-										.setHttpResponse(response)
-										.setExpectation(request, response));
+									if(recordedRequest != null)
+									{
+										this.logEvent(new EventEntry()
+											.setType(EventEntry.EventType.FORWARDED_REQUEST)
+											.setCorrelationId(request.getLogCorrelationId())
+											.setHttpRequest(recordedRequest)
+											.setHttpResponse(response)
+											.setExpectation(recordedRequest, response));
+									}
 								}
 								responseWriter.writeResponse(request, response, false);
 							}
 							catch(final SocketCommunicationException sce)
 							{
-								this.returnNotFound(responseWriter, request, sce.getMessage());
+								this.returnNotFound(responseWriter, request, recordedRequest, sce.getMessage());
 							}
 							catch(final Exception ex)
 							{
@@ -413,7 +479,7 @@ public class HttpActionHandler
 											request,
 											ex.getCause());
 									}
-									this.returnNotFound(responseWriter, request, null);
+									this.returnNotFound(responseWriter, request, recordedRequest, null);
 								}
 								else if(sslHandshakeException(ex))
 								{
@@ -425,6 +491,7 @@ public class HttpActionHandler
 									this.returnNotFound(
 										responseWriter,
 										request,
+										recordedRequest,
 										"TLS handshake exception while proxying request to remote address"
 											+ remoteAddress);
 								}
@@ -434,11 +501,12 @@ public class HttpActionHandler
 									this.returnNotFound(
 										responseWriter,
 										request,
+										recordedRequest,
 										"connection closed while proxying request to remote address" + remoteAddress);
 								}
 								else
 								{
-									this.returnNotFound(responseWriter, request, ex.getMessage());
+									this.returnNotFound(responseWriter, request, recordedRequest, ex.getMessage());
 								}
 							}
 						},
@@ -452,12 +520,13 @@ public class HttpActionHandler
 		else
 		{
 			
-			this.returnNotFound(responseWriter, request, null);
+			this.returnNotFound(responseWriter, request, recordedRequest, null);
 		}
 	}
 	
 	private void handleAnyException(
 		final HttpRequest request,
+		final HttpRequest recordedRequest,
 		final ResponseWriter responseWriter,
 		final boolean synchronous,
 		final Action action,
@@ -469,7 +538,13 @@ public class HttpActionHandler
 		}
 		catch(final Exception ex)
 		{
-			this.writeResponseActionResponse(notFoundResponse(), responseWriter, request, action, synchronous);
+			this.writeResponseActionResponse(
+				notFoundResponse(),
+				responseWriter,
+				request,
+				recordedRequest,
+				action,
+				synchronous);
 			if(LOG.isInfoEnabled())
 			{
 				LOG.warn("", ex);
@@ -481,21 +556,58 @@ public class HttpActionHandler
 		final HttpResponse response,
 		final ResponseWriter responseWriter,
 		final HttpRequest request,
+		final HttpRequest recordedRequest,
 		final Action action,
 		final boolean synchronous)
+	{
+		this.writeResponseActionResponse(
+			response,
+			responseWriter,
+			request,
+			recordedRequest,
+			action,
+			synchronous,
+			() -> responseWriter.writeResponse(request, response, false));
+	}
+	
+	private void writeResponseActionResponse(
+		final HttpResponse response,
+		final ResponseWriter responseWriter,
+		final HttpRequest request,
+		final HttpRequest recordedRequest,
+		final Action action,
+		final boolean synchronous,
+		final Runnable writeResponse)
 	{
 		this.scheduler.schedule(() -> {
+			this.logResponseActionResponse(response, request, recordedRequest, action);
+			writeResponse.run();
+		}, synchronous, responseWriter.getExecutor(), response.getDelay());
+	}
+	
+	private void logResponseActionResponse(
+		final HttpResponse response,
+		final HttpRequest request,
+		final HttpRequest recordedRequest,
+		final Action action)
+	{
+		if(recordedRequest != null)
+		{
 			this.logEvent(new EventEntry()
 				.setType(EventEntry.EventType.EXPECTATION_RESPONSE)
 				.setCorrelationId(request.getLogCorrelationId())
-				.setHttpRequest(request)
+				.setHttpRequest(recordedRequest)
 				.setHttpResponse(response)
 				.setExpectationId(action.getExpectationId())
 			);
-			LOG.info("Returning response: {} for request: {} for action: {} from expectation: {}",
-				response, request, action, action.getExpectationId());
-			responseWriter.writeResponse(request, response, false);
-		}, synchronous, response.getDelay());
+		}
+		this.logInfo("Returning response: {} for request: {} for action: {} from expectation: {}",
+			response, request, action, action.getExpectationId());
+	}
+	
+	private static boolean isDelayed(final Delay delay)
+	{
+		return delay != null && (delay.getValue() > 0 || delay.getDistribution() != null);
 	}
 	
 	void executeAfterForwardActionResponse(
@@ -510,25 +622,29 @@ public class HttpActionHandler
 		final HttpForwardActionResult responseFuture,
 		final ResponseWriter responseWriter,
 		final HttpRequest request,
+		final HttpRequest recordedRequest,
 		final Action action,
 		final boolean synchronous)
 	{
 		this.scheduler.submit(responseFuture, () -> {
 			try
 			{
-				final HttpResponse response =
-					responseFuture.getHttpResponse().get(this.configuration.maxFutureTimeoutInMillis(), MILLISECONDS);
+				// already completed, see Scheduler#submit
+				final HttpResponse response = responseFuture.getHttpResponse().join();
 				responseWriter.writeResponse(request, response, false);
 				
-				this.logEvent(new EventEntry()
-					.setType(EventEntry.EventType.FORWARDED_REQUEST)
-					.setCorrelationId(request.getLogCorrelationId())
-					.setHttpRequest(request)
-					.setHttpResponse(response)
-					.setExpectation(request, response)
-					.setExpectationId(action.getExpectationId()));
+				if(recordedRequest != null)
+				{
+					this.logEvent(new EventEntry()
+						.setType(EventEntry.EventType.FORWARDED_REQUEST)
+						.setCorrelationId(request.getLogCorrelationId())
+						.setHttpRequest(recordedRequest)
+						.setHttpResponse(response)
+						.setExpectation(recordedRequest, response)
+						.setExpectationId(action.getExpectationId()));
+				}
 				
-				LOG.info(
+				this.logInfo(
 					"Returning response: {} for forwarded request {} for action: {} from expectation: {}",
 					response,
 					responseFuture.getHttpRequest(),
@@ -537,7 +653,7 @@ public class HttpActionHandler
 			}
 			catch(final Exception ex)
 			{
-				this.handleExceptionDuringForwardingRequest(action, request, responseWriter, ex);
+				this.handleExceptionDuringForwardingRequest(action, request, recordedRequest, responseWriter, ex);
 			}
 		}, synchronous, throwable -> true);
 	}
@@ -546,21 +662,25 @@ public class HttpActionHandler
 		final HttpResponse response,
 		final ResponseWriter responseWriter,
 		final HttpRequest request,
+		final HttpRequest recordedRequest,
 		final Action action)
 	{
 		try
 		{
 			responseWriter.writeResponse(request, response, false);
 			
-			this.logEvent(new EventEntry()
-				.setType(EventEntry.EventType.FORWARDED_REQUEST)
-				.setCorrelationId(request.getLogCorrelationId())
-				.setHttpRequest(request)
-				.setHttpResponse(response)
-				.setExpectation(request, response)
-				.setExpectationId(action.getExpectationId()));
+			if(recordedRequest != null)
+			{
+				this.logEvent(new EventEntry()
+					.setType(EventEntry.EventType.FORWARDED_REQUEST)
+					.setCorrelationId(request.getLogCorrelationId())
+					.setHttpRequest(recordedRequest)
+					.setHttpResponse(response)
+					.setExpectation(recordedRequest, response)
+					.setExpectationId(action.getExpectationId()));
+			}
 			
-			LOG.info(
+			this.logInfo(
 				"Returning response: {} for forwarded request in json: {} for action: {} from expectation: {}",
 				response,
 				response,
@@ -576,6 +696,7 @@ public class HttpActionHandler
 	void handleExceptionDuringForwardingRequest(
 		final Action action,
 		final HttpRequest request,
+		final HttpRequest recordedRequest,
 		final ResponseWriter responseWriter,
 		final Throwable exception)
 	{
@@ -588,8 +709,11 @@ public class HttpActionHandler
 					request,
 					action);
 			}
-			this.returnNotFound(responseWriter, request, "failed to connect to remote socket while forwarding "
-				+ "request");
+			this.returnNotFound(
+				responseWriter,
+				request,
+				recordedRequest,
+				"failed to connect to remote socket while forwarding request");
 		}
 		else if(sslHandshakeException(exception))
 		{
@@ -597,16 +721,28 @@ public class HttpActionHandler
 				"TLS handshake exception while forwarding request {} for action {}",
 				request,
 				action);
-			this.returnNotFound(responseWriter, request, "TLS handshake exception while forwarding request");
+			this.returnNotFound(
+				responseWriter,
+				request,
+				recordedRequest,
+				"TLS handshake exception while forwarding request");
 		}
 		else
 		{
 			LOG.error("Failed during request forwarding", exception);
-			this.returnNotFound(responseWriter, request, exception != null ? exception.getMessage() : null);
+			this.returnNotFound(
+				responseWriter,
+				request,
+				recordedRequest,
+				exception != null ? exception.getMessage() : null);
 		}
 	}
 	
-	private void returnNotFound(final ResponseWriter responseWriter, final HttpRequest request, final String error)
+	private void returnNotFound(
+		final ResponseWriter responseWriter,
+		final HttpRequest request,
+		final HttpRequest recordedRequest,
+		final String error)
 	{
 		final HttpResponse response = notFoundResponse();
 		if(request.getHeaders() != null && request.getHeaders()
@@ -624,20 +760,23 @@ public class HttpActionHandler
 		}
 		else
 		{
-			this.logEvent(new EventEntry()
-				.setType(EventEntry.EventType.NO_MATCH_RESPONSE)
-				.setCorrelationId(request.getLogCorrelationId())
-				.setHttpRequest(request)
-				.setHttpResponse(notFoundResponse()));
+			if(recordedRequest != null)
+			{
+				this.logEvent(new EventEntry()
+					.setType(EventEntry.EventType.NO_MATCH_RESPONSE)
+					.setCorrelationId(request.getLogCorrelationId())
+					.setHttpRequest(recordedRequest)
+					.setHttpResponse(notFoundResponse()));
+			}
 			if(LOG.isInfoEnabled())
 			{
 				if(isNotBlank(error))
 				{
-					LOG.info(NO_MATCH_RESPONSE_ERROR_MESSAGE_FORMAT, error, request, notFoundResponse());
+					this.logInfo(NO_MATCH_RESPONSE_ERROR_MESSAGE_FORMAT, error, request, notFoundResponse());
 				}
 				else
 				{
-					LOG.info(NO_MATCH_RESPONSE_NO_EXPECTATION_MESSAGE_FORMAT, request, notFoundResponse());
+					this.logInfo(NO_MATCH_RESPONSE_NO_EXPECTATION_MESSAGE_FORMAT, request, notFoundResponse());
 				}
 			}
 		}
@@ -645,18 +784,24 @@ public class HttpActionHandler
 		responseWriter.writeResponse(request, response, false);
 	}
 	
+	/**
+	 * @return the request as it is recorded by the events of the request, i.e. with the body limited by the event log
+	 * policy
+	 */
+	HttpRequest captureRequest(final HttpRequest request)
+	{
+		return this.httpStateHandler.getEventLogPolicy().captureRequest(request);
+	}
+	
 	private void logEvent(final EventEntry entry)
 	{
 		this.httpStateHandler.logEvent(entry);
 	}
 	
-	private HttpResponseActionHandler getHttpResponseActionHandler()
+	private void logInfo(final String format, final Object... arguments)
 	{
-		if(this.httpResponseActionHandler == null)
-		{
-			this.httpResponseActionHandler = new HttpResponseActionHandler();
-		}
-		return this.httpResponseActionHandler;
+		// rendered (i.e. serialized to JSON) on the logging thread
+		this.httpStateHandler.getAsynchronousLogger().info(LOG, format, arguments);
 	}
 	
 	private HttpResponseClassCallbackActionHandler getHttpResponseClassCallbackActionHandler()
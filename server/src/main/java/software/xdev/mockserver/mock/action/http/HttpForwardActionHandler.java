@@ -31,7 +31,10 @@ public class HttpForwardActionHandler extends HttpForwardAction
 	
 	public HttpForwardActionResult handle(final HttpForward httpForward, final HttpRequest httpRequest)
 	{
-		return this.sendRequest(httpRequest, new InetSocketAddress(httpForward.getHost(), httpForward.getPort()),
+		// resolved without blocking when connecting, see DnsResolverCache
+		return this.sendRequest(
+			httpRequest,
+			InetSocketAddress.createUnresolved(httpForward.getHost(), httpForward.getPort()),
 			null);
 	}
 }
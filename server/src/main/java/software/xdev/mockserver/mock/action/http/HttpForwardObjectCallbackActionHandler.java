@@ -55,6 +55,7 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction
 		final HttpActionHandler actionHandler,
 		final HttpObjectCallback httpObjectCallback,
 		final HttpRequest request,
+		final HttpRequest recordedRequest,
 		final ResponseWriter responseWriter,
 		final boolean synchronous,
 		final Runnable expectationPostProcessor)
@@ -62,7 +63,14 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction
 		final String clientId = httpObjectCallback.getClientId();
 		if(LocalCallbackRegistry.forwardClientExists(clientId))
 		{
-			this.handleLocally(actionHandler, httpObjectCallback, request, responseWriter, synchronous, clientId);
+			this.handleLocally(
+				actionHandler,
+				httpObjectCallback,
+				request,
+				recordedRequest,
+				responseWriter,
+				synchronous,
+				clientId);
 		}
 		else
 		{
@@ -70,6 +78,7 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction
 				actionHandler,
 				httpObjectCallback,
 				request,
+				recordedRequest,
 				responseWriter,
 				synchronous,
 				expectationPostProcessor,
@@ -82,6 +91,7 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction
 		final HttpActionHandler actionHandler,
 		final HttpObjectCallback httpObjectCallback,
 		final HttpRequest request,
+		final HttpRequest recordedRequest,
 		final ResponseWriter responseWriter,
 		final boolean synchronous,
 		final String clientId)
@@ -115,6 +125,7 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction
 								callbackResponse,
 								responseWriter,
 								request,
+								recordedRequest,
 								httpObjectCallback);
 						}
 						catch(final Exception ex2)
@@ -131,6 +142,7 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction
 								this.notFoundFuture(request),
 								responseWriter,
 								request,
+								recordedRequest,
 								httpObjectCallback,
 								synchronous);
 						}
@@ -140,6 +152,7 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction
 						actionHandler.handleExceptionDuringForwardingRequest(
 							httpObjectCallback,
 							request,
+							recordedRequest,
 							responseWriter,
 							exception);
 					}
@@ -151,6 +164,7 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction
 					responseFuture,
 					responseWriter,
 					request,
+					recordedRequest,
 					httpObjectCallback,
 					synchronous);
 			}
@@ -169,6 +183,7 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction
 				this.notFoundFuture(request),
 				responseWriter,
 				request,
+				recordedRequest,
 				httpObjectCallback,
 				synchronous);
 		}
@@ -179,6 +194,7 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction
 		final HttpActionHandler actionHandler,
 		final HttpObjectCallback httpObjectCallback,
 		final HttpRequest request,
+		final HttpRequest recordedRequest,
 		final ResponseWriter responseWriter,
 		final boolean synchronous,
 		final Runnable expectationPostProcessor,
@@ -212,6 +228,10 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction
 					}
 					HttpForwardObjectCallbackActionHandler.this.webSocketClientRegistry
 						.unregisterForwardCallbackHandler(webSocketCorrelationId);
+					// the request forwarded for the client is recorded, if the received request is recorded at all
+					final HttpRequest recordedCallbackRequest = recordedRequest != null
+						? actionHandler.captureRequest(callbackRequest)
+						: null;
 					if(expectationPostProcessor != null && isFalse(httpObjectCallback.getResponseCallback()))
 					{
 						expectationPostProcessor.run();
@@ -220,6 +240,7 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction
 					{
 						HttpForwardObjectCallbackActionHandler.this.handleResponseViaWebSocket(
 							callbackRequest,
+							recordedCallbackRequest,
 							responseFuture,
 							actionHandler,
 							webSocketCorrelationId,
@@ -235,6 +256,7 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction
 							responseFuture,
 							responseWriter,
 							callbackRequest,
+							recordedCallbackRequest,
 							httpObjectCallback,
 							synchronous);
 					}
@@ -256,6 +278,7 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction
 						httpResponse,
 						responseWriter,
 						request,
+						recordedRequest,
 						httpObjectCallback,
 						synchronous);
 				}
@@ -276,6 +299,7 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction
 				this.notFoundFuture(request),
 				responseWriter,
 				request,
+				recordedRequest,
 				httpObjectCallback,
 				synchronous);
 		}
@@ -289,9 +313,10 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction
 		}
 	}
 	
-	@SuppressWarnings("PMD.CognitiveComplexity")
+	@SuppressWarnings({"PMD.CognitiveComplexity", "PMD.ExcessiveParameterList"})
 	private void handleResponseViaWebSocket(
 		final HttpRequest request,
+		final HttpRequest recordedRequest,
 		final HttpForwardActionResult responseFuture,
 		final HttpActionHandler actionHandler,
 		final String webSocketCorrelationId,
@@ -346,6 +371,7 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction
 						this.notFoundFuture(request),
 						responseWriter,
 						request,
+						recordedRequest,
 						httpObjectCallback,
 						synchronous);
 				}
@@ -362,6 +388,7 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction
 					responseFuture.setHttpResponse(httpResponseCompletableFuture),
 					responseWriter,
 					request,
+					recordedRequest,
 					httpObjectCallback,
 					synchronous);
 			}
@@ -370,6 +397,7 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction
 				actionHandler.handleExceptionDuringForwardingRequest(
 					httpObjectCallback,
 					request,
+					recordedRequest,
 					responseWriter,
 					exception);
 			}
@@ -45,6 +45,7 @@ public class HttpResponseObjectCallbackActionHandler
 		final HttpActionHandler actionHandler,
 		final HttpObjectCallback httpObjectCallback,
 		final HttpRequest request,
+		final HttpRequest recordedRequest,
 		final ResponseWriter responseWriter,
 		final boolean synchronous,
 		final Runnable expectationPostProcessor)
@@ -52,7 +53,14 @@ public class HttpResponseObjectCallbackActionHandler
 		final String clientId = httpObjectCallback.getClientId();
 		if(LocalCallbackRegistry.responseClientExists(clientId))
 		{
-			this.handleLocally(actionHandler, httpObjectCallback, request, responseWriter, synchronous, clientId);
+			this.handleLocally(
+				actionHandler,
+				httpObjectCallback,
+				request,
+				recordedRequest,
+				responseWriter,
+				synchronous,
+				clientId);
 		}
 		else
 		{
@@ -60,6 +68,7 @@ public class HttpResponseObjectCallbackActionHandler
 				actionHandler,
 				httpObjectCallback,
 				request,
+				recordedRequest,
 				responseWriter,
 				synchronous,
 				expectationPostProcessor,
@@ -71,6 +80,7 @@ public class HttpResponseObjectCallbackActionHandler
 		final HttpActionHandler actionHandler,
 		final HttpObjectCallback httpObjectCallback,
 		final HttpRequest request,
+		final HttpRequest recordedRequest,
 		final ResponseWriter responseWriter,
 		final boolean synchronous,
 		final String clientId)
@@ -87,6 +97,7 @@ public class HttpResponseObjectCallbackActionHandler
 				callbackResponse,
 				responseWriter,
 				request,
+				recordedRequest,
 				httpObjectCallback,
 				synchronous);
 		}
@@ -101,6 +112,7 @@ public class HttpResponseObjectCallbackActionHandler
 				notFoundResponse(),
 				responseWriter,
 				request,
+				recordedRequest,
 				httpObjectCallback,
 				synchronous);
 		}
@@ -110,6 +122,7 @@ public class HttpResponseObjectCallbackActionHandler
 		final HttpActionHandler actionHandler,
 		final HttpObjectCallback httpObjectCallback,
 		final HttpRequest request,
+		final HttpRequest recordedRequest,
 		final ResponseWriter responseWriter,
 		final boolean synchronous,
 		final Runnable expectationPostProcessor,
@@ -131,6 +144,7 @@ public class HttpResponseObjectCallbackActionHandler
 				response.removeHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME),
 				responseWriter,
 				request,
+				recordedRequest,
 				httpObjectCallback,
 				synchronous);
 		});
@@ -148,6 +162,7 @@ public class HttpResponseObjectCallbackActionHandler
 				notFoundResponse(),
 				responseWriter,
 				request,
+				recordedRequest,
 				httpObjectCallback,
 				synchronous);
 		}
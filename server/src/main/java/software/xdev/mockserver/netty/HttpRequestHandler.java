@@ -123,7 +123,11 @@ public class HttpRequestHandler extends SimpleChannelInboundHandler<HttpRequest>
 	protected void channelRead0(final ChannelHandlerContext ctx, final HttpRequest request)
 	{
 		final ResponseWriter responseWriter =
-			new NettyResponseWriter(this.configuration, ctx, this.httpState.getScheduler());
+			new NettyResponseWriter(
+				this.configuration,
+				ctx,
+				this.httpState.getScheduler(),
+				this.httpActionHandler.getEncodedResponseCache());
 		try
 		{
 			if(!this.httpState.handle(request, responseWriter, false))
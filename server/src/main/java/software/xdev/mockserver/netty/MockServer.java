@@ -33,7 +33,7 @@ import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.WriteBufferWaterMark;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.unix.UnixChannelOption;
 import software.xdev.mockserver.configuration.ServerConfiguration;
 import software.xdev.mockserver.lifecycle.LifeCycle;
 import software.xdev.mockserver.mock.action.http.HttpActionHandler;
@@ -198,7 +198,7 @@ public class MockServer extends LifeCycle
 		this.serverServerBootstrap = new ServerBootstrap()
 			.group(this.bossGroup, this.workerGroup)
 			.option(ChannelOption.SO_BACKLOG, 1024)
-			.channel(NioServerSocketChannel.class)
+			.channel(this.transport.serverSocketChannelClass())
 			.childOption(ChannelOption.AUTO_READ, true)
 			.childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
 			.option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024, 32 * 1024))
@@ -214,6 +214,11 @@ public class MockServer extends LifeCycle
 						proxyConfigurations)))
 			.childAttr(REMOTE_SOCKET, this.remoteSocket)
 			.childAttr(PROXYING, this.remoteSocket != null);
+		if(this.acceptorsPerPort > 1)
+		{
+			// all server sockets of a port must enable SO_REUSEPORT, including the first
+			this.serverServerBootstrap.option(UnixChannelOption.SO_REUSEPORT, true);
+		}
 		
 		try
 		{
@@ -24,6 +24,7 @@ import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import software.xdev.mockserver.codec.MockServerHttpServerCodec;
 import software.xdev.mockserver.configuration.ServerConfiguration;
 import software.xdev.mockserver.lifecycle.LifeCycle;
@@ -51,6 +52,7 @@ public final class HttpConnectHandler extends RelayConnectHandler<HttpRequest>
 		this.removeHandler(pipeline, HttpContentDecompressor.class);
 		this.removeHandler(pipeline, HttpObjectAggregator.class);
 		this.removeHandler(pipeline, MockServerHttpServerCodec.class);
+		this.removeHandler(pipeline, ChunkedWriteHandler.class);
 		if(pipeline.get(this.getClass()) != null)
 		{
 			pipeline.remove(this);
@@ -36,7 +36,6 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.SimpleChannelInboundHandler;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpServerCodec;
@@ -44,6 +43,7 @@ import software.xdev.mockserver.codec.LimitedHttpContentDecompressor;
 import software.xdev.mockserver.configuration.ServerConfiguration;
 import software.xdev.mockserver.lifecycle.LifeCycle;
 import software.xdev.mockserver.logging.LoggingHandler;
+import software.xdev.mockserver.transport.NettyTransport;
 
 
 @ChannelHandler.Sharable
@@ -76,7 +76,7 @@ public abstract class RelayConnectHandler<T> extends SimpleChannelInboundHandler
 	{
 		final Bootstrap bootstrap = new Bootstrap()
 			.group(proxyClientCtx.channel().eventLoop())
-			.channel(NioSocketChannel.class)
+			.channel(NettyTransport.of(proxyClientCtx.channel().eventLoop()).socketChannelClass())
 			.handler(new ChannelInboundHandlerAdapter()
 			{
 				@Override
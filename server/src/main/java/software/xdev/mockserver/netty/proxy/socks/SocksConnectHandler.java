@@ -21,6 +21,7 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import software.xdev.mockserver.codec.MockServerHttpServerCodec;
 import software.xdev.mockserver.configuration.ServerConfiguration;
 import software.xdev.mockserver.lifecycle.LifeCycle;
@@ -47,6 +48,7 @@ public abstract class SocksConnectHandler<T> extends RelayConnectHandler<T>
 		this.removeHandler(pipeline, HttpContentDecompressor.class);
 		this.removeHandler(pipeline, HttpObjectAggregator.class);
 		this.removeHandler(pipeline, MockServerHttpServerCodec.class);
+		this.removeHandler(pipeline, ChunkedWriteHandler.class);
 		if(pipeline.get(this.getClass()) != null)
 		{
 			pipeline.remove(this);
@@ -0,0 +1,141 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.netty.responsewriter;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.CONNECTION;
+import static software.xdev.mockserver.model.Header.header;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpObject;
+import io.netty.handler.codec.http.FullHttpResponse;
+import software.xdev.mockserver.configuration.ServerConfiguration;
+import software.xdev.mockserver.mappers.MockServerHttpResponseToFullHttpResponse;
+import software.xdev.mockserver.model.ConnectionOptions;
+import software.xdev.mockserver.model.HttpRequest;
+import software.xdev.mockserver.model.HttpResponse;
+
+
+/**
+ * Caches the Netty encoding (status, headers and body bytes) of the responses of response actions, so a response
+ * returned for many requests is only mapped and its body only encoded once and every write is a duplicate sharing the
+ * encoded body. Entries are keyed by expectation id and are encoded again once the expectation has been updated, i.e.
+ * the response is no longer the same instance.
+ */
+public class EncodedResponseCache
+{
+	private static final String NO_CONNECTION_HEADER = "";
+	
+	private final ServerConfiguration configuration;
+	private final MockServerHttpResponseToFullHttpResponse mockServerHttpResponseToFullHttpResponse =
+		new MockServerHttpResponseToFullHttpResponse();
+	private final Map<String, EncodedResponse> encodedResponses = new ConcurrentHashMap<>();
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	
+	public EncodedResponseCache(final ServerConfiguration configuration)
+	{
+		this.configuration = configuration;
+	}
+	
+	/**
+	 * Responses are only cached if they are written as a single message without any headers that depend on the
+	 * request (other than the connection header), i.e. they are not chunked, not returned over HTTP2 and CORS headers
+	 * are not added to all responses
+	 */
+	boolean isCacheable(final HttpRequest request, final HttpResponse response)
+	{
+		final ConnectionOptions connectionOptions = response.getConnectionOptions();
+		return response.getExpectationId() != null
+			&& request.getStreamId() == null
+			&& response.getStreamId() == null
+			&& !this.configuration.enableCORSForAllResponses()
+			&& (connectionOptions == null
+			|| connectionOptions.getChunkSize() == null
+			|| connectionOptions.getChunkSize() <= 0);
+	}
+	
+	/**
+	 * @param connectionHeader value of the connection header, null if no connection header is returned
+	 * @return a duplicate of the encoded response that shares the encoded body
+	 */
+	FullHttpResponse encodedResponse(final HttpResponse response, final String connectionHeader)
+	{
+		EncodedResponse encodedResponse = this.encodedResponses.get(response.getExpectationId());
+		if(encodedResponse == null || encodedResponse.response() != response)
+		{
+			if(this.encodedResponses.size() >= this.configuration.maxExpectations())
+			{
+				// entries of removed expectations are only dropped once the cache is full
+				this.encodedResponses.clear();
+			}
+			encodedResponse = new EncodedResponse(response, new ConcurrentHashMap<>());
+			this.encodedResponses.put(response.getExpectationId(), encodedResponse);
+		}
+		final String key = connectionHeader != null ? connectionHeader : NO_CONNECTION_HEADER;
+		FullHttpResponse encoded = encodedResponse.byConnectionHeader().get(key);
+		if(encoded == null)
+		{
+			this.misses.incrementAndGet();
+			encoded = this.encode(response, connectionHeader);
+			encodedResponse.byConnectionHeader().put(key, encoded);
+		}
+		else
+		{
+			this.hits.incrementAndGet();
+		}
+		return encoded.retainedDuplicate();
+	}
+	
+	private FullHttpResponse encode(final HttpResponse response, final String connectionHeader)
+	{
+		final HttpResponse responseWithConnectionHeader = response.clone();
+		if(connectionHeader != null)
+		{
+			responseWithConnectionHeader.replaceHeader(header(CONNECTION.toString(), connectionHeader));
+		}
+		final List<DefaultHttpObject> httpMessages =
+			this.mockServerHttpResponseToFullHttpResponse.mapMockServerResponseToNettyResponse(
+				responseWithConnectionHeader);
+		final FullHttpResponse fullHttpResponse = (FullHttpResponse)httpMessages.get(0);
+		// writes release their duplicate, the cached body is never released and is reclaimed by the garbage collector
+		return fullHttpResponse.replace(Unpooled.unreleasableBuffer(fullHttpResponse.content()));
+	}
+	
+	/**
+	 * @return number of responses written from their cached encoding
+	 */
+	public long getHits()
+	{
+		return this.hits.get();
+	}
+	
+	/**
+	 * @return number of responses that had to be encoded
+	 */
+	public long getMisses()
+	{
+		return this.misses.get();
+	}
+	
+	private record EncodedResponse(HttpResponse response, Map<String, FullHttpResponse> byConnectionHeader)
+	{
+	}
+}
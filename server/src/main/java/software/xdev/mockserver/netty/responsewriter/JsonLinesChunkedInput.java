@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.netty.responsewriter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.stream.ChunkedInput;
+
+
+/**
+ * Lazily encodes newline delimited JSON lines into chunks, lines are only pulled from the iterator (and therefore
+ * only serialized) when the {@link io.netty.handler.stream.ChunkedWriteHandler} requests the next chunk, which only
+ * happens while the channel is writable.
+ */
+public class JsonLinesChunkedInput implements ChunkedInput<ByteBuf>
+{
+	private static final int CHUNK_SIZE = 16 * 1024;
+	private static final byte LINE_FEED = '\n';
+	
+	private final Iterator<String> jsonLines;
+	private long progress;
+	
+	public JsonLinesChunkedInput(final Iterator<String> jsonLines)
+	{
+		this.jsonLines = jsonLines;
+	}
+	
+	@Override
+	public boolean isEndOfInput()
+	{
+		return !this.jsonLines.hasNext();
+	}
+	
+	@Override
+	public void close()
+	{
+		// nothing to release, lines are created on demand
+	}
+	
+	@Deprecated
+	@Override
+	public ByteBuf readChunk(final ChannelHandlerContext ctx)
+	{
+		return this.readChunk(ctx.alloc());
+	}
+	
+	@Override
+	public ByteBuf readChunk(final ByteBufAllocator allocator)
+	{
+		if(this.isEndOfInput())
+		{
+			return null;
+		}
+		final ByteBuf chunk = allocator.buffer(CHUNK_SIZE);
+		try
+		{
+			while(chunk.readableBytes() < CHUNK_SIZE && this.jsonLines.hasNext())
+			{
+				chunk.writeCharSequence(this.jsonLines.next(), StandardCharsets.UTF_8);
+				chunk.writeByte(LINE_FEED);
+			}
+		}
+		catch(final RuntimeException ex)
+		{
+			chunk.release();
+			throw ex;
+		}
+		this.progress += chunk.readableBytes();
+		return chunk;
+	}
+	
+	@Override
+	public long length()
+	{
+		return -1;
+	}
+	
+	@Override
+	public long progress()
+	{
+		return this.progress;
+	}
+}
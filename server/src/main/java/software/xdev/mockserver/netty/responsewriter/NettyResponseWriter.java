@@ -15,13 +15,18 @@
  */
 package software.xdev.mockserver.netty.responsewriter;
 
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpChunkedInput;
 import software.xdev.mockserver.configuration.ServerConfiguration;
+import software.xdev.mockserver.mappers.MockServerHttpResponseToFullHttpResponse;
 import software.xdev.mockserver.model.ConnectionOptions;
 import software.xdev.mockserver.model.Delay;
 import software.xdev.mockserver.model.HttpRequest;
@@ -36,15 +41,50 @@ public class NettyResponseWriter extends ResponseWriter
 	
 	private final ChannelHandlerContext ctx;
 	private final Scheduler scheduler;
+	private final EncodedResponseCache encodedResponseCache;
+	private MockServerHttpResponseToFullHttpResponse mockServerHttpResponseToFullHttpResponse;
 	
 	public NettyResponseWriter(
 		final ServerConfiguration configuration,
 		final ChannelHandlerContext ctx,
-		final Scheduler scheduler)
+		final Scheduler scheduler,
+		final EncodedResponseCache encodedResponseCache)
 	{
 		super(configuration);
 		this.ctx = ctx;
 		this.scheduler = scheduler;
+		this.encodedResponseCache = encodedResponseCache;
+	}
+	
+	/**
+	 * Writes a duplicate of the cached encoding of the response if it can be cached, so the response is neither
+	 * cloned nor mapped and its body is not encoded again
+	 */
+	@Override
+	public void writeActionResponse(final HttpRequest request, final HttpResponse response)
+	{
+		if(this.encodedResponseCache != null && this.encodedResponseCache.isCacheable(request, response))
+		{
+			this.logIfContentLengthIsTooSmall(response);
+			this.closeSocketIfRequired(
+				request,
+				response,
+				this.ctx.writeAndFlush(
+					this.encodedResponseCache.encodedResponse(response, connectionHeader(request, response))));
+		}
+		else
+		{
+			super.writeActionResponse(request, response);
+		}
+	}
+	
+	/**
+	 * @return the event loop of the connection
+	 */
+	@Override
+	public Executor getExecutor()
+	{
+		return this.ctx.executor();
 	}
 	
 	@Override
@@ -53,10 +93,42 @@ public class NettyResponseWriter extends ResponseWriter
 		this.writeAndCloseSocket(this.ctx, request, response);
 	}
 	
+	@Override
+	public void sendStreamingResponse(
+		final HttpRequest request,
+		final HttpResponse response,
+		final Iterator<String> jsonLines)
+	{
+		this.ctx.write(this.getMockServerHttpResponseToFullHttpResponse()
+			.mapMockServerResponseHeadToNettyResponse(response));
+		final ChannelFuture channelFuture = this.ctx.writeAndFlush(
+			new HttpChunkedInput(new JsonLinesChunkedInput(jsonLines)));
+		channelFuture.addListener((ChannelFutureListener)future -> {
+			if(!future.isSuccess())
+			{
+				if(LOG.isWarnEnabled())
+				{
+					LOG.warn("Exception streaming response for request {}", request, future.cause());
+				}
+				// response is incomplete so connection can't be reused
+				future.channel().close();
+			}
+		});
+		this.closeSocketIfRequired(request, response, channelFuture);
+	}
+	
 	private void writeAndCloseSocket(
 		final ChannelHandlerContext ctx,
 		final HttpRequest request,
 		final HttpResponse response)
+	{
+		this.closeSocketIfRequired(request, response, ctx.writeAndFlush(response));
+	}
+	
+	private void closeSocketIfRequired(
+		final HttpRequest request,
+		final HttpResponse response,
+		final ChannelFuture channelFuture)
 	{
 		final boolean closeChannel;
 		
@@ -70,7 +142,6 @@ public class NettyResponseWriter extends ResponseWriter
 			closeChannel = !(request.isKeepAlive() != null && request.isKeepAlive());
 		}
 		
-		final ChannelFuture channelFuture = ctx.writeAndFlush(response);
 		if(closeChannel || this.configuration.alwaysCloseSocketConnections())
 		{
 			channelFuture.addListener((ChannelFutureListener)future -> {
@@ -82,12 +153,25 @@ public class NettyResponseWriter extends ResponseWriter
 				}
 				else
 				{
-					this.scheduler.schedule(() -> this.disconnectAndCloseChannel(future), false, closeSocketDelay);
+					this.scheduler.schedule(
+						() -> this.disconnectAndCloseChannel(future),
+						false,
+						future.channel().eventLoop(),
+						closeSocketDelay);
 				}
 			});
 		}
 	}
 	
+	private MockServerHttpResponseToFullHttpResponse getMockServerHttpResponseToFullHttpResponse()
+	{
+		if(this.mockServerHttpResponseToFullHttpResponse == null)
+		{
+			this.mockServerHttpResponseToFullHttpResponse = new MockServerHttpResponseToFullHttpResponse();
+		}
+		return this.mockServerHttpResponseToFullHttpResponse;
+	}
+	
 	@SuppressWarnings("PMD.CognitiveComplexity")
 	private void disconnectAndCloseChannel(final ChannelFuture future)
 	{
@@ -54,6 +54,7 @@ import io.netty.handler.codec.socksx.v4.Socks4ServerEncoder;
 import io.netty.handler.codec.socksx.v5.Socks5InitialRequestDecoder;
 import io.netty.handler.codec.socksx.v5.Socks5ServerEncoder;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.util.AttributeKey;
 import software.xdev.mockserver.codec.LimitedHttpContentDecompressor;
 import software.xdev.mockserver.codec.MockServerHttpServerCodec;
@@ -283,6 +284,8 @@ public class PortUnificationHandler extends ReplayingDecoder<Void>
 			this.addLastIfNotPresent(
 				pipeline,
 				new MockServerHttpServerCodec(this.configuration, ctx.channel().localAddress()));
+			// streams chunked (i.e. json lines) responses, other writes pass through while no stream is pending
+			this.addLastIfNotPresent(pipeline, new ChunkedWriteHandler());
 			this.addLastIfNotPresent(pipeline, new HttpRequestHandler(this.configuration,
 				this.server, this.httpState, this.actionHandler));
 			pipeline.remove(this);
@@ -310,14 +313,14 @@ public class PortUnificationHandler extends ReplayingDecoder<Void>
 			final int port = hostParts.length > 1 ? Integer.parseInt(hostParts[1]) : 443;
 			enableSslUpstreamAndDownstream(ctx.channel());
 			setProxyingRequest(ctx, Boolean.TRUE);
-			setRemoteAddress(ctx, new InetSocketAddress(hostParts[0], port));
+			setRemoteAddress(ctx, InetSocketAddress.createUnresolved(hostParts[0], port));
 		}
 		else if(message.startsWith(PROXIED))
 		{
 			final String[] hostParts = StringUtils.substringAfter(message, PROXIED).split(":");
 			final int port = hostParts.length > 1 ? Integer.parseInt(hostParts[1]) : 80;
 			setProxyingRequest(ctx, Boolean.TRUE);
-			setRemoteAddress(ctx, new InetSocketAddress(hostParts[0], port));
+			setRemoteAddress(ctx, InetSocketAddress.createUnresolved(hostParts[0], port));
 		}
 		ctx.writeAndFlush(Unpooled.copiedBuffer((PROXIED_RESPONSE + message).getBytes(StandardCharsets.UTF_8)))
 			.awaitUninterruptibly();
@@ -45,6 +45,7 @@ import io.netty.util.ReferenceCountUtil;
 import software.xdev.mockserver.closurecallback.websocketregistry.LocalCallbackRegistry;
 import software.xdev.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry;
 import software.xdev.mockserver.codec.MockServerHttpServerCodec;
+import software.xdev.mockserver.event.EventBus;
 import software.xdev.mockserver.mock.HttpState;
 import software.xdev.mockserver.netty.HttpRequestHandler;
 import software.xdev.mockserver.uuid.UUIDService;
@@ -57,13 +58,19 @@ public class CallbackWebSocketServerHandler extends ChannelInboundHandlerAdapter
 	
 	private static final AttributeKey<Boolean> CHANNEL_UPGRADED_FOR_CALLBACK_WEB_SOCKET =
 		AttributeKey.valueOf("CHANNEL_UPGRADED_FOR_CALLBACK_WEB_SOCKET");
+	private static final AttributeKey<EventSubscriptionWebSocketWriter> EVENT_SUBSCRIPTION_WRITER =
+		AttributeKey.valueOf("EVENT_SUBSCRIPTION_WRITER");
 	private static final String UPGRADE_CHANNEL_FOR_CALLBACK_WEB_SOCKET_URI = "/_mockserver_callback_websocket";
+	private static final String UPGRADE_CHANNEL_FOR_EVENT_SUBSCRIPTION_WEB_SOCKET_URI =
+		"/_mockserver_event_subscription_websocket";
 	private WebSocketServerHandshaker handshaker;
 	private final WebSocketClientRegistry webSocketClientRegistry;
+	private final EventBus eventBus;
 	
 	public CallbackWebSocketServerHandler(final HttpState httpStateHandler)
 	{
 		this.webSocketClientRegistry = httpStateHandler.getWebSocketClientRegistry();
+		this.eventBus = httpStateHandler.getEventBus();
 	}
 	
 	@Override
@@ -73,7 +80,8 @@ public class CallbackWebSocketServerHandler extends ChannelInboundHandlerAdapter
 		try
 		{
 			if(msg instanceof final FullHttpRequest fullHttpRequest
-				&& UPGRADE_CHANNEL_FOR_CALLBACK_WEB_SOCKET_URI.equals(fullHttpRequest.uri()))
+				&& (UPGRADE_CHANNEL_FOR_CALLBACK_WEB_SOCKET_URI.equals(fullHttpRequest.uri())
+				|| UPGRADE_CHANNEL_FOR_EVENT_SUBSCRIPTION_WEB_SOCKET_URI.equals(fullHttpRequest.uri())))
 			{
 				this.upgradeChannel(ctx, fullHttpRequest);
 				ctx.channel().attr(CHANNEL_UPGRADED_FOR_CALLBACK_WEB_SOCKET).set(true);
@@ -105,12 +113,26 @@ public class CallbackWebSocketServerHandler extends ChannelInboundHandlerAdapter
 		ctx.flush();
 	}
 	
+	@Override
+	public void channelWritabilityChanged(final ChannelHandlerContext ctx)
+	{
+		final EventSubscriptionWebSocketWriter eventSubscriptionWriter =
+			ctx.channel().attr(EVENT_SUBSCRIPTION_WRITER).get();
+		if(eventSubscriptionWriter != null && ctx.channel().isWritable())
+		{
+			eventSubscriptionWriter.drain();
+		}
+		ctx.fireChannelWritabilityChanged();
+	}
+	
 	@SuppressWarnings("PMD.CognitiveComplexity")
 	private void upgradeChannel(final ChannelHandlerContext ctx, final FullHttpRequest httpRequest)
 	{
+		final boolean eventSubscription =
+			UPGRADE_CHANNEL_FOR_EVENT_SUBSCRIPTION_WEB_SOCKET_URI.equals(httpRequest.uri());
 		this.handshaker = new WebSocketServerHandshakerFactory(
 			(isSslEnabledUpstream(ctx.channel()) ? "wss" : "ws") + "://" + httpRequest.headers().get("Host")
-				+ UPGRADE_CHANNEL_FOR_CALLBACK_WEB_SOCKET_URI,
+				+ httpRequest.uri(),
 			null,
 			true,
 			Integer.MAX_VALUE
@@ -137,6 +159,11 @@ public class CallbackWebSocketServerHandler extends ChannelInboundHandlerAdapter
 			}
 			else
 			{
+				if(eventSubscription)
+				{
+					ctx.channel().attr(EVENT_SUBSCRIPTION_WRITER)
+						.set(new EventSubscriptionWebSocketWriter(this.eventBus, clientId, ctx.channel()));
+				}
 				this.handshaker
 					.handshake(
 						ctx.channel(),
@@ -157,6 +184,12 @@ public class CallbackWebSocketServerHandler extends ChannelInboundHandlerAdapter
 							{
 								LOG.trace("Unregistering callback for client {}", clientId);
 							}
+							final EventSubscriptionWebSocketWriter eventSubscriptionWriter =
+								ctx.channel().attr(EVENT_SUBSCRIPTION_WRITER).getAndSet(null);
+							if(eventSubscriptionWriter != null)
+							{
+								eventSubscriptionWriter.unsubscribe();
+							}
 							this.webSocketClientRegistry.unregisterClient(clientId);
 						});
 					});
@@ -172,7 +205,16 @@ public class CallbackWebSocketServerHandler extends ChannelInboundHandlerAdapter
 		}
 		else if(frame instanceof final TextWebSocketFrame txtWebSocketFrame)
 		{
-			this.webSocketClientRegistry.receivedTextWebSocketFrame(txtWebSocketFrame);
+			final EventSubscriptionWebSocketWriter eventSubscriptionWriter =
+				ctx.channel().attr(EVENT_SUBSCRIPTION_WRITER).get();
+			if(eventSubscriptionWriter != null)
+			{
+				eventSubscriptionWriter.receivedTextWebSocketFrame(txtWebSocketFrame);
+			}
+			else
+			{
+				this.webSocketClientRegistry.receivedTextWebSocketFrame(txtWebSocketFrame);
+			}
 		}
 		else if(frame instanceof PingWebSocketFrame)
 		{
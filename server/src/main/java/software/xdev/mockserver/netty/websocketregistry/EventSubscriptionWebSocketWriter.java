@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2024 XDEV Software (https://xdev.software)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package software.xdev.mockserver.netty.websocketregistry;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.channel.Channel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import software.xdev.mockserver.closurecallback.websocketclient.WebSocketException;
+import software.xdev.mockserver.event.EventBus;
+import software.xdev.mockserver.event.EventSubscription;
+import software.xdev.mockserver.model.LogEventRequestAndResponse;
+import software.xdev.mockserver.model.RequestDefinition;
+import software.xdev.mockserver.serialization.WebSocketMessageSerializer;
+
+
+/**
+ * Writes the events of a live {@link EventSubscription} to a web socket. Events are only taken from the bounded
+ * subscription buffer while the channel is writable, so a slow subscriber fills (and drops from) its own buffer
+ * instead of growing the outbound buffer of the channel.
+ */
+class EventSubscriptionWebSocketWriter
+{
+	private static final Logger LOG = LoggerFactory.getLogger(EventSubscriptionWebSocketWriter.class);
+	
+	private final EventBus eventBus;
+	private final String subscriptionId;
+	private final Channel channel;
+	private final WebSocketMessageSerializer webSocketMessageSerializer;
+	private final AtomicBoolean drainScheduled = new AtomicBoolean();
+	private final AtomicReference<EventSubscription> subscription = new AtomicReference<>();
+	
+	EventSubscriptionWebSocketWriter(final EventBus eventBus, final String subscriptionId, final Channel channel)
+	{
+		this.eventBus = eventBus;
+		this.subscriptionId = subscriptionId;
+		this.channel = channel;
+		this.webSocketMessageSerializer = new WebSocketMessageSerializer();
+	}
+	
+	/**
+	 * Each text frame received from the subscriber contains the request definition used to filter events, receiving
+	 * a new request definition replaces the previous filter
+	 */
+	void receivedTextWebSocketFrame(final TextWebSocketFrame textWebSocketFrame)
+	{
+		final Object deserializedMessage;
+		try
+		{
+			deserializedMessage = this.webSocketMessageSerializer.deserialize(textWebSocketFrame.text());
+		}
+		catch(final Exception e)
+		{
+			throw new WebSocketException(
+				"Exception while receiving web socket message" + textWebSocketFrame.text(),
+				e);
+		}
+		if(deserializedMessage instanceof final RequestDefinition requestDefinition)
+		{
+			this.subscription.set(
+				this.eventBus.subscribe(this.subscriptionId, requestDefinition, this::scheduleDrain));
+		}
+		else
+		{
+			throw new WebSocketException("Unsupported web socket message " + deserializedMessage);
+		}
+	}
+	
+	void unsubscribe()
+	{
+		this.eventBus.unsubscribe(this.subscriptionId);
+		final EventSubscription current = this.subscription.getAndSet(null);
+		if(current != null && LOG.isInfoEnabled())
+		{
+			LOG.info(
+				"Closed event subscription {} delivered {} events and dropped {} events",
+				this.subscriptionId,
+				current.getDelivered(),
+				current.getDropped());
+		}
+	}
+	
+	private void scheduleDrain()
+	{
+		if(this.drainScheduled.compareAndSet(false, true))
+		{
+			this.channel.eventLoop().execute(this::drain);
+		}
+	}
+	
+	/**
+	 * Writes buffered events until either the buffer is empty or the channel is no longer writable, must be called on
+	 * the event loop of the channel
+	 */
+	void drain()
+	{
+		this.drainScheduled.set(false);
+		final EventSubscription current = this.subscription.get();
+		if(current == null || !this.channel.isActive())
+		{
+			return;
+		}
+		boolean written = false;
+		while(this.channel.isWritable())
+		{
+			final LogEventRequestAndResponse event = current.poll();
+			if(event == null)
+			{
+				break;
+			}
+			this.channel.write(new TextWebSocketFrame(this.webSocketMessageSerializer.serialize(event)));
+			written = true;
+		}
+		if(written)
+		{
+			this.channel.flush();
+		}
+	}
+}
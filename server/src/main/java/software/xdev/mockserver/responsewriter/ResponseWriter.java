@@ -26,6 +26,9 @@ import static software.xdev.mockserver.model.HttpResponse.notFoundResponse;
 import static software.xdev.mockserver.model.HttpResponse.response;
 import static software.xdev.mockserver.util.StringUtils.isNotBlank;
 
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -79,14 +82,54 @@ public abstract class ResponseWriter
 		{
 			response = notFoundResponse();
 		}
-		if(this.configuration.enableCORSForAllResponses())
-		{
-			this.corsHeaders.addCORSHeaders(request, response);
-		}
-		else if(apiResponse && this.configuration.enableCORSForAPI())
-		{
-			this.corsHeaders.addCORSHeaders(request, response);
-		}
+		this.addCORSHeaders(request, response, apiResponse);
+		this.logIfContentLengthIsTooSmall(response);
+		this.addDeprecatedPathHeader(request, response, apiResponse);
+		this.addStreamId(request, response);
+		
+		this.sendResponse(request, this.addConnectionHeader(request, response));
+	}
+	
+	/**
+	 * Writes the response of a response action, the response is shared by all requests matching the expectation so it
+	 * is cloned before the headers for the request are added
+	 */
+	public void writeActionResponse(final HttpRequest request, final HttpResponse response)
+	{
+		this.writeResponse(request, response.clone(), false);
+	}
+	
+	/**
+	 * Writes the status and headers of an API response followed by a chunked body of newline delimited JSON, the
+	 * lines are only consumed from the iterator while the connection is able to accept more data
+	 */
+	public void writeStreamingResponse(
+		final HttpRequest request,
+		final HttpResponse response,
+		final Iterator<String> jsonLines)
+	{
+		this.addCORSHeaders(request, response, true);
+		this.addDeprecatedPathHeader(request, response, true);
+		this.addStreamId(request, response);
+		
+		this.sendStreamingResponse(request, this.addConnectionHeader(request, response), jsonLines);
+	}
+	
+	/**
+	 * @return executor of the connection the response is written to, delayed responses are written by it, null if
+	 * delayed responses are written by the scheduler's threads
+	 */
+	public Executor getExecutor()
+	{
+		return null;
+	}
+	
+	public abstract void sendResponse(HttpRequest request, HttpResponse response);
+	
+	public abstract void sendStreamingResponse(HttpRequest request, HttpResponse response, Iterator<String> jsonLines);
+	
+	protected void logIfContentLengthIsTooSmall(final HttpResponse response)
+	{
 		final String contentLengthHeader = response.getFirstHeader(CONTENT_LENGTH.toString());
 		if(isNotBlank(contentLengthHeader))
 		{
@@ -108,6 +151,25 @@ public abstract class ResponseWriter
 				// ignore exception while parsing invalid content-length header
 			}
 		}
+	}
+	
+	private void addCORSHeaders(final HttpRequest request, final HttpResponse response, final boolean apiResponse)
+	{
+		if(this.configuration.enableCORSForAllResponses())
+		{
+			this.corsHeaders.addCORSHeaders(request, response);
+		}
+		else if(apiResponse && this.configuration.enableCORSForAPI())
+		{
+			this.corsHeaders.addCORSHeaders(request, response);
+		}
+	}
+	
+	private void addDeprecatedPathHeader(
+		final HttpRequest request,
+		final HttpResponse response,
+		final boolean apiResponse)
+	{
 		if(apiResponse)
 		{
 			final String path = request.getPath().getValue();
@@ -118,51 +180,45 @@ public abstract class ResponseWriter
 					"\"" + path + "\" is deprecated use \"" + PATH_PREFIX + path + "\" instead");
 			}
 		}
-		
+	}
+	
+	private void addStreamId(final HttpRequest request, final HttpResponse response)
+	{
 		// send response down the request HTTP2 stream
 		if(request.getStreamId() != null)
 		{
 			response.withStreamId(request.getStreamId());
 		}
-		
-		this.sendResponse(request, this.addConnectionHeader(request, response));
 	}
 	
-	public abstract void sendResponse(HttpRequest request, HttpResponse response);
-	
 	protected HttpResponse addConnectionHeader(final HttpRequest request, final HttpResponse response)
 	{
-		final ConnectionOptions connectionOptions = response.getConnectionOptions();
-		
 		final HttpResponse responseWithConnectionHeader = response.clone();
-		
-		if(connectionOptions != null && (connectionOptions.getSuppressConnectionHeader() != null
-			|| connectionOptions.getKeepAliveOverride() != null))
+		final String connectionHeader = connectionHeader(request, response);
+		if(connectionHeader != null)
 		{
-			if(!Boolean.TRUE.equals(connectionOptions.getSuppressConnectionHeader()))
-			{
-				if(Boolean.TRUE.equals(connectionOptions.getKeepAliveOverride()))
-				{
-					responseWithConnectionHeader.replaceHeader(header(CONNECTION.toString(), KEEP_ALIVE.toString()));
-				}
-				else
-				{
-					responseWithConnectionHeader.replaceHeader(header(CONNECTION.toString(), CLOSE.toString()));
-				}
-			}
+			responseWithConnectionHeader.replaceHeader(header(CONNECTION.toString(), connectionHeader));
 		}
-		else
+		return responseWithConnectionHeader;
+	}
+	
+	/**
+	 * @return value of the connection header returned for the request, null if the connection header is suppressed
+	 */
+	protected static String connectionHeader(final HttpRequest request, final HttpResponse response)
+	{
+		final ConnectionOptions connectionOptions = response.getConnectionOptions();
+		if(connectionOptions != null && (connectionOptions.getSuppressConnectionHeader() != null
+			|| connectionOptions.getKeepAliveOverride() != null))
 		{
-			if(Boolean.TRUE.equals(request.isKeepAlive()))
+			if(Boolean.TRUE.equals(connectionOptions.getSuppressConnectionHeader()))
 			{
-				responseWithConnectionHeader.replaceHeader(header(CONNECTION.toString(), KEEP_ALIVE.toString()));
-			}
-			else
-			{
-				responseWithConnectionHeader.replaceHeader(header(CONNECTION.toString(), CLOSE.toString()));
+				return null;
 			}
+			return Boolean.TRUE.equals(connectionOptions.getKeepAliveOverride())
+				? KEEP_ALIVE.toString()
+				: CLOSE.toString();
 		}
-		
-		return responseWithConnectionHeader;
+		return Boolean.TRUE.equals(request.isKeepAlive()) ? KEEP_ALIVE.toString() : CLOSE.toString();
 	}
 }
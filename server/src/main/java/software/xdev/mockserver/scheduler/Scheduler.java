@@ -21,6 +21,9 @@ import static software.xdev.mockserver.mock.HttpState.setPort;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -31,6 +34,7 @@ import java.util.function.Predicate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.netty.util.HashedWheelTimer;
 import software.xdev.mockserver.configuration.ServerConfiguration;
 import software.xdev.mockserver.httpclient.SocketCommunicationException;
 import software.xdev.mockserver.mock.action.http.HttpForwardActionResult;
@@ -39,11 +43,15 @@ import software.xdev.mockserver.model.Delay;
 import software.xdev.mockserver.model.HttpResponse;
 
 
+@SuppressWarnings("PMD.GodClass")
 public class Scheduler
 {
 	private static final Logger LOG = LoggerFactory.getLogger(Scheduler.class);
 	private final ServerConfiguration configuration;
 	private final ScheduledExecutorService scheduler;
+	private final HashedWheelTimer delayTimer;
+	private final ExecutorService virtualThreadExecutor;
+	private final Executor actionExecutor;
 	
 	private final boolean synchronous;
 	
@@ -63,18 +71,56 @@ public class Scheduler
 				new SchedulerThreadFactory("Scheduler"),
 				new ThreadPoolExecutor.CallerRunsPolicy()
 			);
+			// delays are only timed by the timer's thread, the delayed command is run by an executor
+			this.delayTimer = new HashedWheelTimer(new SchedulerThreadFactory("DelayTimer"), 1, MILLISECONDS);
+			this.virtualThreadExecutor = Boolean.TRUE.equals(configuration.actionHandlerVirtualThreads())
+				? newVirtualThreadPerTaskExecutor()
+				: null;
+			this.actionExecutor = this.virtualThreadExecutor != null ? this.virtualThreadExecutor : this.scheduler;
 		}
 		else
 		{
 			this.scheduler = null;
+			this.delayTimer = null;
+			this.virtualThreadExecutor = null;
+			this.actionExecutor = null;
 		}
 	}
 	
+	/**
+	 * Virtual threads are only available from Java 21 but MockServer is built for Java 17, so the executor is created
+	 * reflectively and null is returned if the runtime doesn't support them
+	 */
+	private static ExecutorService newVirtualThreadPerTaskExecutor()
+	{
+		try
+		{
+			return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		}
+		catch(final ReflectiveOperationException | RuntimeException ex)
+		{
+			LOG.warn(
+				"Virtual threads are not supported by this Java runtime ({}), using action handler thread pool instead",
+				ex.toString());
+			return null;
+		}
+	}
+	
+	public boolean isVirtualThreads()
+	{
+		return this.virtualThreadExecutor != null;
+	}
+	
 	@SuppressWarnings("checkstyle:MagicNumber")
 	public synchronized void shutdown()
 	{
 		if(!this.scheduler.isShutdown())
 		{
+			this.delayTimer.stop();
+			if(this.virtualThreadExecutor != null)
+			{
+				this.virtualThreadExecutor.shutdown();
+			}
 			this.scheduler.shutdown();
 			try
 			{
@@ -104,6 +150,21 @@ public class Scheduler
 	}
 	
 	public void schedule(final Runnable command, final boolean synchronous, final Delay... delays)
+	{
+		this.schedule(command, synchronous, null, delays);
+	}
+	
+	/**
+	 * Runs the command after the delays, unless synchronous the delay is timed by a timer so no thread waits for it
+	 * and the command is then run by the executor (i.e. the event loop of the connection the command writes to) or,
+	 * if there is no executor, by the scheduler's threads. Only commands that don't block may be given the event loop
+	 * as executor. Without a delay the command is run by the calling thread.
+	 */
+	public void schedule(
+		final Runnable command,
+		final boolean synchronous,
+		final Executor executor,
+		final Delay... delays)
 	{
 		final Delay delay = this.addDelays(delays);
 		final Integer port = getPort();
@@ -117,9 +178,20 @@ public class Scheduler
 		}
 		else
 		{
-			if(delay != null)
+			// distributions are sampled once per scheduled command, so each response gets its own delay
+			final long delayValue = delay != null && delay.getTimeUnit() != null ? delay.sampleValue() : 0;
+			final Executor delayedExecutor = executor != null ? executor : this.actionExecutor;
+			if(delayValue > 0)
+			{
+				this.delayTimer.newTimeout(
+					timeout -> delayedExecutor.execute(() -> this.run(command, port)),
+					delayValue,
+					delay.getTimeUnit());
+			}
+			else if(delay != null)
 			{
-				this.scheduler.schedule(() -> this.run(command, port), delay.getValue(), delay.getTimeUnit());
+				// a delay (even if it is 0) always hands the command over, as without timer
+				delayedExecutor.execute(() -> this.run(command, port));
 			}
 			else
 			{
@@ -128,6 +200,29 @@ public class Scheduler
 		}
 	}
 	
+	/**
+	 * Schedules a command that may block (i.e. a class callback), unless synchronous it is never run by the calling
+	 * thread (i.e. an event loop) but after the delays by the scheduler's threads or in virtual thread mode on its own
+	 * virtual thread
+	 */
+	public void scheduleBlocking(final Runnable command, final boolean synchronous, final Delay... delays)
+	{
+		if(!this.synchronous && !synchronous)
+		{
+			final Integer port = getPort();
+			// the timer thread (or the calling thread if not delayed) only hands the command over
+			this.schedule(
+				() -> this.actionExecutor.execute(() -> this.run(command, port)),
+				false,
+				Runnable::run,
+				delays);
+		}
+		else
+		{
+			this.schedule(command, synchronous, delays);
+		}
+	}
+	
 	@SuppressWarnings("PMD.CognitiveComplexity")
 	private Delay addDelays(final Delay... delays)
 	{
@@ -150,7 +245,7 @@ public class Scheduler
 			{
 				if(delay != null)
 				{
-					timeInMilliseconds += delay.getTimeUnit().toMillis(delay.getValue());
+					timeInMilliseconds += delay.getTimeUnit().toMillis(delay.sampleValue());
 				}
 			}
 			return new Delay(MILLISECONDS, timeInMilliseconds);
@@ -171,7 +266,7 @@ public class Scheduler
 		}
 		else
 		{
-			this.scheduler.submit(() -> this.run(command, port));
+			this.actionExecutor.execute(() -> this.run(command, port));
 		}
 	}
 	
@@ -210,13 +305,14 @@ public class Scheduler
 			}
 			else
 			{
-				future.getHttpResponse().whenCompleteAsync((httpResponse, throwable) -> {
+				// run by the thread completing the response (i.e. the event loop) so no thread waits for it
+				future.getHttpResponse().whenComplete((httpResponse, throwable) -> {
 					if(throwable != null && LOG.isInfoEnabled() && logException.test(throwable))
 					{
 						LOG.warn("", throwable);
 					}
 					this.run(command, port);
-				}, this.scheduler);
+				});
 			}
 		}
 	}
@@ -249,7 +345,7 @@ public class Scheduler
 			}
 			else
 			{
-				future.whenCompleteAsync((httpResponse, throwable) -> command.run(), this.scheduler);
+				future.whenCompleteAsync((httpResponse, throwable) -> command.run(), this.actionExecutor);
 			}
 		}
 	}
@@ -298,7 +394,7 @@ public class Scheduler
 			}
 			else
 			{
-				future.getHttpResponse().whenCompleteAsync(consumer, this.scheduler);
+				future.getHttpResponse().whenCompleteAsync(consumer, this.actionExecutor);
 			}
 		}
 	}